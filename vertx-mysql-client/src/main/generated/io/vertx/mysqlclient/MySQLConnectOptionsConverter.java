@@ -24,6 +24,11 @@ public class MySQLConnectOptionsConverter {
             obj.setCollation((String)member.getValue());
           }
           break;
+        case "pipelinedBatch":
+          if (member.getValue() instanceof Boolean) {
+            obj.setPipelinedBatch((Boolean)member.getValue());
+          }
+          break;
         case "serverRsaPublicKeyPath":
           if (member.getValue() instanceof String) {
             obj.setServerRsaPublicKeyPath((String)member.getValue());
@@ -44,6 +49,11 @@ public class MySQLConnectOptionsConverter {
             obj.setUseAffectedRows((Boolean)member.getValue());
           }
           break;
+        case "useCompression":
+          if (member.getValue() instanceof Boolean) {
+            obj.setUseCompression((Boolean)member.getValue());
+          }
+          break;
       }
     }
   }
@@ -59,6 +69,7 @@ public class MySQLConnectOptionsConverter {
     if (obj.getCollation() != null) {
       json.put("collation", obj.getCollation());
     }
+    json.put("pipelinedBatch", obj.isPipelinedBatch());
     if (obj.getServerRsaPublicKeyPath() != null) {
       json.put("serverRsaPublicKeyPath", obj.getServerRsaPublicKeyPath());
     }
@@ -69,5 +80,6 @@ public class MySQLConnectOptionsConverter {
       json.put("sslMode", obj.getSslMode().name());
     }
     json.put("useAffectedRows", obj.isUseAffectedRows());
+    json.put("useCompression", obj.isUseCompression());
   }
 }
@@ -2,6 +2,7 @@ package examples;
 
 import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.streams.ReadStream;
 import io.vertx.core.net.PemTrustOptions;
 import io.vertx.docgen.Source;
 import io.vertx.mysqlclient.*;
@@ -331,6 +332,16 @@ public class MySQLClientExamples {
     });
   }
 
+  public void loadDataLocalInfileExample(MySQLConnection connection, ReadStream<Buffer> csv) {
+    connection.loadDataLocalInfile("LOAD DATA LOCAL INFILE 'pets.csv' INTO TABLE pet FIELDS TERMINATED BY ','", csv, ar -> {
+      if (ar.succeeded()) {
+        System.out.println("Loaded " + ar.result() + " rows");
+      } else {
+        System.out.println("Failure: " + ar.cause().getMessage());
+      }
+    });
+  }
+
   public void rsaPublicKeyExample() {
 
     MySQLConnectOptions options1 = new MySQLConnectOptions()
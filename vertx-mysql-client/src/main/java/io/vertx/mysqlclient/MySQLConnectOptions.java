@@ -37,6 +37,8 @@ public class MySQLConnectOptions extends SqlConnectOptions {
   public static final String DEFAULT_SCHEMA = "";
   public static final String DEFAULT_CHARSET = "utf8mb4";
   public static final boolean DEFAULT_USE_AFFECTED_ROWS = false;
+  public static final boolean DEFAULT_USE_COMPRESSION = false;
+  public static final boolean DEFAULT_PIPELINED_BATCH = false;
   public static final Map<String, String> DEFAULT_CONNECTION_ATTRIBUTES;
   public static final SslMode DEFAULT_SSL_MODE = SslMode.DISABLED;
 
@@ -49,6 +51,8 @@ public class MySQLConnectOptions extends SqlConnectOptions {
   private String collation;
   private String charset;
   private Boolean useAffectedRows;
+  private boolean useCompression;
+  private boolean pipelinedBatch;
   private SslMode sslMode;
   private String serverRsaPublicKeyPath;
   private Buffer serverRsaPublicKeyValue;
@@ -58,6 +62,8 @@ public class MySQLConnectOptions extends SqlConnectOptions {
     this.charset = DEFAULT_CHARSET;
     this.sslMode = DEFAULT_SSL_MODE;
     this.useAffectedRows = DEFAULT_USE_AFFECTED_ROWS;
+    this.useCompression = DEFAULT_USE_COMPRESSION;
+    this.pipelinedBatch = DEFAULT_PIPELINED_BATCH;
   }
 
   public MySQLConnectOptions(JsonObject json) {
@@ -65,6 +71,8 @@ public class MySQLConnectOptions extends SqlConnectOptions {
     this.charset = DEFAULT_CHARSET;
     this.sslMode = DEFAULT_SSL_MODE;
     this.useAffectedRows = DEFAULT_USE_AFFECTED_ROWS;
+    this.useCompression = DEFAULT_USE_COMPRESSION;
+    this.pipelinedBatch = DEFAULT_PIPELINED_BATCH;
     MySQLConnectOptionsConverter.fromJson(json, this);
   }
 
@@ -73,6 +81,8 @@ public class MySQLConnectOptions extends SqlConnectOptions {
     this.collation = other.collation;
     this.charset = other.charset;
     this.useAffectedRows = other.useAffectedRows;
+    this.useCompression = other.useCompression;
+    this.pipelinedBatch = other.pipelinedBatch;
     this.sslMode = other.sslMode;
     this.serverRsaPublicKeyPath = other.serverRsaPublicKeyPath;
     this.serverRsaPublicKeyValue = other.serverRsaPublicKeyValue != null ? other.serverRsaPublicKeyValue.copy() : null;
@@ -147,6 +157,54 @@ public class MySQLConnectOptions extends SqlConnectOptions {
     return this;
   }
 
+  /**
+   * Get whether the protocol compression is used.
+   *
+   * @return whether the protocol compression is used
+   */
+  public boolean isUseCompression() {
+    return useCompression;
+  }
+
+  /**
+   * Set whether the packets exchanged with the server are compressed with zlib, the compression is used only when the server supports it.
+   *
+   * It trades CPU for bandwidth and is worth enabling when the network is the bottleneck, e.g with large text result sets
+   * over a slow link.
+   *
+   * @param useCompression whether the protocol compression is used
+   * @return a reference to this, so the API can be used fluently
+   */
+  public MySQLConnectOptions setUseCompression(boolean useCompression) {
+    this.useCompression = useCompression;
+    return this;
+  }
+
+  /**
+   * Get whether the executions of a batch are pipelined.
+   *
+   * @return whether the executions of a batch are pipelined
+   */
+  public boolean isPipelinedBatch() {
+    return pipelinedBatch;
+  }
+
+  /**
+   * Set whether the executions of a batch are pipelined, when enabled up to 256 executions are sent to the server
+   * without waiting for the response of the previous ones, saving a round trip per batch element.
+   *
+   * This changes the failure semantic of a batch: when an execution fails, the executions already sent after it are still
+   * executed by the server and are committed when the connection is in auto-commit mode. When disabled the batch stops
+   * at the first failing execution.
+   *
+   * @param pipelinedBatch whether the executions of a batch are pipelined
+   * @return a reference to this, so the API can be used fluently
+   */
+  public MySQLConnectOptions setPipelinedBatch(boolean pipelinedBatch) {
+    this.pipelinedBatch = pipelinedBatch;
+    return this;
+  }
+
   /**
    * Get the value of the configured SSL mode.
    *
@@ -247,6 +305,11 @@ public class MySQLConnectOptions extends SqlConnectOptions {
     return (MySQLConnectOptions) super.setCachePreparedStatements(cachePreparedStatements);
   }
 
+  @Override
+  public MySQLConnectOptions setLazyRowDecoding(boolean lazyRowDecoding) {
+    return (MySQLConnectOptions) super.setLazyRowDecoding(lazyRowDecoding);
+  }
+
   @Override
   public MySQLConnectOptions setPreparedStatementCacheMaxSize(int preparedStatementCacheMaxSize) {
     return (MySQLConnectOptions) super.setPreparedStatementCacheMaxSize(preparedStatementCacheMaxSize);
@@ -6,6 +6,8 @@ import io.vertx.codegen.annotations.VertxGen;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.streams.ReadStream;
 import io.vertx.mysqlclient.impl.MySQLConnectionImpl;
 import io.vertx.sqlclient.PreparedQuery;
 import io.vertx.sqlclient.Row;
@@ -137,4 +139,19 @@ public interface MySQLConnection extends SqlConnection {
    */
   @Fluent
   MySQLConnection changeUser(MySQLAuthOptions options, Handler<AsyncResult<Void>> handler);
+
+  /**
+   * Execute a {@code LOAD DATA LOCAL INFILE} statement, the LOCAL INFILE Request of the server is answered with the content of the {@code data} stream
+   * instead of the file named by the statement, so the client does not access the file system.
+   * <p/>
+   * The stream is paused when the connection cannot write fast enough. The protocol cannot abort the transfer, so a stream failure
+   * ends it and the handler is failed with the stream failure, the rows sent before may have been loaded.
+   *
+   * @param sql the {@code LOAD DATA LOCAL INFILE} statement
+   * @param data the content to load
+   * @param handler the handler notified with the number of affected rows
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  MySQLConnection loadDataLocalInfile(String sql, ReadStream<Buffer> data, Handler<AsyncResult<Integer>> handler);
 }
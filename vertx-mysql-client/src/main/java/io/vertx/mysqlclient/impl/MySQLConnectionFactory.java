@@ -10,6 +10,8 @@ import io.vertx.core.net.TrustOptions;
 import io.vertx.mysqlclient.MySQLConnectOptions;
 import io.vertx.mysqlclient.SslMode;
 import io.vertx.sqlclient.impl.Connection;
+import io.vertx.sqlclient.impl.PoolFlushStats;
+import io.vertx.sqlclient.impl.PoolStatementCache;
 
 import java.util.Collections;
 import java.util.Map;
@@ -26,14 +28,23 @@ public class MySQLConnectionFactory {
   private final Map<String, String> connectionAttributes;
   private final String collation;
   private final boolean useAffectedRows;
+  private final boolean useCompression;
   private final SslMode sslMode;
   private final Buffer serverRsaPublicKey;
   private final boolean cachePreparedStatements;
+  private final boolean lazyRowDecoding;
+  private final boolean pipelinedBatch;
   private final int preparedStatementCacheSize;
   private final int preparedStatementCacheSqlLimit;
+  private final PoolStatementCache poolStatementCache;
+  private final PoolFlushStats flushStats;
   private final Closeable hook;
 
   public MySQLConnectionFactory(Context context, boolean registerCloseHook, MySQLConnectOptions options) {
+    this(context, registerCloseHook, options, null, null);
+  }
+
+  public MySQLConnectionFactory(Context context, boolean registerCloseHook, MySQLConnectOptions options, PoolStatementCache poolStatementCache, PoolFlushStats flushStats) {
     NetClientOptions netClientOptions = new NetClientOptions(options);
 
     this.context = context;
@@ -59,6 +70,7 @@ public class MySQLConnectionFactory {
     }
     this.collation = collation;
     this.useAffectedRows = options.isUseAffectedRows();
+    this.useCompression = options.isUseCompression();
     this.sslMode = options.getSslMode();
 
     // server RSA public key
@@ -90,6 +102,10 @@ public class MySQLConnectionFactory {
     this.cachePreparedStatements = options.getCachePreparedStatements();
     this.preparedStatementCacheSize = options.getPreparedStatementCacheMaxSize();
     this.preparedStatementCacheSqlLimit = options.getPreparedStatementCacheSqlLimit();
+    this.poolStatementCache = poolStatementCache;
+    this.flushStats = flushStats;
+    this.lazyRowDecoding = options.getLazyRowDecoding();
+    this.pipelinedBatch = options.isPipelinedBatch();
 
     this.netClient = context.owner().createNetClient(netClientOptions);
   }
@@ -108,13 +124,20 @@ public class MySQLConnectionFactory {
   }
 
   public void connect(Handler<AsyncResult<Connection>> handler) {
+    connect(context, handler);
+  }
+
+  /**
+   * Connect and authenticate a connection bound to the {@code context}, this must be called on the {@code context}.
+   */
+  public void connect(Context context, Handler<AsyncResult<Connection>> handler) {
     Promise<NetSocket> promise = Promise.promise();
     promise.future().setHandler(ar1 -> {
       if (ar1.succeeded()) {
         NetSocketInternal socket = (NetSocketInternal) ar1.result();
-        MySQLSocketConnection conn = new MySQLSocketConnection(socket, cachePreparedStatements, preparedStatementCacheSize, preparedStatementCacheSqlLimit, context);
+        MySQLSocketConnection conn = new MySQLSocketConnection(socket, cachePreparedStatements, preparedStatementCacheSize, preparedStatementCacheSqlLimit, lazyRowDecoding, pipelinedBatch, poolStatementCache, flushStats, context);
         conn.init();
-        conn.sendStartupMessage(username, password, database, collation, useAffectedRows, serverRsaPublicKey, connectionAttributes, sslMode, handler);
+        conn.sendStartupMessage(username, password, database, collation, useAffectedRows, useCompression, serverRsaPublicKey, connectionAttributes, sslMode, handler);
       } else {
         handler.handle(Future.failedFuture(ar1.cause()));
       }
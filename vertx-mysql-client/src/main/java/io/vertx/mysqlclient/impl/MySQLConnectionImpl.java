@@ -6,6 +6,7 @@ import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.streams.ReadStream;
 import io.vertx.mysqlclient.MySQLAuthOptions;
 import io.vertx.mysqlclient.MySQLConnectOptions;
 import io.vertx.mysqlclient.MySQLConnection;
@@ -13,6 +14,7 @@ import io.vertx.mysqlclient.MySQLSetOption;
 import io.vertx.mysqlclient.impl.command.ChangeUserCommand;
 import io.vertx.mysqlclient.impl.command.DebugCommand;
 import io.vertx.mysqlclient.impl.command.InitDbCommand;
+import io.vertx.mysqlclient.impl.command.LoadDataLocalInfileCommand;
 import io.vertx.mysqlclient.impl.command.PingCommand;
 import io.vertx.mysqlclient.impl.command.ResetConnectionCommand;
 import io.vertx.mysqlclient.impl.command.SetOptionCommand;
@@ -134,4 +136,12 @@ public class MySQLConnectionImpl extends SqlConnectionImpl<MySQLConnectionImpl>
     schedule(cmd);
     return this;
   }
+
+  @Override
+  public MySQLConnection loadDataLocalInfile(String sql, ReadStream<Buffer> data, Handler<AsyncResult<Integer>> handler) {
+    LoadDataLocalInfileCommand cmd = new LoadDataLocalInfileCommand(sql, data);
+    cmd.handler = handler;
+    schedule(cmd);
+    return this;
+  }
 }
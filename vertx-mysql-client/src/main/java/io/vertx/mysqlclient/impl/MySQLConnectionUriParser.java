@@ -158,6 +158,9 @@ public class MySQLConnectionUriParser {
           case "useaffectedrows":
             configuration.put("useAffectedRows", Boolean.parseBoolean(value));
             break;
+          case "usecompression":
+            configuration.put("useCompression", Boolean.parseBoolean(value));
+            break;
           //TODO Additional Connection Parameters
           default:
             configuration.put(key, value);
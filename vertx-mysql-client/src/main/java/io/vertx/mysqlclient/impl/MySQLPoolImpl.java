@@ -17,12 +17,13 @@ public class MySQLPoolImpl extends PoolBase<MySQLPoolImpl> implements MySQLPool
 
   public MySQLPoolImpl(Context context, boolean closeVertx, MySQLConnectOptions connectOptions, PoolOptions poolOptions) {
     super(context, closeVertx, poolOptions);
-    this.factory = new MySQLConnectionFactory(context, Vertx.currentContext() != null, connectOptions);
+    this.factory = new MySQLConnectionFactory(context, Vertx.currentContext() != null, connectOptions, statementCache(), poolFlushStats());
+    init();
   }
 
   @Override
-  public void connect(Handler<AsyncResult<Connection>> completionHandler) {
-    factory.connect(completionHandler);
+  public void connect(Context context, Handler<AsyncResult<Connection>> completionHandler) {
+    factory.connect(context, completionHandler);
   }
 
   @Override
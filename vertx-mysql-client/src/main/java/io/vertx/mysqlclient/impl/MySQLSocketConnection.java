@@ -26,6 +26,8 @@ import io.vertx.mysqlclient.SslMode;
 import io.vertx.mysqlclient.impl.codec.MySQLCodec;
 import io.vertx.mysqlclient.impl.command.InitialHandshakeCommand;
 import io.vertx.sqlclient.impl.Connection;
+import io.vertx.sqlclient.impl.PoolFlushStats;
+import io.vertx.sqlclient.impl.PoolStatementCache;
 import io.vertx.sqlclient.impl.SocketConnectionBase;
 import io.vertx.sqlclient.impl.command.CommandResponse;
 
@@ -36,14 +38,22 @@ import java.util.Map;
  */
 public class MySQLSocketConnection extends SocketConnectionBase {
 
+  private final boolean lazyRowDecoding;
+  private final boolean pipelinedBatch;
   private MySQLCodec codec;
 
   public MySQLSocketConnection(NetSocketInternal socket,
                                boolean cachePreparedStatements,
                                int preparedStatementCacheSize,
                                int preparedStatementCacheSqlLimit,
+                               boolean lazyRowDecoding,
+                               boolean pipelinedBatch,
+                               PoolStatementCache poolStatementCache,
+                               PoolFlushStats flushStats,
                                Context context) {
-    super(socket, cachePreparedStatements, preparedStatementCacheSize, preparedStatementCacheSqlLimit, 1, context);
+    super(socket, cachePreparedStatements, preparedStatementCacheSize, preparedStatementCacheSqlLimit, 1, poolStatementCache, flushStats, context);
+    this.lazyRowDecoding = lazyRowDecoding;
+    this.pipelinedBatch = pipelinedBatch;
   }
 
   void sendStartupMessage(String username,
@@ -51,18 +61,19 @@ public class MySQLSocketConnection extends SocketConnectionBase {
                           String database,
                           String collation,
                           boolean useAffectedRows,
+                          boolean useCompression,
                           Buffer serverRsaPublicKey,
                           Map<String, String> properties,
                           SslMode sslMode,
                           Handler<? super CommandResponse<Connection>> completionHandler) {
-    InitialHandshakeCommand cmd = new InitialHandshakeCommand(this, username, password, database, collation, useAffectedRows, serverRsaPublicKey, properties, sslMode);
+    InitialHandshakeCommand cmd = new InitialHandshakeCommand(this, username, password, database, collation, useAffectedRows, useCompression, serverRsaPublicKey, properties, sslMode);
     cmd.handler = completionHandler;
     schedule(cmd);
   }
 
   @Override
   public void init() {
-    codec = new MySQLCodec(this);
+    codec = new MySQLCodec(this, lazyRowDecoding, pipelinedBatch);
     ChannelPipeline pipeline = socket.channelHandlerContext().pipeline();
     pipeline.addBefore("handler", "codec", codec);
     super.init();
@@ -1,5 +1,9 @@
 package io.vertx.mysqlclient.impl.codec;
 
+import io.vertx.mysqlclient.impl.MySQLCollation;
+
+import java.nio.charset.Charset;
+
 final class ColumnDefinition {
   /*
     https://dev.mysql.com/doc/dev/mysql-server/latest/page_protocol_com_query_response_text_resultset_column_definition.html
@@ -15,6 +19,7 @@ final class ColumnDefinition {
   private final DataType type;
   private final int flags;
   private final byte decimals;
+  private Charset charset;
 
   ColumnDefinition(String catalog,
                    String schema,
@@ -68,6 +73,16 @@ final class ColumnDefinition {
     return characterSet;
   }
 
+  /**
+   * @return the Java charset of the column, it is resolved on the first call
+   */
+  Charset charset() {
+    if (charset == null) {
+      charset = Charset.forName(MySQLCollation.valueOfId(characterSet).mappedJavaCharsetName());
+    }
+    return charset;
+  }
+
   long columnLength() {
     return columnLength;
   }
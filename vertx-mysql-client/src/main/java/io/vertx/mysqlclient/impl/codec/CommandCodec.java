@@ -44,6 +44,9 @@ abstract class CommandCodec<R, C extends CommandBase<R>> {
 
   abstract void decodePayload(ByteBuf payload, int payloadLength);
 
+  void handleWritabilityChanged(boolean writable) {
+  }
+
   void encode(MySQLEncoder encoder) {
     this.encoder = encoder;
   }
@@ -119,6 +122,10 @@ abstract class CommandCodec<R, C extends CommandBase<R>> {
   }
 
   void handleErrorPacketPayload(ByteBuf payload) {
+    completionHandler.handle(CommandResponse.failure(decodeErrorPacketPayload(payload), TxStatus.FAILED));
+  }
+
+  MySQLException decodeErrorPacketPayload(ByteBuf payload) {
     payload.skipBytes(1); // skip ERR packet header
     int errorCode = payload.readUnsignedShortLE();
     String sqlState = null;
@@ -127,7 +134,7 @@ abstract class CommandCodec<R, C extends CommandBase<R>> {
       sqlState = BufferUtils.readFixedLengthString(payload, 5, StandardCharsets.UTF_8);
     }
     String errorMessage = readRestOfPacketString(payload, StandardCharsets.UTF_8);
-    completionHandler.handle(CommandResponse.failure(new MySQLException(errorMessage, errorCode, sqlState), TxStatus.FAILED));
+    return new MySQLException(errorMessage, errorCode, sqlState);
   }
 
   OkPacket decodeOkPacketPayload(ByteBuf payload, Charset charset) {
@@ -0,0 +1,245 @@
+package io.vertx.mysqlclient.impl.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
+import io.netty.util.ReferenceCountUtil;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Frames the MySQL packets in compressed packets once {@code CLIENT_COMPRESS} has been negotiated, it sits before the
+ * {@link MySQLCodec} in the pipeline.
+ * <p>
+ * A compressed packet has a 7 bytes header: the length of the compressed payload, the compressed sequence id and the length
+ * of the payload before compression, or {@code 0} when the payload is not compressed. The compressed payload can contain
+ * several MySQL packets or a part of a MySQL packet.
+ * <p>
+ * The outbound packets are buffered until the channel is flushed and then sent in as few compressed packets as possible,
+ * a command always starts a new compressed packet since the server resets the compressed sequence id for each command.
+ */
+class CompressedPacketCodec extends ChannelDuplexHandler {
+
+  private static final int HEADER_LENGTH = 7;
+  // payloads shorter than this are not worth compressing
+  private static final int MIN_COMPRESS_LENGTH = 50;
+  private static final int MAX_PAYLOAD_LENGTH = Packets.PACKET_PAYLOAD_LENGTH_LIMIT;
+
+  private final Deflater deflater = new Deflater();
+  private final Inflater inflater = new Inflater();
+  private final List<ChannelPromise> promises = new ArrayList<>();
+  private CompositeByteBuf pending;
+  private ByteBuf cumulation;
+  private int sequenceId;
+  // bytes of the current outbound MySQL packet not yet framed
+  private int packetRemaining;
+  private byte[] deflated = new byte[1024];
+
+  @Override
+  public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception {
+    if (!(msg instanceof ByteBuf)) {
+      ctx.fireChannelRead(msg);
+      return;
+    }
+    ByteBuf in = (ByteBuf) msg;
+    if (cumulation == null) {
+      cumulation = in;
+    } else {
+      CompositeByteBuf composite;
+      if (cumulation instanceof CompositeByteBuf) {
+        composite = (CompositeByteBuf) cumulation;
+      } else {
+        composite = ctx.alloc().compositeBuffer(Integer.MAX_VALUE);
+        composite.addComponent(true, cumulation);
+        cumulation = composite;
+      }
+      composite.addComponent(true, in);
+    }
+    try {
+      while (cumulation.readableBytes() >= HEADER_LENGTH) {
+        int idx = cumulation.readerIndex();
+        int compressedLength = cumulation.getUnsignedMediumLE(idx);
+        if (cumulation.readableBytes() < HEADER_LENGTH + compressedLength) {
+          break;
+        }
+        sequenceId = cumulation.getUnsignedByte(idx + 3) + 1;
+        int uncompressedLength = cumulation.getUnsignedMediumLE(idx + 4);
+        cumulation.skipBytes(HEADER_LENGTH);
+        ByteBuf payload;
+        if (uncompressedLength == 0) {
+          payload = cumulation.readRetainedSlice(compressedLength);
+        } else {
+          payload = inflate(ctx, cumulation, compressedLength, uncompressedLength);
+        }
+        ctx.fireChannelRead(payload);
+      }
+    } finally {
+      if (cumulation != null && !cumulation.isReadable()) {
+        cumulation.release();
+        cumulation = null;
+      }
+    }
+  }
+
+  private ByteBuf inflate(ChannelHandlerContext ctx, ByteBuf in, int compressedLength, int uncompressedLength) throws DataFormatException {
+    byte[] input = ByteBufUtil.getBytes(in, in.readerIndex(), compressedLength, false);
+    in.skipBytes(compressedLength);
+    ByteBuf out = ctx.alloc().heapBuffer(uncompressedLength);
+    try {
+      inflater.reset();
+      inflater.setInput(input);
+      int len = 0;
+      while (len < uncompressedLength && !inflater.finished()) {
+        int n = inflater.inflate(out.array(), out.arrayOffset() + len, uncompressedLength - len);
+        if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+          break;
+        }
+        len += n;
+      }
+      if (len != uncompressedLength) {
+        throw new DataFormatException("Invalid compressed packet, expected " + uncompressedLength + " bytes instead of " + len);
+      }
+      out.writerIndex(len);
+      return out;
+    } catch (DataFormatException e) {
+      out.release();
+      throw e;
+    }
+  }
+
+  @Override
+  public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) throws Exception {
+    if (!(msg instanceof ByteBuf)) {
+      ctx.write(msg, promise);
+      return;
+    }
+    if (pending == null) {
+      pending = ctx.alloc().compositeBuffer(Integer.MAX_VALUE);
+    }
+    pending.addComponent(true, (ByteBuf) msg);
+    if (!promise.isVoid()) {
+      promises.add(promise);
+    }
+  }
+
+  @Override
+  public void flush(ChannelHandlerContext ctx) throws Exception {
+    CompositeByteBuf data = pending;
+    if (data != null) {
+      pending = null;
+      ChannelFuture last = null;
+      try {
+        int frameStart = data.readerIndex();
+        int pos = frameStart;
+        int end = data.writerIndex();
+        while (pos < end) {
+          if (packetRemaining == 0) {
+            // header of a MySQL packet, a packet with a 0 sequence id starts a new command
+            if (data.getUnsignedByte(pos + 3) == 0) {
+              if (pos > frameStart) {
+                last = writeFrame(ctx, data, frameStart, pos);
+                frameStart = pos;
+              }
+              sequenceId = 0;
+            }
+            packetRemaining = 4 + data.getUnsignedMediumLE(pos);
+          }
+          int n = Math.min(packetRemaining, end - pos);
+          pos += n;
+          packetRemaining -= n;
+        }
+        if (pos > frameStart) {
+          last = writeFrame(ctx, data, frameStart, pos);
+        }
+      } finally {
+        data.release();
+      }
+      notifyPromises(last);
+    }
+    ctx.flush();
+  }
+
+  private ChannelFuture writeFrame(ChannelHandlerContext ctx, ByteBuf data, int from, int to) {
+    ChannelFuture future = null;
+    while (from < to) {
+      int len = Math.min(MAX_PAYLOAD_LENGTH, to - from);
+      future = ctx.write(encodeFrame(ctx, data, from, len));
+      from += len;
+    }
+    return future;
+  }
+
+  private ByteBuf encodeFrame(ChannelHandlerContext ctx, ByteBuf data, int from, int len) {
+    if (len >= MIN_COMPRESS_LENGTH) {
+      byte[] input = ByteBufUtil.getBytes(data, from, len, false);
+      deflater.reset();
+      deflater.setInput(input);
+      deflater.finish();
+      int compressedLength = 0;
+      while (!deflater.finished()) {
+        if (compressedLength == deflated.length) {
+          byte[] tmp = new byte[deflated.length * 2];
+          System.arraycopy(deflated, 0, tmp, 0, compressedLength);
+          deflated = tmp;
+        }
+        compressedLength += deflater.deflate(deflated, compressedLength, deflated.length - compressedLength);
+      }
+      if (compressedLength < len) {
+        ByteBuf frame = ctx.alloc().ioBuffer(HEADER_LENGTH + compressedLength);
+        frame.writeMediumLE(compressedLength);
+        frame.writeByte(sequenceId++);
+        frame.writeMediumLE(len);
+        frame.writeBytes(deflated, 0, compressedLength);
+        return frame;
+      }
+    }
+    // sent as is
+    ByteBuf frame = ctx.alloc().ioBuffer(HEADER_LENGTH + len);
+    frame.writeMediumLE(len);
+    frame.writeByte(sequenceId++);
+    frame.writeMediumLE(0);
+    frame.writeBytes(data, from, len);
+    return frame;
+  }
+
+  private void notifyPromises(ChannelFuture last) {
+    if (promises.isEmpty()) {
+      return;
+    }
+    ChannelPromise[] toNotify = promises.toArray(new ChannelPromise[0]);
+    promises.clear();
+    if (last == null) {
+      for (ChannelPromise promise : toNotify) {
+        promise.trySuccess();
+      }
+    } else {
+      last.addListener(future -> {
+        for (ChannelPromise promise : toNotify) {
+          if (future.isSuccess()) {
+            promise.trySuccess();
+          } else {
+            promise.tryFailure(future.cause());
+          }
+        }
+      });
+    }
+  }
+
+  @Override
+  public void handlerRemoved(ChannelHandlerContext ctx) {
+    ReferenceCountUtil.safeRelease(pending);
+    ReferenceCountUtil.safeRelease(cumulation);
+    pending = null;
+    cumulation = null;
+    deflater.end();
+    inflater.end();
+  }
+}
@@ -419,35 +419,35 @@ class DataTypeCodec {
   }
 
   private static Byte textDecodeInt1(Charset charset, ByteBuf buffer, int index, int length) {
-    return Byte.parseByte(buffer.toString(index, length, charset));
+    return Byte.parseByte(BufferUtils.decodeString(buffer, index, length, charset));
   }
 
   private static Short textDecodeInt2(Charset charset, ByteBuf buffer, int index, int length) {
-    return Short.parseShort(buffer.toString(index, length, charset));
+    return Short.parseShort(BufferUtils.decodeString(buffer, index, length, charset));
   }
 
   private static Integer textDecodeInt3(Charset charset, ByteBuf buffer, int index, int length) {
-    return Integer.parseInt(buffer.toString(index, length, charset));
+    return Integer.parseInt(BufferUtils.decodeString(buffer, index, length, charset));
   }
 
   private static Integer textDecodeInt4(Charset charset, ByteBuf buffer, int index, int length) {
-    return Integer.parseInt(buffer.toString(index, length, charset));
+    return Integer.parseInt(BufferUtils.decodeString(buffer, index, length, charset));
   }
 
   private static Long textDecodeInt8(Charset charset, ByteBuf buffer, int index, int length) {
-    return Long.parseLong(buffer.toString(index, length, charset));
+    return Long.parseLong(BufferUtils.decodeString(buffer, index, length, charset));
   }
 
   private static Float textDecodeFloat(Charset charset, ByteBuf buffer, int index, int length) {
-    return Float.parseFloat(buffer.toString(index, length, charset));
+    return Float.parseFloat(BufferUtils.decodeString(buffer, index, length, charset));
   }
 
   private static Double textDecodeDouble(Charset charset, ByteBuf buffer, int index, int length) {
-    return Double.parseDouble(buffer.toString(index, length, charset));
+    return Double.parseDouble(BufferUtils.decodeString(buffer, index, length, charset));
   }
 
   private static Number textDecodeNUMERIC(Charset charset, ByteBuf buff, int index, int length) {
-    return Numeric.parse(buff.toString(index, length, charset));
+    return Numeric.parse(BufferUtils.decodeString(buff, index, length, charset));
   }
 
   private static Object textDecodeBlobOrText(Charset charset, int columnDefinitionFlags,
@@ -466,17 +466,17 @@ class DataTypeCodec {
   }
 
   private static String textDecodeText(Charset charset, ByteBuf buffer, int index, int length) {
-    return buffer.toString(index, length, charset);
+    return BufferUtils.decodeString(buffer, index, length, charset);
   }
 
   private static LocalDate textDecodeDate(Charset charset, ByteBuf buffer, int index, int length) {
-    CharSequence cs = buffer.toString(index, length, charset);
+    CharSequence cs = BufferUtils.decodeString(buffer, index, length, charset);
     return LocalDate.parse(cs);
   }
 
   private static Duration textDecodeTime(Charset charset, ByteBuf buffer, int index, int length) {
     // HH:mm:ss or HHH:mm:ss
-    String timeString = buffer.toString(index, length, charset);
+    String timeString = BufferUtils.decodeString(buffer, index, length, charset);
     boolean isNegative = timeString.charAt(0) == '-';
     if (isNegative) {
       timeString = timeString.substring(1);
@@ -503,7 +503,7 @@ class DataTypeCodec {
   }
 
   private static LocalDateTime textDecodeDateTime(Charset charset, ByteBuf buffer, int index, int length) {
-    CharSequence cs = buffer.toString(charset);
+    CharSequence cs = BufferUtils.decodeString(buffer, index, length, charset);
     if (cs.equals("0000-00-00 00:00:00")) {
       // Invalid datetime will be converted to zero
       return null;
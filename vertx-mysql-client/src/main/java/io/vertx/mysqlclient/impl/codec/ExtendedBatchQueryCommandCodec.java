@@ -2,6 +2,7 @@ package io.vertx.mysqlclient.impl.codec;
 
 import io.netty.buffer.ByteBuf;
 import io.vertx.sqlclient.Tuple;
+import io.vertx.sqlclient.impl.TxStatus;
 import io.vertx.sqlclient.impl.command.CommandResponse;
 import io.vertx.sqlclient.impl.command.ExtendedBatchQueryCommand;
 
@@ -9,10 +10,22 @@ import java.util.List;
 
 import static io.vertx.mysqlclient.impl.codec.Packets.*;
 
+/**
+ * Executes the batch with COM_STMT_EXECUTE commands, when the batch pipelining is enabled up to {@link #PIPELINING_LIMIT}
+ * executions are sent without waiting for their responses which are decoded in order, otherwise each execution is sent
+ * after the response of the previous one.
+ * <p>
+ * When an execution fails no more execution is sent, the responses of the executions already sent are still decoded
+ * and the command fails with the first failure.
+ */
 class ExtendedBatchQueryCommandCodec<R> extends ExtendedQueryCommandBaseCodec<R, ExtendedBatchQueryCommand<R>> {
 
+  static final int PIPELINING_LIMIT = 256;
+
   private List<Tuple> params;
   private int batchIdx = 0;
+  private int responseIdx = 0;
+  private int pipeliningLimit;
 
   ExtendedBatchQueryCommandCodec(ExtendedBatchQueryCommand<R> cmd) {
     super(cmd);
@@ -22,6 +35,7 @@ class ExtendedBatchQueryCommandCodec<R> extends ExtendedQueryCommandBaseCodec<R,
   @Override
   void encode(MySQLEncoder encoder) {
     super.encode(encoder);
+    pipeliningLimit = encoder.pipelinedBatch ? PIPELINING_LIMIT : 1;
     if (params.isEmpty() && statement.paramDesc.paramDefinitions().length > 0) {
       completionHandler.handle(CommandResponse.failure("Statement parameter is not set because of the empty batch param list"));
       return;
@@ -31,21 +45,55 @@ class ExtendedBatchQueryCommandCodec<R> extends ExtendedQueryCommandBaseCodec<R,
 
   @Override
   protected void handleSingleResultsetDecodingCompleted(int serverStatusFlags, int affectedRows, int lastInsertId) {
+    if (super.isDecodingCompleted(serverStatusFlags)) {
+      // last result of an execution
+      responseIdx++;
+    }
     super.handleSingleResultsetDecodingCompleted(serverStatusFlags, affectedRows, lastInsertId);
-    doExecuteBatch();
+    if (batchIdx - responseIdx <= pipeliningLimit / 2) {
+      doExecuteBatch();
+    }
+  }
+
+  @Override
+  void handleErrorPacketPayload(ByteBuf payload) {
+    Throwable err = decodeErrorPacketPayload(payload);
+    if (failure == null) {
+      failure = err;
+    }
+    responseIdx++;
+    resetIntermediaryResult();
+    if (responseIdx == batchIdx) {
+      completionHandler.handle(CommandResponse.failure(failure, TxStatus.FAILED));
+    }
   }
 
   @Override
   protected boolean isDecodingCompleted(int serverStatusFlags) {
-    return super.isDecodingCompleted(serverStatusFlags) && batchIdx == params.size();
+    return super.isDecodingCompleted(serverStatusFlags) && responseIdx == (failure != null ? batchIdx : params.size());
   }
 
   private void doExecuteBatch() {
-    if (batchIdx < params.size()) {
+    ByteBuf packets = null;
+    while (failure == null && batchIdx < params.size() && batchIdx - responseIdx < pipeliningLimit) {
+      if (packets == null) {
+        packets = allocateBuffer();
+      }
       this.sequenceId = 0;
-      Tuple param = params.get(batchIdx);
-      sendStatementExecuteCommand(statement.statementId, statement.paramDesc.paramDefinitions(), sendType, param, (byte) 0x00);
-      batchIdx++;
+      Tuple param = params.get(batchIdx++);
+      int packetStartIdx = packets.writerIndex();
+      int payloadLength = encodeStatementExecuteCommand(packets, statement.statementId, statement.paramDesc.paramDefinitions(), sendType, param, (byte) 0x00);
+      if (payloadLength >= PACKET_PAYLOAD_LENGTH_LIMIT) {
+        // write the packets encoded before and send this one split
+        if (packetStartIdx > packets.readerIndex()) {
+          encoder.chctx.write(packets.readRetainedSlice(packetStartIdx - packets.readerIndex()));
+        }
+        sendPacket(packets, payloadLength);
+        packets = null;
+      }
+    }
+    if (packets != null) {
+      encoder.chctx.writeAndFlush(packets);
     }
   }
 }
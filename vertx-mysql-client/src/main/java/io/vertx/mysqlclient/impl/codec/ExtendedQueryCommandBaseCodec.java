@@ -42,6 +42,14 @@ abstract class ExtendedQueryCommandBaseCodec<R, C extends ExtendedQueryCommandBa
 
   protected void sendStatementExecuteCommand(long statementId, ColumnDefinition[] paramsColumnDefinitions, byte sendType, Tuple params, byte cursorType) {
     ByteBuf packet = allocateBuffer();
+    int payloadLength = encodeStatementExecuteCommand(packet, statementId, paramsColumnDefinitions, sendType, params, cursorType);
+    sendPacket(packet, payloadLength);
+  }
+
+  /**
+   * Encode a COM_STMT_EXECUTE packet at the end of the buffer and return its payload length.
+   */
+  protected int encodeStatementExecuteCommand(ByteBuf packet, long statementId, ColumnDefinition[] paramsColumnDefinitions, byte sendType, Tuple params, byte cursorType) {
     // encode packet header
     int packetStartIdx = packet.writerIndex();
     packet.writeMediumLE(0); // will set payload length later by calculation
@@ -88,8 +96,7 @@ abstract class ExtendedQueryCommandBaseCodec<R, C extends ExtendedQueryCommandBa
     // set payload length
     int payloadLength = packet.writerIndex() - packetStartIdx - 4;
     packet.setMediumLE(packetStartIdx, payloadLength);
-
-    sendPacket(packet, payloadLength);
+    return payloadLength;
   }
 
   private DataType parseDataTypeByEncodingValue(Object value) {
@@ -19,14 +19,26 @@ package io.vertx.mysqlclient.impl.codec;
 import io.netty.buffer.ByteBuf;
 import io.vertx.sqlclient.impl.command.ExtendedQueryCommand;
 
+import java.nio.charset.StandardCharsets;
+
 import static io.vertx.mysqlclient.impl.codec.Packets.*;
 
 class ExtendedQueryCommandCodec<R> extends ExtendedQueryCommandBaseCodec<R, ExtendedQueryCommand<R>> {
+
+  // whether the command fetches rows from an open cursor, i.e the response is made of rows
+  private boolean fetching;
+
   ExtendedQueryCommandCodec(ExtendedQueryCommand<R> cmd) {
     super(cmd);
-    if (cmd.fetch() > 0 && statement.isCursorOpen) {
-      // restore the state we need for decoding fetch response
-      columnDefinitions = statement.rowDesc.columnDefinitions();
+    if (statement.isCursorOpen) {
+      if (cmd.fetch() > 0 && cmd.isSuspended()) {
+        fetching = true;
+        // restore the state we need for decoding fetch response
+        columnDefinitions = statement.rowDesc.columnDefinitions();
+      } else {
+        // executing the statement closes the cursor opened by a previous execution
+        statement.isCursorOpen = false;
+      }
     }
   }
 
@@ -34,12 +46,12 @@ class ExtendedQueryCommandCodec<R> extends ExtendedQueryCommandBaseCodec<R, Exte
   void encode(MySQLEncoder encoder) {
     super.encode(encoder);
 
-    if (statement.isCursorOpen) {
-      decoder = new RowResultDecoder<>(cmd.collector(), statement.rowDesc);
+    if (fetching) {
+      decoder = new RowResultDecoder<>(cmd.collector(), statement.rowDesc, encoder.lazyRowDecoding);
       sendStatementFetchCommand(statement.statementId, cmd.fetch());
     } else {
       if (cmd.fetch() > 0) {
-        //TODO Cursor_type is READ_ONLY?
+        // CURSOR_TYPE_READ_ONLY
         sendStatementExecuteCommand(statement.statementId, statement.paramDesc.paramDefinitions(), sendType, cmd.params(), (byte) 0x01);
       } else {
         // CURSOR_TYPE_NO_CURSOR
@@ -50,7 +62,7 @@ class ExtendedQueryCommandCodec<R> extends ExtendedQueryCommandBaseCodec<R, Exte
 
   @Override
   void decodePayload(ByteBuf payload, int payloadLength) {
-    if (statement.isCursorOpen) {
+    if (fetching) {
       int first = payload.getUnsignedByte(payload.readerIndex());
       if (first == ERROR_PACKET_HEADER) {
         handleErrorPacketPayload(payload);
@@ -58,43 +70,65 @@ class ExtendedQueryCommandCodec<R> extends ExtendedQueryCommandBaseCodec<R, Exte
         // decoding COM_STMT_FETCH response
         handleRows(payload, payloadLength, super::handleSingleRow);
       }
-    } else {
-      // decoding COM_STMT_EXECUTE response
-      if (cmd.fetch() > 0) {
-        switch (commandHandlerState) {
-          case INIT:
-            int first = payload.getUnsignedByte(payload.readerIndex());
-            if (first == ERROR_PACKET_HEADER) {
-              handleErrorPacketPayload(payload);
-            } else {
-              handleResultsetColumnCountPacketBody(payload);
-            }
-            break;
-          case HANDLING_COLUMN_DEFINITION:
-            handleResultsetColumnDefinitions(payload);
-            break;
-          case COLUMN_DEFINITIONS_DECODING_COMPLETED:
-            // accept an EOF_Packet when DEPRECATE_EOF is not enabled
-            skipEofPacketIfNeeded(payload);
-            // do not need a break clause here
-          case HANDLING_ROW_DATA_OR_END_PACKET:
-            handleResultsetColumnDefinitionsDecodingCompleted();
-            // need to reset packet number so that we can send a fetch request
-            this.sequenceId = 0;
-            // send fetch after cursor opened
-            decoder = new RowResultDecoder<>(cmd.collector(), statement.rowDesc);
-
-            statement.isCursorOpen = true;
-
-            sendStatementFetchCommand(statement.statementId, cmd.fetch());
-            break;
-          default:
-            throw new IllegalStateException("Unexpected state for decoding COM_STMT_EXECUTE response with cursor opening");
-        }
-      } else {
-        super.decodePayload(payload, payloadLength);
+    } else if (cmd.fetch() > 0) {
+      // decoding COM_STMT_EXECUTE response, the server opens a cursor only for a statement producing a resultset
+      switch (commandHandlerState) {
+        case INIT:
+          handleInitPacket(payload);
+          break;
+        case HANDLING_COLUMN_DEFINITION:
+          handleResultsetColumnDefinitions(payload);
+          break;
+        case COLUMN_DEFINITIONS_DECODING_COMPLETED:
+          // accept an EOF_Packet when DEPRECATE_EOF is not enabled
+          int serverStatusFlags = decodeEofPacketPayload(payload).serverStatusFlags();
+          handleResultsetColumnDefinitionsDecodingCompleted();
+          if ((serverStatusFlags & ServerStatusFlags.SERVER_STATUS_CURSOR_EXISTS) != 0) {
+            openCursor();
+          }
+          break;
+        case HANDLING_ROW_DATA_OR_END_PACKET:
+          if (isCursorOpenedPacket(payload, payloadLength)) {
+            openCursor();
+          } else {
+            // no cursor, the rows are sent at once
+            handleRows(payload, payloadLength, super::handleSingleRow);
+          }
+          break;
+        default:
+          throw new IllegalStateException("Unexpected state for decoding COM_STMT_EXECUTE response with cursor opening");
       }
+    } else {
+      super.decodePayload(payload, payloadLength);
+    }
+  }
+
+  private boolean isCursorOpenedPacket(ByteBuf payload, int payloadLength) {
+    // with DEPRECATE_EOF enabled, the column definitions are followed by an OK_Packet with a EOF_Packet header
+    if (payload.getUnsignedByte(payload.readerIndex()) != EOF_PACKET_HEADER || payloadLength >= 0xFFFFFF) {
+      return false;
+    }
+    int serverStatusFlags = decodeOkPacketPayload(payload.duplicate(), StandardCharsets.UTF_8).serverStatusFlags();
+    return (serverStatusFlags & ServerStatusFlags.SERVER_STATUS_CURSOR_EXISTS) != 0;
+  }
+
+  private void openCursor() {
+    fetching = true;
+    statement.isCursorOpen = true;
+    // need to reset packet number so that we can send a fetch request
+    this.sequenceId = 0;
+    // send fetch after cursor opened
+    decoder = new RowResultDecoder<>(cmd.collector(), statement.rowDesc, encoder.lazyRowDecoding);
+    sendStatementFetchCommand(statement.statementId, cmd.fetch());
+  }
+
+  @Override
+  protected void handleSingleResultsetDecodingCompleted(int serverStatusFlags, int affectedRows, int lastInsertId) {
+    if (fetching && (serverStatusFlags & ServerStatusFlags.SERVER_STATUS_LAST_ROW_SENT) != 0) {
+      // the cursor is exhausted, the next execution of the statement must not fetch from it
+      statement.isCursorOpen = false;
     }
+    super.handleSingleResultsetDecodingCompleted(serverStatusFlags, affectedRows, lastInsertId);
   }
 
   private void sendStatementFetchCommand(long statementId, int count) {
@@ -167,6 +167,9 @@ class InitialHandshakeCommandCodec extends AuthenticationCommandBaseCodec<Connec
     if (!cmd.useAffectedRows()) {
       encoder.clientCapabilitiesFlag |= CLIENT_FOUND_ROWS;
     }
+    if (cmd.useCompression()) {
+      encoder.clientCapabilitiesFlag |= CLIENT_COMPRESS;
+    }
   }
 
   private void doSendHandshakeResponseMessage(String authMethodName, byte[] nonce, int serverCapabilitiesFlags) {
@@ -188,6 +191,10 @@ class InitialHandshakeCommandCodec extends AuthenticationCommandBaseCodec<Connec
     switch (header) {
       case OK_PACKET_HEADER:
         status = ST_CONNECTED;
+        if ((encoder.clientCapabilitiesFlag & CLIENT_COMPRESS) != 0) {
+          // the packets following the authentication are compressed
+          encoder.chctx.pipeline().addBefore("codec", "compression", new CompressedPacketCodec());
+        }
         completionHandler.handle(CommandResponse.success(cmd.connection()));
         break;
       case ERROR_PACKET_HEADER:
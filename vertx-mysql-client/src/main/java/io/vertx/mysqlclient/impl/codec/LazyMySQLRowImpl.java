@@ -0,0 +1,223 @@
+/*
+ * Copyright (C) 2017 Julien Viet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.vertx.mysqlclient.impl.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.vertx.mysqlclient.impl.MySQLRowImpl;
+import io.vertx.mysqlclient.impl.util.BufferUtils;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * A row retaining the bytes of the row packet, a column is decoded on its first access and
+ * the decoded value replaces the pending marker.
+ */
+class LazyMySQLRowImpl extends MySQLRowImpl {
+
+  private static final int NULL = 0xFB;
+  private static final Object PENDING = new Object();
+
+  private final MySQLRowDesc rowDesc;
+  private final int[] offsets;
+  private ByteBuf data;
+  private int pending;
+
+  LazyMySQLRowImpl(MySQLRowDesc rowDesc, int len, ByteBuf in) {
+    super(rowDesc);
+    this.rowDesc = rowDesc;
+    this.offsets = new int[len];
+    int start = in.readerIndex();
+    if (rowDesc.dataFormat() == DataFormat.BINARY) {
+      int nullBitmapLength = (len + 7 + 2) >>  3;
+      int nullBitmapIdx = 1 + in.readerIndex();
+      in.skipBytes(1 + nullBitmapLength);
+      for (int c = 0; c < len; c++) {
+        int val = c + 2;
+        int bytePos = val >> 3;
+        int bitPos = val & 7;
+        byte mask = (byte) (1 << bitPos);
+        byte nullByte = (byte) (in.getByte(nullBitmapIdx + bytePos) & mask);
+        if (nullByte == 0) {
+          offsets[c] = in.readerIndex() - start;
+          skipBinary(rowDesc.columnDefinitions()[c].type(), in);
+          add(PENDING);
+          pending++;
+        } else {
+          add(null);
+        }
+      }
+    } else {
+      for (int c = 0; c < len; c++) {
+        if (in.getUnsignedByte(in.readerIndex()) == NULL) {
+          in.skipBytes(1);
+          add(null);
+        } else {
+          offsets[c] = in.readerIndex() - start;
+          int length = (int) BufferUtils.readLengthEncodedInteger(in);
+          in.skipBytes(length);
+          add(PENDING);
+          pending++;
+        }
+      }
+    }
+    if (pending > 0) {
+      // Copy as the packet buffer is recycled after decoding
+      byte[] bytes = new byte[in.readerIndex() - start];
+      in.getBytes(start, bytes);
+      data = Unpooled.wrappedBuffer(bytes);
+    }
+  }
+
+  private static void skipBinary(DataType dataType, ByteBuf in) {
+    switch (dataType) {
+      case INT1:
+        in.skipBytes(1);
+        break;
+      case YEAR:
+      case INT2:
+        in.skipBytes(2);
+        break;
+      case INT3:
+      case INT4:
+      case FLOAT:
+        in.skipBytes(4);
+        break;
+      case INT8:
+      case DOUBLE:
+        in.skipBytes(8);
+        break;
+      case DATE:
+      case TIME:
+      case DATETIME:
+      case TIMESTAMP:
+        in.skipBytes(in.readUnsignedByte());
+        break;
+      default:
+        int length = (int) BufferUtils.readLengthEncodedInteger(in);
+        in.skipBytes(length);
+        break;
+    }
+  }
+
+  @Override
+  public Object get(int index) {
+    Object value = super.get(index);
+    if (value == PENDING) {
+      value = decode(index);
+      set(index, value);
+      if (--pending == 0) {
+        data = null;
+      }
+    }
+    return value;
+  }
+
+  private Object decode(int index) {
+    ColumnDefinition columnDef = rowDesc.columnDefinitions()[index];
+    data.readerIndex(offsets[index]);
+    if (rowDesc.dataFormat() == DataFormat.BINARY) {
+      return DataTypeCodec.decodeBinary(columnDef.type(), columnDef.charset(), columnDef.flags(), data);
+    } else {
+      return DataTypeCodec.decodeText(columnDef.type(), columnDef.charset(), columnDef.flags(), data);
+    }
+  }
+
+  private void decodeAll() {
+    for (int i = 0;pending > 0 && i < size();i++) {
+      get(i);
+    }
+  }
+
+  // The list operations not going through get(int) need the decoded values
+
+  @Override
+  public Iterator<Object> iterator() {
+    decodeAll();
+    return super.iterator();
+  }
+
+  @Override
+  public ListIterator<Object> listIterator() {
+    decodeAll();
+    return super.listIterator();
+  }
+
+  @Override
+  public ListIterator<Object> listIterator(int index) {
+    decodeAll();
+    return super.listIterator(index);
+  }
+
+  @Override
+  public Spliterator<Object> spliterator() {
+    decodeAll();
+    return super.spliterator();
+  }
+
+  @Override
+  public void forEach(Consumer<? super Object> action) {
+    decodeAll();
+    super.forEach(action);
+  }
+
+  @Override
+  public List<Object> subList(int fromIndex, int toIndex) {
+    decodeAll();
+    return super.subList(fromIndex, toIndex);
+  }
+
+  @Override
+  public Object[] toArray() {
+    decodeAll();
+    return super.toArray();
+  }
+
+  @Override
+  public <T> T[] toArray(T[] a) {
+    decodeAll();
+    return super.toArray(a);
+  }
+
+  @Override
+  public int indexOf(Object o) {
+    decodeAll();
+    return super.indexOf(o);
+  }
+
+  @Override
+  public int lastIndexOf(Object o) {
+    decodeAll();
+    return super.lastIndexOf(o);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    decodeAll();
+    return super.equals(o);
+  }
+
+  @Override
+  public int hashCode() {
+    decodeAll();
+    return super.hashCode();
+  }
+}
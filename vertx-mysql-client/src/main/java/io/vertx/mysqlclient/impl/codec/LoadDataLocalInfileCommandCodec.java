@@ -0,0 +1,199 @@
+package io.vertx.mysqlclient.impl.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.util.concurrent.EventExecutor;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.impl.NoStackTraceThrowable;
+import io.vertx.core.streams.ReadStream;
+import io.vertx.mysqlclient.impl.command.LoadDataLocalInfileCommand;
+import io.vertx.sqlclient.impl.command.CommandResponse;
+
+import java.nio.charset.StandardCharsets;
+
+import static io.vertx.mysqlclient.impl.codec.Packets.*;
+
+/**
+ * Answers the LOCAL INFILE Request of a {@code LOAD DATA LOCAL INFILE} statement with the content of a stream instead of a file.
+ * <p>
+ * The content is copied in packets of {@link #PACKET_SIZE} bytes which are flushed when they are full, the stream is paused
+ * when the channel is not writable. The protocol cannot abort a transfer, so a stream failure ends it like the end of the stream
+ * and the command fails with the stream failure once the server has responded.
+ */
+class LoadDataLocalInfileCommandCodec extends CommandCodec<Integer, LoadDataLocalInfileCommand> {
+
+  static final int PACKET_SIZE = 64 * 1024;
+
+  private ReadStream<Buffer> stream;
+  private ByteBuf packet;
+  private boolean streaming;
+  private boolean ended;
+  private boolean paused;
+  private boolean skipping;
+  private boolean eofSkipped;
+
+  LoadDataLocalInfileCommandCodec(LoadDataLocalInfileCommand cmd) {
+    super(cmd);
+  }
+
+  @Override
+  void encode(MySQLEncoder encoder) {
+    super.encode(encoder);
+    sendQueryCommand();
+  }
+
+  @Override
+  void decodePayload(ByteBuf payload, int payloadLength) {
+    int header = payload.getUnsignedByte(payload.readerIndex());
+    if (skipping) {
+      skipResultset(header, payloadLength);
+    } else if (header == 0xFB && !streaming) {
+      streaming = true;
+      startStreaming();
+    } else if (header == OK_PACKET_HEADER) {
+      end();
+      OkPacket okPacket = decodeOkPacketPayload(payload, StandardCharsets.UTF_8);
+      if (!streaming) {
+        failure = new NoStackTraceThrowable("Not a LOAD DATA LOCAL INFILE statement");
+      }
+      if (failure != null) {
+        completionHandler.handle(CommandResponse.failure(failure));
+      } else {
+        completionHandler.handle(CommandResponse.success((int) okPacket.affectedRows()));
+      }
+    } else if (header == ERROR_PACKET_HEADER) {
+      end();
+      handleErrorPacketPayload(payload);
+    } else {
+      // a resultset, skip it as this codec does not decode rows
+      skipping = true;
+      failure = new NoStackTraceThrowable("Not a LOAD DATA LOCAL INFILE statement");
+    }
+  }
+
+  private void skipResultset(int header, int payloadLength) {
+    if (header == ERROR_PACKET_HEADER) {
+      completionHandler.handle(CommandResponse.failure(failure));
+    } else if (header == EOF_PACKET_HEADER && payloadLength < 0xFFFFFF) {
+      if (!isDeprecatingEofFlagEnabled() && !eofSkipped) {
+        // the EOF_Packet ending the column definitions
+        eofSkipped = true;
+      } else {
+        completionHandler.handle(CommandResponse.failure(failure));
+      }
+    }
+  }
+
+  private void startStreaming() {
+    stream = cmd.data();
+    stream.exceptionHandler(err -> runOnEventLoop(() -> handleStreamFailure(err)));
+    stream.endHandler(v -> runOnEventLoop(this::handleStreamEnd));
+    stream.handler(buff -> runOnEventLoop(() -> handleData(buff)));
+  }
+
+  private void handleData(Buffer buff) {
+    if (ended) {
+      return;
+    }
+    ByteBuf data = buff.getByteBuf();
+    while (data.isReadable()) {
+      if (packet == null) {
+        packet = allocateBuffer(PACKET_SIZE + 4);
+        packet.writeMediumLE(0); // will set payload length when the packet is sent
+        packet.writeByte(0);
+      }
+      int len = Math.min(data.readableBytes(), PACKET_SIZE + 4 - packet.writerIndex());
+      packet.writeBytes(data, len);
+      if (packet.writerIndex() == PACKET_SIZE + 4) {
+        sendDataPacket();
+      }
+    }
+  }
+
+  private void sendDataPacket() {
+    ByteBuf p = packet;
+    packet = null;
+    p.setMediumLE(0, p.writerIndex() - 4);
+    p.setByte(3, sequenceId++);
+    encoder.chctx.writeAndFlush(p);
+    if (!ended && !paused && !encoder.chctx.channel().isWritable()) {
+      paused = true;
+      stream.pause();
+    }
+  }
+
+  @Override
+  void handleWritabilityChanged(boolean writable) {
+    if (writable && paused && !ended) {
+      paused = false;
+      stream.resume();
+    }
+  }
+
+  private void handleStreamEnd() {
+    if (!ended) {
+      end();
+      sendEmptyPacket();
+    }
+  }
+
+  private void handleStreamFailure(Throwable err) {
+    if (!ended) {
+      failure = err;
+      end();
+      sendEmptyPacket();
+    }
+  }
+
+  private void end() {
+    ended = true;
+    if (stream != null) {
+      stream.handler(null);
+      stream.exceptionHandler(null);
+      stream.endHandler(null);
+    }
+    if (packet != null) {
+      if (packet.writerIndex() > 4) {
+        sendDataPacket();
+      } else {
+        packet.release();
+        packet = null;
+      }
+    }
+  }
+
+  private void runOnEventLoop(Runnable task) {
+    EventExecutor executor = encoder.chctx.executor();
+    if (executor.inEventLoop()) {
+      task.run();
+    } else {
+      executor.execute(task);
+    }
+  }
+
+  private void sendQueryCommand() {
+    ByteBuf packet = allocateBuffer();
+    // encode packet header
+    int packetStartIdx = packet.writerIndex();
+    packet.writeMediumLE(0); // will set payload length later by calculation
+    packet.writeByte(sequenceId);
+
+    // encode packet payload
+    packet.writeByte(CommandType.COM_QUERY);
+    packet.writeCharSequence(cmd.sql(), StandardCharsets.UTF_8);
+
+    // set payload length
+    int payloadLength = packet.writerIndex() - packetStartIdx - 4;
+    packet.setMediumLE(packetStartIdx, payloadLength);
+
+    sendPacket(packet, payloadLength);
+  }
+
+  private void sendEmptyPacket() {
+    ByteBuf packet = allocateBuffer(4);
+    // encode packet header
+    packet.writeMediumLE(0);
+    packet.writeByte(sequenceId);
+
+    sendNonSplitPacket(packet);
+  }
+}
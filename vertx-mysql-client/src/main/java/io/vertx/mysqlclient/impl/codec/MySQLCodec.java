@@ -25,8 +25,8 @@ public class MySQLCodec extends CombinedChannelDuplexHandler<MySQLDecoder, MySQL
 
   private final ArrayDeque<CommandCodec<?, ?>> inflight = new ArrayDeque<>();
 
-  public MySQLCodec(MySQLSocketConnection mySQLSocketConnection) {
-    MySQLEncoder encoder = new MySQLEncoder(inflight, mySQLSocketConnection);
+  public MySQLCodec(MySQLSocketConnection mySQLSocketConnection, boolean lazyRowDecoding, boolean pipelinedBatch) {
+    MySQLEncoder encoder = new MySQLEncoder(inflight, mySQLSocketConnection, lazyRowDecoding, pipelinedBatch);
     MySQLDecoder decoder = new MySQLDecoder(inflight, encoder);
     init(decoder, encoder);
   }
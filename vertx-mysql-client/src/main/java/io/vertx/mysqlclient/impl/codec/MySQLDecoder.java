@@ -56,6 +56,15 @@ class MySQLDecoder extends ByteToMessageDecoder {
     }
   }
 
+  @Override
+  public void channelWritabilityChanged(ChannelHandlerContext ctx) throws Exception {
+    CommandCodec<?, ?> codec = inflight.peek();
+    if (codec != null) {
+      codec.handleWritabilityChanged(ctx.channel().isWritable());
+    }
+    super.channelWritabilityChanged(ctx);
+  }
+
   private void decodePayload(ByteBuf payload, int payloadLength, int sequenceId) {
     CommandCodec ctx = inflight.peek();
     ctx.sequenceId = sequenceId + 1;
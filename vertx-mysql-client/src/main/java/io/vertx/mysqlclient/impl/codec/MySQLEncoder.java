@@ -21,10 +21,14 @@ class MySQLEncoder extends ChannelOutboundHandlerAdapter {
   int clientCapabilitiesFlag = 0x00000000;
   Charset charset;
   MySQLSocketConnection socketConnection;
+  final boolean lazyRowDecoding;
+  final boolean pipelinedBatch;
 
-  MySQLEncoder(ArrayDeque<CommandCodec<?, ?>> inflight, MySQLSocketConnection mySQLSocketConnection) {
+  MySQLEncoder(ArrayDeque<CommandCodec<?, ?>> inflight, MySQLSocketConnection mySQLSocketConnection, boolean lazyRowDecoding, boolean pipelinedBatch) {
     this.inflight = inflight;
     this.socketConnection = mySQLSocketConnection;
+    this.lazyRowDecoding = lazyRowDecoding;
+    this.pipelinedBatch = pipelinedBatch;
     this.charset = StandardCharsets.UTF_8;
     initSupportedCapabilitiesFlags();
   }
@@ -86,6 +90,8 @@ class MySQLEncoder extends ChannelOutboundHandlerAdapter {
       return new DebugCommandCodec((DebugCommand) cmd);
     } else if (cmd instanceof ChangeUserCommand) {
       return new ChangeUserCommandCodec((ChangeUserCommand) cmd);
+    } else if (cmd instanceof LoadDataLocalInfileCommand) {
+      return new LoadDataLocalInfileCommandCodec((LoadDataLocalInfileCommand) cmd);
     } else {
       System.out.println("Unsupported command " + cmd);
       throw new UnsupportedOperationException("Todo");
@@ -21,6 +21,7 @@ import io.vertx.mysqlclient.MySQLClient;
 import io.vertx.mysqlclient.impl.util.BufferUtils;
 import io.vertx.sqlclient.Row;
 import io.vertx.sqlclient.impl.RowDesc;
+import io.vertx.sqlclient.impl.TxStatus;
 import io.vertx.sqlclient.impl.command.CommandResponse;
 import io.vertx.sqlclient.impl.command.QueryCommandBase;
 
@@ -92,7 +93,7 @@ abstract class QueryCommandBaseCodec<T, C extends QueryCommandBase<T>> extends C
 
   protected void handleResultsetColumnDefinitionsDecodingCompleted() {
     commandHandlerState = CommandHandlerState.HANDLING_ROW_DATA_OR_END_PACKET;
-    decoder = new RowResultDecoder<>(cmd.collector(), /*cmd.isSingleton()*/ new MySQLRowDesc(columnDefinitions, format));
+    decoder = new RowResultDecoder<>(cmd.collector(), /*cmd.isSingleton()*/ new MySQLRowDesc(columnDefinitions, format), encoder.lazyRowDecoding);
   }
 
   protected void handleRows(ByteBuf payload, int payloadLength, Consumer<ByteBuf> singleRowHandler) {
@@ -168,7 +169,8 @@ abstract class QueryCommandBaseCodec<T, C extends QueryCommandBase<T>> extends C
   private void handleAllResultsetDecodingCompleted() {
     CommandResponse<Boolean> response;
     if (this.failure != null) {
-      response = CommandResponse.failure(this.failure);
+      // the failure is reported by an error packet, like CommandCodec#handleErrorPacketPayload does
+      response = CommandResponse.failure(this.failure, TxStatus.FAILED);
     } else {
       response = CommandResponse.success(this.result);
     }
@@ -180,7 +182,7 @@ abstract class QueryCommandBaseCodec<T, C extends QueryCommandBase<T>> extends C
     return (int) columnCount;
   }
 
-  private void resetIntermediaryResult() {
+  protected void resetIntermediaryResult() {
     commandHandlerState = CommandHandlerState.INIT;
     columnDefinitions = null;
     currentColumn = 0;
@@ -1,26 +1,36 @@
 package io.vertx.mysqlclient.impl.codec;
 
 import io.netty.buffer.ByteBuf;
-import io.vertx.mysqlclient.impl.MySQLCollation;
 import io.vertx.mysqlclient.impl.MySQLRowImpl;
+import io.vertx.mysqlclient.impl.util.BufferUtils;
 import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowVisitor;
+import io.vertx.sqlclient.impl.ColumnarRowSetImpl;
 import io.vertx.sqlclient.impl.RowDecoder;
 
-import java.nio.charset.Charset;
 import java.util.stream.Collector;
 
 class RowResultDecoder<C, R> extends RowDecoder<C, R> {
   private static final int NULL = 0xFB;
 
   MySQLRowDesc rowDesc;
+  final boolean lazy;
 
   RowResultDecoder(Collector<Row, C, R> collector, MySQLRowDesc rowDesc) {
+    this(collector, rowDesc, false);
+  }
+
+  RowResultDecoder(Collector<Row, C, R> collector, MySQLRowDesc rowDesc, boolean lazy) {
     super(collector);
     this.rowDesc = rowDesc;
+    this.lazy = lazy;
   }
 
   @Override
   protected Row decodeRow(int len, ByteBuf in) {
+    if (lazy) {
+      return new LazyMySQLRowImpl(rowDesc, len, in);
+    }
     Row row = new MySQLRowImpl(rowDesc);
     if (rowDesc.dataFormat() == DataFormat.BINARY) {
       // BINARY row decoding
@@ -41,11 +51,7 @@ class RowResultDecoder<C, R> extends RowDecoder<C, R> {
         if (nullByte == 0) {
           // non-null
           ColumnDefinition columnDef = rowDesc.columnDefinitions()[c];
-          DataType dataType = columnDef.type();
-          int collationId = rowDesc.columnDefinitions()[c].characterSet();
-          Charset charset = Charset.forName(MySQLCollation.valueOfId(collationId).mappedJavaCharsetName());
-          int columnDefinitionFlags = columnDef.flags();
-          decoded = DataTypeCodec.decodeBinary(dataType, charset, columnDefinitionFlags, in);
+          decoded = DataTypeCodec.decodeBinary(columnDef.type(), columnDef.charset(), columnDef.flags(), in);
         }
         row.addValue(decoded);
       }
@@ -56,16 +62,155 @@ class RowResultDecoder<C, R> extends RowDecoder<C, R> {
         if (in.getUnsignedByte(in.readerIndex()) == NULL) {
           in.skipBytes(1);
         } else {
-          DataType dataType = rowDesc.columnDefinitions()[c].type();
-          int columnDefinitionFlags = rowDesc.columnDefinitions()[c].flags();
-          int collationId = rowDesc.columnDefinitions()[c].characterSet();
-          Charset charset = Charset.forName(MySQLCollation.valueOfId(collationId).mappedJavaCharsetName());
-          decoded = DataTypeCodec.decodeText(dataType, charset, columnDefinitionFlags, in);
+          ColumnDefinition columnDef = rowDesc.columnDefinitions()[c];
+          decoded = DataTypeCodec.decodeText(columnDef.type(), columnDef.charset(), columnDef.flags(), in);
         }
         row.addValue(decoded);
       }
     }
     return row;
   }
+
+  @Override
+  protected void visitRow(int len, ByteBuf in, RowVisitor visitor) {
+    ColumnDefinition[] columnDefinitions = rowDesc.columnDefinitions();
+    visitor.startRow();
+    if (rowDesc.dataFormat() == DataFormat.BINARY) {
+      int nullBitmapLength = (len + 7 + 2) >>  3;
+      int nullBitmapIdx = 1 + in.readerIndex();
+      in.skipBytes(1 + nullBitmapLength);
+      for (int c = 0; c < len; c++) {
+        int val = c + 2;
+        int bytePos = val >> 3;
+        int bitPos = val & 7;
+        byte mask = (byte) (1 << bitPos);
+        byte nullByte = (byte) (in.getByte(nullBitmapIdx + bytePos) & mask);
+        DataType dataType = columnDefinitions[c].type();
+        if (nullByte != 0) {
+          visitor.visitField(c, dataType.id, true, in, -1, -1);
+          continue;
+        }
+        int length;
+        switch (dataType) {
+          case INT1:
+            length = 1;
+            break;
+          case YEAR:
+          case INT2:
+            length = 2;
+            break;
+          case INT3:
+          case INT4:
+          case FLOAT:
+            length = 4;
+            break;
+          case INT8:
+          case DOUBLE:
+            length = 8;
+            break;
+          case DATE:
+          case TIME:
+          case DATETIME:
+          case TIMESTAMP:
+            length = in.readUnsignedByte();
+            break;
+          default:
+            length = (int) BufferUtils.readLengthEncodedInteger(in);
+            break;
+        }
+        visitor.visitField(c, dataType.id, true, in, in.readerIndex(), length);
+        in.skipBytes(length);
+      }
+    } else {
+      for (int c = 0; c < len; c++) {
+        DataType dataType = columnDefinitions[c].type();
+        if (in.getUnsignedByte(in.readerIndex()) == NULL) {
+          in.skipBytes(1);
+          visitor.visitField(c, dataType.id, false, in, -1, -1);
+        } else {
+          int length = (int) BufferUtils.readLengthEncodedInteger(in);
+          visitor.visitField(c, dataType.id, false, in, in.readerIndex(), length);
+          in.skipBytes(length);
+        }
+      }
+    }
+    visitor.endRow();
+  }
+
+  @Override
+  protected void decodeColumns(int len, ByteBuf in, ColumnarRowSetImpl columns) {
+    if (rowDesc.dataFormat() != DataFormat.BINARY) {
+      // TEXT rows are decoded to values
+      super.decodeColumns(len, in, columns);
+      return;
+    }
+    ColumnDefinition[] columnDefinitions = rowDesc.columnDefinitions();
+    if (!columns.isInitialized()) {
+      ColumnarRowSetImpl.ColumnType[] types = new ColumnarRowSetImpl.ColumnType[len];
+      for (int c = 0;c < len;c++) {
+        types[c] = columnType(columnDefinitions[c].type());
+      }
+      columns.init(types);
+    }
+    int nullBitmapLength = (len + 7 + 2) >>  3;
+    int nullBitmapIdx = 1 + in.readerIndex();
+    in.skipBytes(1 + nullBitmapLength);
+    for (int c = 0; c < len; c++) {
+      int val = c + 2;
+      int bytePos = val >> 3;
+      int bitPos = val & 7;
+      byte mask = (byte) (1 << bitPos);
+      byte nullByte = (byte) (in.getByte(nullBitmapIdx + bytePos) & mask);
+      if (nullByte != 0) {
+        columns.setNull(c);
+        continue;
+      }
+      ColumnDefinition columnDef = columnDefinitions[c];
+      switch (columnDef.type()) {
+        case INT1:
+          columns.setInt(c, in.readByte());
+          break;
+        case YEAR:
+        case INT2:
+          columns.setInt(c, in.readShortLE());
+          break;
+        case INT3:
+        case INT4:
+          columns.setInt(c, in.readIntLE());
+          break;
+        case INT8:
+          columns.setLong(c, in.readLongLE());
+          break;
+        case FLOAT:
+          columns.setDouble(c, in.readFloatLE());
+          break;
+        case DOUBLE:
+          columns.setDouble(c, in.readDoubleLE());
+          break;
+        default:
+          columns.setValue(c, DataTypeCodec.decodeBinary(columnDef.type(), columnDef.charset(), columnDef.flags(), in));
+          break;
+      }
+    }
+    columns.endRow();
+  }
+
+  private static ColumnarRowSetImpl.ColumnType columnType(DataType dataType) {
+    switch (dataType) {
+      case INT1:
+      case INT2:
+      case INT3:
+      case INT4:
+      case YEAR:
+        return ColumnarRowSetImpl.ColumnType.INT;
+      case INT8:
+        return ColumnarRowSetImpl.ColumnType.LONG;
+      case FLOAT:
+      case DOUBLE:
+        return ColumnarRowSetImpl.ColumnType.DOUBLE;
+      default:
+        return ColumnarRowSetImpl.ColumnType.OBJECT;
+    }
+  }
 }
 
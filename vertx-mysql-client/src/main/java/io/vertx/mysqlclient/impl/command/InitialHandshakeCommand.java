@@ -11,6 +11,7 @@ public class InitialHandshakeCommand extends AuthenticationCommandBase<Connectio
   private final SocketConnectionBase conn;
   private final SslMode sslMode;
   private final boolean useAffectedRows;
+  private final boolean useCompression;
 
   public InitialHandshakeCommand(SocketConnectionBase conn,
                                  String username,
@@ -18,6 +19,7 @@ public class InitialHandshakeCommand extends AuthenticationCommandBase<Connectio
                                  String database,
                                  String collation,
                                  boolean useAffectedRows,
+                                 boolean useCompression,
                                  Buffer serverRsaPublicKey,
                                  Map<String, String> connectionAttributes,
                                  SslMode sslMode) {
@@ -25,6 +27,7 @@ public class InitialHandshakeCommand extends AuthenticationCommandBase<Connectio
     this.conn = conn;
     this.sslMode = sslMode;
     this.useAffectedRows = useAffectedRows;
+    this.useCompression = useCompression;
   }
 
   public SocketConnectionBase connection() {
@@ -38,4 +41,8 @@ public class InitialHandshakeCommand extends AuthenticationCommandBase<Connectio
   public boolean useAffectedRows() {
     return useAffectedRows;
   }
+
+  public boolean useCompression() {
+    return useCompression;
+  }
 }
@@ -0,0 +1,23 @@
+package io.vertx.mysqlclient.impl.command;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.streams.ReadStream;
+import io.vertx.sqlclient.impl.command.CommandBase;
+
+public class LoadDataLocalInfileCommand extends CommandBase<Integer> {
+  private final String sql;
+  private final ReadStream<Buffer> data;
+
+  public LoadDataLocalInfileCommand(String sql, ReadStream<Buffer> data) {
+    this.sql = sql;
+    this.data = data;
+  }
+
+  public String sql() {
+    return sql;
+  }
+
+  public ReadStream<Buffer> data() {
+    return data;
+  }
+}
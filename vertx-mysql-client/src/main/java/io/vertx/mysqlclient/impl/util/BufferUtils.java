@@ -3,9 +3,11 @@ package io.vertx.mysqlclient.impl.util;
 import io.netty.buffer.ByteBuf;
 
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 
 public class BufferUtils {
   private static final byte TERMINAL = 0x00;
+  private static final Charset CP1252 = Charset.forName("Cp1252");
 
   public static String readNullTerminatedString(ByteBuf buffer, Charset charset) {
     int len = buffer.bytesBefore(TERMINAL);
@@ -15,7 +17,42 @@ public class BufferUtils {
   }
 
   public static String readFixedLengthString(ByteBuf buffer, int length, Charset charset) {
-    return buffer.readCharSequence(length, charset).toString();
+    String s = decodeString(buffer, buffer.readerIndex(), length, charset);
+    buffer.skipBytes(length);
+    return s;
+  }
+
+  /**
+   * Decode a string, the UTF-8 and latin1 strings are decoded from a byte array with the {@code String} constructor
+   * instead of the Netty charset decoder.
+   */
+  public static String decodeString(ByteBuf buffer, int index, int length, Charset charset) {
+    if (length == 0) {
+      return "";
+    }
+    if (charset.equals(StandardCharsets.UTF_8) || charset.equals(StandardCharsets.ISO_8859_1)) {
+      return newString(buffer, index, length, charset);
+    }
+    if (charset.equals(CP1252)) {
+      // The MySQL latin1 is Cp1252 which only differs from ISO-8859-1 in the 0x80-0x9F range
+      for (int i = index, to = index + length;i < to;i++) {
+        byte b = buffer.getByte(i);
+        if (b >= (byte) 0x80 && b <= (byte) 0x9F) {
+          return buffer.toString(index, length, charset);
+        }
+      }
+      return newString(buffer, index, length, StandardCharsets.ISO_8859_1);
+    }
+    return buffer.toString(index, length, charset);
+  }
+
+  private static String newString(ByteBuf buffer, int index, int length, Charset charset) {
+    if (buffer.hasArray()) {
+      return new String(buffer.array(), buffer.arrayOffset() + index, length, charset);
+    }
+    byte[] bytes = new byte[length];
+    buffer.getBytes(index, bytes);
+    return new String(bytes, charset);
   }
 
   public static void writeNullTerminatedString(ByteBuf buffer, CharSequence charSequence, Charset charset) {
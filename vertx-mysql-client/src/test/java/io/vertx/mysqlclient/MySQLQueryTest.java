@@ -3,10 +3,15 @@ package io.vertx.mysqlclient;
 import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.file.FileSystem;
+import io.vertx.core.file.OpenOptions;
+import io.vertx.ext.unit.Async;
 import io.vertx.ext.unit.TestContext;
 import io.vertx.ext.unit.junit.VertxUnitRunner;
 import io.vertx.sqlclient.Row;
 import io.vertx.sqlclient.RowIterator;
+import io.vertx.sqlclient.RowSet;
+import io.vertx.sqlclient.RowStream;
+import io.vertx.sqlclient.Transaction;
 import io.vertx.sqlclient.Tuple;
 import org.junit.After;
 import org.junit.Assume;
@@ -15,7 +20,9 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
@@ -215,4 +222,215 @@ public class MySQLQueryTest extends MySQLTestBase {
       }));
     }));
   }
+
+  @Test
+  public void testLoadDataLocalInfileFromStream(TestContext ctx) {
+    int num = 10000;
+    Buffer data = Buffer.buffer();
+    for (int i = 0;i < num;i++) {
+      data.appendString("name-" + i + ",Harold,cat,f,1993-02-04,NULL\n");
+    }
+    FileSystem fileSystem = vertx.fileSystem();
+    fileSystem.createTempFile(null, null, ctx.asyncAssertSuccess(filename -> {
+      fileSystem.writeFile(filename, data, ctx.asyncAssertSuccess(write -> {
+        // the file name of the statement is not used
+        fileSystem.open(filename, new OpenOptions().setRead(true), ctx.asyncAssertSuccess(file -> {
+          file.setReadBufferSize(1000);
+          MySQLConnection.connect(vertx, options, ctx.asyncAssertSuccess(conn -> {
+            conn.query("TRUNCATE TABLE localinfile", ctx.asyncAssertSuccess(cleanup -> {
+              conn.loadDataLocalInfile("LOAD DATA LOCAL INFILE 'does-not-exist.csv' INTO TABLE localinfile FIELDS TERMINATED BY ',' LINES TERMINATED BY '\\n'", file, ctx.asyncAssertSuccess(count -> {
+                ctx.assertEquals(num, count);
+                conn.query("SELECT COUNT(*), MAX(name) FROM localinfile", ctx.asyncAssertSuccess(rowSet -> {
+                  Row row = rowSet.iterator().next();
+                  ctx.assertEquals((long) num, row.getLong(0));
+                  ctx.assertEquals("name-9999", row.getString(1));
+                  conn.close();
+                }));
+              }));
+            }));
+          }));
+        }));
+      }));
+    }));
+  }
+
+  @Test
+  public void testPipelinedBatch(TestContext ctx) {
+    options.setPipelinedBatch(true);
+    int num = 1000;
+    List<Tuple> batch = new ArrayList<>();
+    for (int i = 0;i < num;i++) {
+      batch.add(Tuple.of(i, "val-" + i));
+    }
+    MySQLConnection.connect(vertx, options, ctx.asyncAssertSuccess(conn -> {
+      conn.query("CREATE TEMPORARY TABLE batch_test(id INTEGER PRIMARY KEY, val VARCHAR(20));", ctx.asyncAssertSuccess(createTableResult -> {
+        conn.preparedBatch("INSERT INTO batch_test(id, val) VALUES (?, ?)", batch, ctx.asyncAssertSuccess(result -> {
+          int count = 0;
+          for (RowSet<Row> rs = result;rs != null;rs = rs.next()) {
+            ctx.assertEquals(1, rs.rowCount());
+            count++;
+          }
+          ctx.assertEquals(num, count);
+          conn.query("SELECT COUNT(*) FROM batch_test", ctx.asyncAssertSuccess(rowSet -> {
+            ctx.assertEquals((long) num, rowSet.iterator().next().getLong(0));
+            conn.close();
+          }));
+        }));
+      }));
+    }));
+  }
+
+  @Test
+  public void testPipelinedBatchFailure(TestContext ctx) {
+    options.setPipelinedBatch(true);
+    List<Tuple> batch = new ArrayList<>();
+    for (int i = 0;i < 1000;i++) {
+      // duplicate key for the 500th element
+      batch.add(Tuple.of(i == 500 ? 0 : i, "val-" + i));
+    }
+    MySQLConnection.connect(vertx, options, ctx.asyncAssertSuccess(conn -> {
+      conn.query("CREATE TEMPORARY TABLE batch_test(id INTEGER PRIMARY KEY, val VARCHAR(20));", ctx.asyncAssertSuccess(createTableResult -> {
+        conn.preparedBatch("INSERT INTO batch_test(id, val) VALUES (?, ?)", batch, ctx.asyncAssertFailure(err -> {
+          ctx.assertTrue(err instanceof MySQLException);
+          // the connection must still be in sync with the server
+          conn.query("SELECT 1", ctx.asyncAssertSuccess(rowSet -> {
+            ctx.assertEquals(1L, rowSet.iterator().next().getLong(0));
+            conn.close();
+          }));
+        }));
+      }));
+    }));
+  }
+
+  @Test
+  public void testCompression(TestContext ctx) {
+    options.setUseCompression(true);
+    MySQLConnection.connect(vertx, options, ctx.asyncAssertSuccess(conn -> {
+      // compressed in a single packet much smaller than the result
+      conn.query("SELECT REPEAT('abcdefgh', 128 * 1024)", ctx.asyncAssertSuccess(textResult -> {
+        ctx.assertEquals(1024 * 1024, textResult.iterator().next().getString(0).length());
+        conn.preparedQuery("SELECT ?, 'hello'", Tuple.of(1), ctx.asyncAssertSuccess(binaryResult -> {
+          Row row = binaryResult.iterator().next();
+          ctx.assertEquals(1L, row.getLong(0));
+          ctx.assertEquals("hello", row.getString(1));
+          conn.close();
+        }));
+      }));
+    }));
+  }
+
+  @Test
+  public void testStreamThenExecuteSameStatement(TestContext ctx) {
+    MySQLConnection.connect(vertx, options, ctx.asyncAssertSuccess(conn -> {
+      conn.prepare("SELECT id, message FROM immutable WHERE id <= ? ORDER BY id", ctx.asyncAssertSuccess(ps -> {
+        List<Integer> ids = new ArrayList<>();
+        RowStream<Row> stream = ps.createStream(5, Tuple.of(12));
+        stream.exceptionHandler(ctx::fail);
+        stream.endHandler(v -> {
+          ctx.assertEquals(12, ids.size());
+          // the cursor is exhausted, the statement must be executed again instead of fetching from the cursor
+          ps.execute(Tuple.of(3), ctx.asyncAssertSuccess(rowSet -> {
+            ctx.assertEquals(3, rowSet.size());
+            conn.close();
+          }));
+        });
+        stream.handler(row -> ids.add(row.getInteger(0)));
+      }));
+    }));
+  }
+
+  @Test
+  public void testCursorOnStatementWithoutResultset(TestContext ctx) {
+    MySQLConnection.connect(vertx, options, ctx.asyncAssertSuccess(conn -> {
+      conn.query("CREATE TEMPORARY TABLE cursor_test(id INTEGER PRIMARY KEY);", ctx.asyncAssertSuccess(createTableResult -> {
+        conn.prepare("INSERT INTO cursor_test(id) VALUES (?)", ctx.asyncAssertSuccess(ps -> {
+          ps.cursor(Tuple.of(1)).read(10, ctx.asyncAssertSuccess(rowSet -> {
+            ctx.assertEquals(1, rowSet.rowCount());
+            conn.close();
+          }));
+        }));
+      }));
+    }));
+  }
+
+  @Test
+  public void testPipelinedBatchFailurePersistedRows(TestContext ctx) {
+    // the whole batch fits in the pipelining window, the executions sent after the failing one are executed
+    testBatchFailurePersistedRows(ctx, true, 99);
+  }
+
+  @Test
+  public void testBatchFailurePersistedRows(TestContext ctx) {
+    testBatchFailurePersistedRows(ctx, false, 50);
+  }
+
+  @Test
+  public void testPipelinedBatchFailureInTransaction(TestContext ctx) {
+    options.setPipelinedBatch(true);
+    List<Tuple> batch = new ArrayList<>();
+    for (int i = 0;i < 100;i++) {
+      // duplicate key for the 50th element, the last execution of the batch succeeds
+      batch.add(Tuple.of(i == 50 ? 0 : i, "val-" + i));
+    }
+    Async async = ctx.async(2);
+    MySQLConnection.connect(vertx, options, ctx.asyncAssertSuccess(conn -> {
+      conn.query("CREATE TEMPORARY TABLE batch_test(id INTEGER PRIMARY KEY, val VARCHAR(20));", ctx.asyncAssertSuccess(createTableResult -> {
+        Transaction tx = conn.begin();
+        tx.abortHandler(v -> async.countDown());
+        tx.preparedBatch("INSERT INTO batch_test(id, val) VALUES (?, ?)", batch, ctx.asyncAssertFailure(err -> {
+          ctx.assertTrue(err instanceof MySQLException);
+          // the transaction is rolled back
+          conn.query("SELECT COUNT(*) FROM batch_test", ctx.asyncAssertSuccess(rowSet -> {
+            ctx.assertEquals(0L, rowSet.iterator().next().getLong(0));
+            conn.close();
+            async.countDown();
+          }));
+        }));
+      }));
+    }));
+  }
+
+  private void testBatchFailurePersistedRows(TestContext ctx, boolean pipelined, long expectedRows) {
+    options.setPipelinedBatch(pipelined);
+    List<Tuple> batch = new ArrayList<>();
+    for (int i = 0;i < 100;i++) {
+      // duplicate key for the 50th element
+      batch.add(Tuple.of(i == 50 ? 0 : i, "val-" + i));
+    }
+    MySQLConnection.connect(vertx, options, ctx.asyncAssertSuccess(conn -> {
+      conn.query("CREATE TEMPORARY TABLE batch_test(id INTEGER PRIMARY KEY, val VARCHAR(20));", ctx.asyncAssertSuccess(createTableResult -> {
+        conn.preparedBatch("INSERT INTO batch_test(id, val) VALUES (?, ?)", batch, ctx.asyncAssertFailure(err -> {
+          ctx.assertTrue(err instanceof MySQLException);
+          conn.query("SELECT COUNT(*), MAX(id) FROM batch_test", ctx.asyncAssertSuccess(rowSet -> {
+            Row row = rowSet.iterator().next();
+            ctx.assertEquals(expectedRows, row.getLong(0));
+            ctx.assertEquals(pipelined ? 99 : 49, row.getInteger(1));
+            conn.close();
+          }));
+        }));
+      }));
+    }));
+  }
+
+  @Test
+  public void testLazyRowDecoding(TestContext ctx) {
+    options.setLazyRowDecoding(true);
+    MySQLConnection.connect(vertx, options, ctx.asyncAssertSuccess(conn -> {
+      conn.query("SELECT 1, 'hello', NULL, CAST('2019-01-01' AS DATE)", ctx.asyncAssertSuccess(textResult -> {
+        Row textRow = textResult.iterator().next();
+        ctx.assertEquals(LocalDate.of(2019, 1, 1), textRow.getValue(3));
+        ctx.assertEquals("hello", textRow.getString(1));
+        ctx.assertNull(textRow.getValue(2));
+        ctx.assertEquals(1L, textRow.getLong(0));
+        conn.preparedQuery("SELECT ?, 'hello', NULL, CAST('2019-01-01' AS DATE)", Tuple.of(1), ctx.asyncAssertSuccess(binaryResult -> {
+          Row binaryRow = binaryResult.iterator().next();
+          ctx.assertEquals(LocalDate.of(2019, 1, 1), binaryRow.getValue(3));
+          ctx.assertEquals("hello", binaryRow.getString(1));
+          ctx.assertNull(binaryRow.getValue(2));
+          ctx.assertEquals(1L, binaryRow.getLong(0));
+          conn.close();
+        }));
+      }));
+    }));
+  }
 }
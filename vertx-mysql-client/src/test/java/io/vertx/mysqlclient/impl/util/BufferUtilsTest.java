@@ -0,0 +1,46 @@
+package io.vertx.mysqlclient.impl.util;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.junit.Test;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.Assert.assertEquals;
+
+public class BufferUtilsTest {
+
+  private static final Charset CP1252 = Charset.forName("Cp1252");
+
+  @Test
+  public void testDecodeUtf8() {
+    String s = "h\u00e9llo \u20ac";
+    checkDecode(s, StandardCharsets.UTF_8);
+  }
+
+  @Test
+  public void testDecodeLatin1() {
+    checkDecode("h\u00e9llo", CP1252);
+    // 0x80 is the euro sign in Cp1252
+    checkDecode("price \u20ac", CP1252);
+    checkDecode("h\u00e9llo", StandardCharsets.ISO_8859_1);
+  }
+
+  @Test
+  public void testDecodeOtherCharset() {
+    checkDecode("h\u00e9llo", StandardCharsets.UTF_16BE);
+  }
+
+  private void checkDecode(String s, Charset charset) {
+    byte[] bytes = s.getBytes(charset);
+    ByteBuf heap = Unpooled.buffer();
+    heap.writeBytes("prefix".getBytes(StandardCharsets.US_ASCII));
+    heap.writeBytes(bytes);
+    assertEquals(s, BufferUtils.decodeString(heap, 6, bytes.length, charset));
+    ByteBuf direct = Unpooled.directBuffer();
+    direct.writeBytes(heap);
+    assertEquals(s, BufferUtils.decodeString(direct, 6, bytes.length, charset));
+    assertEquals("", BufferUtils.decodeString(direct, 6, 0, charset));
+  }
+}
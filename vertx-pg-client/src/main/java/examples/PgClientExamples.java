@@ -18,19 +18,25 @@
 package examples;
 
 import io.vertx.pgclient.*;
+import io.vertx.sqlclient.ColumnarRowSet;
 import io.vertx.sqlclient.Pool;
 import io.vertx.sqlclient.data.Numeric;
 import io.vertx.pgclient.pubsub.PgSubscriber;
 import io.vertx.sqlclient.PoolOptions;
 import io.vertx.sqlclient.SqlResult;
 import io.vertx.sqlclient.RowSet;
+import io.vertx.sqlclient.RowVisitor;
 import io.vertx.sqlclient.Row;
 import io.vertx.sqlclient.SqlClient;
 import io.vertx.sqlclient.SqlConnection;
 import io.vertx.sqlclient.Tuple;
 import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.file.AsyncFile;
+import io.vertx.core.file.OpenOptions;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.net.PemTrustOptions;
+import io.vertx.core.streams.ReadStream;
 import io.vertx.docgen.Source;
 
 import java.math.BigDecimal;
@@ -559,6 +565,89 @@ public class PgClientExamples {
       });
   }
 
+  public void collector03Example(SqlClient client) {
+
+    // Run the query with the columnar collector
+    client.query("SELECT id, randomnumber FROM World",
+      ColumnarRowSet.collector(),
+      ar -> {
+        if (ar.succeeded()) {
+          ColumnarRowSet set = ar.result().value();
+
+          // Compute the sum of the values without boxing
+          long sum = 0;
+          for (int i = 0;i < set.size();i++) {
+            sum += set.getInt(i, 1);
+          }
+          System.out.println("Got " + sum);
+        } else {
+          System.out.println("Failure: " + ar.cause().getMessage());
+        }
+      });
+  }
+
+  public void collector04Example(SqlClient client, Buffer output) {
+
+    // Copy the text of the fields to the output buffer
+    RowVisitor visitor = (column, type, binary, buffer, index, length) -> {
+      if (length != -1) {
+        output.appendBuffer(Buffer.buffer(buffer.slice(index, length)));
+      }
+    };
+
+    // Run the query with the visitor collector
+    client.query("SELECT message FROM Fortune",
+      RowVisitor.collector(visitor),
+      ar -> {
+        if (ar.succeeded()) {
+          System.out.println("Visited " + ar.result().size() + " rows");
+        } else {
+          System.out.println("Failure: " + ar.cause().getMessage());
+        }
+      });
+  }
+
+  public void copyFrom01Example(Vertx vertx, PgConnection connection) {
+    vertx.fileSystem().open("fortunes.csv", new OpenOptions().setRead(true), ar1 -> {
+      if (ar1.succeeded()) {
+        AsyncFile file = ar1.result();
+        connection.copyFrom("COPY Fortune (id, message) FROM STDIN (FORMAT CSV)", file, ar2 -> {
+          if (ar2.succeeded()) {
+            System.out.println("Copied " + ar2.result() + " rows");
+          } else {
+            System.out.println("Failure: " + ar2.cause().getMessage());
+          }
+        });
+      }
+    });
+  }
+
+  public void copyFrom02Example(PgConnection connection, ReadStream<Tuple> fortunes) {
+    connection.copyFromTuples("COPY Fortune (id, message) FROM STDIN (FORMAT BINARY)", fortunes, ar -> {
+      if (ar.succeeded()) {
+        System.out.println("Copied " + ar.result() + " rows");
+      } else {
+        System.out.println("Failure: " + ar.cause().getMessage());
+      }
+    });
+  }
+
+  public void copyTo01Example(Vertx vertx, PgConnection connection) {
+    vertx.fileSystem().open("fortunes.csv", new OpenOptions().setWrite(true), ar1 -> {
+      if (ar1.succeeded()) {
+        AsyncFile file = ar1.result();
+        ReadStream<Buffer> stream = connection.copyTo("COPY Fortune (id, message) TO STDOUT (FORMAT CSV)");
+        stream.pipeTo(file, ar2 -> {
+          if (ar2.succeeded()) {
+            System.out.println("Export done");
+          } else {
+            System.out.println("Failure: " + ar2.cause().getMessage());
+          }
+        });
+      }
+    });
+  }
+
   public void cancelRequest(PgConnection connection) {
     connection.query("SELECT pg_sleep(20)", ar -> {
       if (ar.succeeded()) {
@@ -97,6 +97,7 @@ public class PgConnectOptions extends SqlConnectOptions {
   public static final String DEFAULT_USER = "user";
   public static final String DEFAULT_PASSWORD = "pass";
   public static final int DEFAULT_PIPELINING_LIMIT = 256;
+  public static final boolean DEFAULT_BINARY_QUERY_RESULTS = false;
   public static final SslMode DEFAULT_SSLMODE = SslMode.DISABLE;
   public static final Map<String, String> DEFAULT_PROPERTIES;
 
@@ -111,6 +112,7 @@ public class PgConnectOptions extends SqlConnectOptions {
   }
 
   private int pipeliningLimit;
+  private boolean binaryQueryResults;
   private SslMode sslMode;
 
   public PgConnectOptions() {
@@ -125,6 +127,7 @@ public class PgConnectOptions extends SqlConnectOptions {
   public PgConnectOptions(PgConnectOptions other) {
     super(other);
     pipeliningLimit = other.pipeliningLimit;
+    binaryQueryResults = other.binaryQueryResults;
     sslMode = other.sslMode;
   }
 
@@ -165,10 +168,40 @@ public class PgConnectOptions extends SqlConnectOptions {
     return this;
   }
 
+  /**
+   * Get whether the queries without parameters receive their results in binary format.
+   *
+   * @return the value
+   */
+  public boolean getBinaryQueryResults() {
+    return binaryQueryResults;
+  }
+
+  /**
+   * Set whether the queries without parameters should be executed with the extended query protocol using
+   * the unnamed statement, so their results are received in binary format instead of text format.
+   * <p>
+   * Queries containing several statements are still executed with the simple query protocol. The first
+   * execution of a query receives text results, the next executions of the same query on the connection receive
+   * binary results for the columns whose type has a binary codec.
+   *
+   * @param binaryQueryResults true to receive the results of queries in binary format
+   * @return a reference to this, so the API can be used fluently
+   */
+  public PgConnectOptions setBinaryQueryResults(boolean binaryQueryResults) {
+    this.binaryQueryResults = binaryQueryResults;
+    return this;
+  }
+
   public PgConnectOptions setCachePreparedStatements(boolean cachePreparedStatements) {
     return (PgConnectOptions) super.setCachePreparedStatements(cachePreparedStatements);
   }
 
+  @Override
+  public PgConnectOptions setLazyRowDecoding(boolean lazyRowDecoding) {
+    return (PgConnectOptions) super.setLazyRowDecoding(lazyRowDecoding);
+  }
+
   @Override
   public PgConnectOptions setPreparedStatementCacheMaxSize(int preparedStatementCacheMaxSize) {
     return (PgConnectOptions) super.setPreparedStatementCacheMaxSize(preparedStatementCacheMaxSize);
@@ -433,6 +466,7 @@ public class PgConnectOptions extends SqlConnectOptions {
     this.setPassword(DEFAULT_PASSWORD);
     this.setDatabase(DEFAULT_DATABASE);
     pipeliningLimit = DEFAULT_PIPELINING_LIMIT;
+    binaryQueryResults = DEFAULT_BINARY_QUERY_RESULTS;
     sslMode = DEFAULT_SSLMODE;
     this.setProperties(new HashMap<>(DEFAULT_PROPERTIES));
   }
@@ -453,6 +487,7 @@ public class PgConnectOptions extends SqlConnectOptions {
     PgConnectOptions that = (PgConnectOptions) o;
 
     if (pipeliningLimit != that.pipeliningLimit) return false;
+    if (binaryQueryResults != that.binaryQueryResults) return false;
     if (sslMode != that.sslMode) return false;
 
     return true;
@@ -462,6 +497,7 @@ public class PgConnectOptions extends SqlConnectOptions {
   public int hashCode() {
     int result = super.hashCode();
     result = 31 * result + pipeliningLimit;
+    result = 31 * result + (binaryQueryResults ? 1 : 0);
     result = 31 * result + sslMode.hashCode();
     return result;
   }
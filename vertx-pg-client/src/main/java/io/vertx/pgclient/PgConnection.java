@@ -28,6 +28,8 @@ import io.vertx.codegen.annotations.Fluent;
 import io.vertx.codegen.annotations.GenIgnore;
 import io.vertx.codegen.annotations.VertxGen;
 import io.vertx.core.*;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.streams.ReadStream;
 
 import java.util.List;
 import java.util.stream.Collector;
@@ -90,6 +92,47 @@ public interface PgConnection extends SqlConnection {
    */
   PgConnection cancelRequest(Handler<AsyncResult<Void>> handler);
 
+  /**
+   * Execute a {@code COPY ... FROM STDIN} statement, the content of the {@code data} stream is sent to the server
+   * in the format specified by the statement ({@code text}, {@code csv} or {@code binary}).
+   * <p/>
+   * The stream is paused when the connection cannot keep up with it, a stream failure aborts the copy.
+   *
+   * @param sql the {@code COPY ... FROM STDIN} statement
+   * @param data the data to copy
+   * @param handler the handler called with the number of copied rows
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  PgConnection copyFrom(String sql, ReadStream<Buffer> data, Handler<AsyncResult<Integer>> handler);
+
+  /**
+   * Like {@link #copyFrom(String, ReadStream, Handler)} with the rows encoded by the client in the binary
+   * {@code COPY} format, the statement must use {@code (FORMAT BINARY)}.
+   * <p/>
+   * Each value is encoded after its Java type, which must match the column type, e.g an {@code Integer} for an
+   * {@code INT4} column or a {@code String} for a {@code TEXT} or {@code VARCHAR} column.
+   *
+   * @param sql the {@code COPY ... FROM STDIN (FORMAT BINARY)} statement
+   * @param rows the rows to copy
+   * @param handler the handler called with the number of copied rows
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  PgConnection copyFromTuples(String sql, ReadStream<Tuple> rows, Handler<AsyncResult<Integer>> handler);
+
+  /**
+   * Create a stream of the data of a {@code COPY ... TO STDOUT} statement in the format specified by the statement
+   * ({@code text}, {@code csv} or {@code binary}), the statement is executed when a handler is set on the stream.
+   * <p/>
+   * The buffers emitted by the stream are not aligned on rows. The connection stops reading from the server
+   * while the stream is paused, so the following commands are executed once the stream has ended.
+   *
+   * @param sql the {@code COPY ... TO STDOUT} statement
+   * @return the stream of the copied data
+   */
+  ReadStream<Buffer> copyTo(String sql);
+
   /**
    * @return The process ID of the target backend
    */
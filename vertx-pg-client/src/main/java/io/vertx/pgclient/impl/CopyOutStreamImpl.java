@@ -0,0 +1,192 @@
+/*
+ * Copyright (C) 2017 Julien Viet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.vertx.pgclient.impl;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+import io.vertx.core.streams.ReadStream;
+import io.vertx.pgclient.impl.command.CopyOutCommand;
+
+import java.util.ArrayDeque;
+
+/**
+ * The stream of a {@code COPY ... TO STDOUT} statement, the statement is executed when a handler is set.
+ * <p>
+ * The chunks that cannot be delivered because of the stream demand are queued and the connection stops reading
+ * until they are delivered, so the amount of queued data is bounded by the size of a socket read.
+ * <p>
+ * The failures of the data handler are reported to the exception handler, they do not affect the connection.
+ */
+public class CopyOutStreamImpl implements ReadStream<Buffer>, CopyOutCommand.Sink {
+
+  private static final Logger logger = LoggerFactory.getLogger(CopyOutStreamImpl.class);
+
+  private final PgConnectionImpl conn;
+  private final Context context;
+  private final String sql;
+  private final ArrayDeque<Buffer> pending = new ArrayDeque<>();
+  private Handler<Buffer> dataHandler;
+  private Handler<Void> endHandler;
+  private Handler<Throwable> exceptionHandler;
+  private Handler<Boolean> readControl;
+  private boolean readPaused;
+  private boolean executed;
+  private boolean emitting;
+  private long demand = Long.MAX_VALUE;
+  private AsyncResult<Integer> completion;
+
+  CopyOutStreamImpl(PgConnectionImpl conn, Context context, String sql) {
+    this.conn = conn;
+    this.context = context;
+    this.sql = sql;
+  }
+
+  @Override
+  public CopyOutStreamImpl exceptionHandler(Handler<Throwable> handler) {
+    exceptionHandler = handler;
+    return this;
+  }
+
+  @Override
+  public CopyOutStreamImpl handler(Handler<Buffer> handler) {
+    dataHandler = handler;
+    if (handler != null && !executed) {
+      executed = true;
+      conn.schedule(new CopyOutCommand(sql, this), this::handleCompletion);
+    }
+    return this;
+  }
+
+  @Override
+  public CopyOutStreamImpl pause() {
+    demand = 0L;
+    return this;
+  }
+
+  @Override
+  public CopyOutStreamImpl resume() {
+    return fetch(Long.MAX_VALUE);
+  }
+
+  @Override
+  public CopyOutStreamImpl fetch(long amount) {
+    if (amount < 0L) {
+      throw new IllegalArgumentException("Invalid fetch amount " + amount);
+    }
+    if (Vertx.currentContext() != context) {
+      context.runOnContext(v -> fetch(amount));
+      return this;
+    }
+    demand += amount;
+    if (demand < 0L) {
+      demand = Long.MAX_VALUE;
+    }
+    checkPending();
+    return this;
+  }
+
+  @Override
+  public CopyOutStreamImpl endHandler(Handler<Void> handler) {
+    endHandler = handler;
+    return this;
+  }
+
+  @Override
+  public void init(Handler<Boolean> readControl) {
+    this.readControl = readControl;
+  }
+
+  @Override
+  public void handleData(Buffer data) {
+    pending.add(data);
+    checkPending();
+    if (!pending.isEmpty() && !readPaused) {
+      readPaused = true;
+      readControl.handle(false);
+    }
+  }
+
+  private void handleCompletion(AsyncResult<Integer> ar) {
+    completion = ar;
+    if (readPaused) {
+      // The following commands must be read even if the data is not consumed yet
+      readPaused = false;
+      readControl.handle(true);
+    }
+    checkPending();
+  }
+
+  private void handleException(Throwable err) {
+    Handler<Throwable> handler = exceptionHandler;
+    if (handler != null) {
+      handler.handle(err);
+    } else {
+      logger.error("Unhandled exception", err);
+    }
+  }
+
+  private void checkPending() {
+    if (emitting) {
+      return;
+    }
+    emitting = true;
+    try {
+      Buffer data;
+      while (demand > 0L && (data = pending.poll()) != null) {
+        if (demand != Long.MAX_VALUE) {
+          demand--;
+        }
+        Handler<Buffer> handler = dataHandler;
+        if (handler != null) {
+          try {
+            handler.handle(data);
+          } catch (Exception e) {
+            handleException(e);
+          }
+        }
+      }
+      if (pending.isEmpty()) {
+        if (readPaused) {
+          readPaused = false;
+          readControl.handle(true);
+        }
+        AsyncResult<Integer> ar = completion;
+        if (ar != null) {
+          completion = null;
+          if (ar.succeeded()) {
+            Handler<Void> handler = endHandler;
+            if (handler != null) {
+              handler.handle(null);
+            }
+          } else {
+            Handler<Throwable> handler = exceptionHandler;
+            if (handler != null) {
+              handler.handle(ar.cause());
+            }
+          }
+        }
+      }
+    } finally {
+      emitting = false;
+    }
+  }
+}
@@ -20,6 +20,8 @@ package io.vertx.pgclient.impl;
 import io.vertx.pgclient.PgConnectOptions;
 import io.vertx.pgclient.SslMode;
 import io.vertx.sqlclient.impl.Connection;
+import io.vertx.sqlclient.impl.PoolFlushStats;
+import io.vertx.sqlclient.impl.PoolStatementCache;
 import io.vertx.sqlclient.impl.command.CommandResponse;
 import io.vertx.core.*;
 import io.vertx.core.impl.NetSocketInternal;
@@ -49,12 +51,24 @@ class PgConnectionFactory {
   private final int preparedStatementCacheSize;
   private final int preparedStatementCacheSqlLimit;
   private final int pipeliningLimit;
+  private final boolean lazyRowDecoding;
+  private final boolean binaryQueryResults;
   private final boolean isUsingDomainSocket;
+  private final PoolStatementCache poolStatementCache;
+  private final PoolFlushStats flushStats;
   private final Closeable hook;
 
   PgConnectionFactory(Context context,
                              boolean registerCloseHook,
                              PgConnectOptions options) {
+    this(context, registerCloseHook, options, null, null);
+  }
+
+  PgConnectionFactory(Context context,
+                             boolean registerCloseHook,
+                             PgConnectOptions options,
+                             PoolStatementCache poolStatementCache,
+                             PoolFlushStats flushStats) {
 
     hook = this::close;
     this.registerCloseHook = registerCloseHook;
@@ -82,7 +96,11 @@ class PgConnectionFactory {
     this.pipeliningLimit = options.getPipeliningLimit();
     this.preparedStatementCacheSize = options.getPreparedStatementCacheMaxSize();
     this.preparedStatementCacheSqlLimit = options.getPreparedStatementCacheSqlLimit();
+    this.lazyRowDecoding = options.getLazyRowDecoding();
+    this.binaryQueryResults = options.getBinaryQueryResults();
     this.isUsingDomainSocket = options.isUsingDomainSocket();
+    this.poolStatementCache = poolStatementCache;
+    this.flushStats = flushStats;
 
     this.client = context.owner().createNetClient(netClientOptions);
   }
@@ -101,7 +119,14 @@ class PgConnectionFactory {
   }
 
   void connectAndInit(Handler<AsyncResult<Connection>> completionHandler) {
-    connect(ar -> {
+    connectAndInit(ctx, completionHandler);
+  }
+
+  /**
+   * Connect and authenticate a connection bound to the {@code context}, this must be called on the {@code context}.
+   */
+  void connectAndInit(Context context, Handler<AsyncResult<Connection>> completionHandler) {
+    connect(context, ar -> {
       if (ar.succeeded()) {
         PgSocketConnection conn = ar.result();
         conn.init();
@@ -113,25 +138,29 @@ class PgConnectionFactory {
   }
 
   void connect(Handler<AsyncResult<PgSocketConnection>> handler) {
+    connect(ctx, handler);
+  }
+
+  void connect(Context context, Handler<AsyncResult<PgSocketConnection>> handler) {
     switch (sslMode) {
       case DISABLE:
-        doConnect(false, handler);
+        doConnect(context, false, handler);
         break;
       case ALLOW:
-        doConnect(false, ar -> {
+        doConnect(context, false, ar -> {
           if (ar.succeeded()) {
             handler.handle(Future.succeededFuture(ar.result()));
           } else {
-            doConnect(true, handler);
+            doConnect(context, true, handler);
           }
         });
         break;
       case PREFER:
-        doConnect(true, ar -> {
+        doConnect(context, true, ar -> {
           if (ar.succeeded()) {
             handler.handle(Future.succeededFuture(ar.result()));
           } else {
-            doConnect(false, handler);
+            doConnect(context, false, handler);
           }
         });
         break;
@@ -146,15 +175,15 @@ class PgConnectionFactory {
           return;
         }
       case REQUIRE:
-        doConnect(true, handler);
+        doConnect(context, true, handler);
         break;
       default:
         throw new IllegalArgumentException("Unsupported SSL mode");
     }
   }
 
-  private void doConnect(boolean ssl, Handler<AsyncResult<PgSocketConnection>> handler) {
-    if (Vertx.currentContext() != ctx) {
+  private void doConnect(Context context, boolean ssl, Handler<AsyncResult<PgSocketConnection>> handler) {
+    if (Vertx.currentContext() != context) {
       throw new IllegalStateException();
     }
     SocketAddress socketAddress;
@@ -168,7 +197,7 @@ class PgConnectionFactory {
     promise.future().setHandler(ar -> {
       if (ar.succeeded()) {
         NetSocketInternal socket = (NetSocketInternal) ar.result();
-        PgSocketConnection conn = newSocketConnection(socket);
+        PgSocketConnection conn = newSocketConnection(socket, context);
 
         if (ssl && !isUsingDomainSocket) {
           // upgrade connection to SSL if needed
@@ -195,7 +224,7 @@ class PgConnectionFactory {
     }
   }
 
-  private PgSocketConnection newSocketConnection(NetSocketInternal socket) {
-    return new PgSocketConnection(socket, cachePreparedStatements, preparedStatementCacheSize, preparedStatementCacheSqlLimit, pipeliningLimit, ctx);
+  private PgSocketConnection newSocketConnection(NetSocketInternal socket, Context context) {
+    return new PgSocketConnection(socket, cachePreparedStatements, preparedStatementCacheSize, preparedStatementCacheSqlLimit, pipeliningLimit, lazyRowDecoding, binaryQueryResults, poolStatementCache, flushStats, context);
   }
 }
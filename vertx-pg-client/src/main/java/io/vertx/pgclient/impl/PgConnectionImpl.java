@@ -19,6 +19,8 @@ package io.vertx.pgclient.impl;
 import io.vertx.pgclient.PgConnectOptions;
 import io.vertx.pgclient.PgConnection;
 import io.vertx.pgclient.PgNotification;
+import io.vertx.pgclient.impl.command.CopyInCommand;
+import io.vertx.sqlclient.Tuple;
 import io.vertx.sqlclient.impl.Connection;
 import io.vertx.sqlclient.impl.SqlConnectionImpl;
 import io.vertx.core.AsyncResult;
@@ -26,6 +28,8 @@ import io.vertx.core.Context;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.streams.ReadStream;
 
 public class PgConnectionImpl extends SqlConnectionImpl<PgConnectionImpl> implements PgConnection  {
 
@@ -77,6 +81,27 @@ public class PgConnectionImpl extends SqlConnectionImpl<PgConnectionImpl> implem
     }
   }
 
+  @Override
+  public PgConnection copyFrom(String sql, ReadStream<Buffer> data, Handler<AsyncResult<Integer>> handler) {
+    CopyInCommand cmd = new CopyInCommand(sql, data, null);
+    cmd.handler = handler;
+    schedule(cmd);
+    return this;
+  }
+
+  @Override
+  public PgConnection copyFromTuples(String sql, ReadStream<Tuple> rows, Handler<AsyncResult<Integer>> handler) {
+    CopyInCommand cmd = new CopyInCommand(sql, null, rows);
+    cmd.handler = handler;
+    schedule(cmd);
+    return this;
+  }
+
+  @Override
+  public ReadStream<Buffer> copyTo(String sql) {
+    return new CopyOutStreamImpl(this, context, sql);
+  }
+
   @Override
   public int processId() {
     return conn.getProcessId();
@@ -91,7 +116,7 @@ public class PgConnectionImpl extends SqlConnectionImpl<PgConnectionImpl> implem
   public PgConnection cancelRequest(Handler<AsyncResult<Void>> handler) {
     Context current = Vertx.currentContext();
     if (current == context) {
-      factory.connect(ar -> {
+      factory.connect(context, ar -> {
         if (ar.succeeded()) {
           PgSocketConnection conn = ar.result();
           conn.sendCancelRequestMessage(this.processId(), this.secretKey(), handler);
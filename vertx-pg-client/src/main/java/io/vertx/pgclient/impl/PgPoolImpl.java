@@ -25,11 +25,6 @@ import io.vertx.sqlclient.impl.SqlConnectionImpl;
 import io.vertx.core.*;
 
 /**
- * Todo :
- *
- * - handle timeout when acquiring a connection
- * - for per statement pooling, have several physical connection and use the less busy one to avoid head of line blocking effect
- *
  * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
  * @author <a href="mailto:emad.albloushi@gmail.com">Emad Alblueshi</a>
  */
@@ -39,12 +34,13 @@ public class PgPoolImpl extends PoolBase<PgPoolImpl> implements PgPool {
 
   public PgPoolImpl(Context context, boolean closeVertx, PgConnectOptions connectOptions, PoolOptions poolOptions) {
     super(context, closeVertx, poolOptions);
-    this.factory = new PgConnectionFactory(context, Vertx.currentContext() != null, connectOptions);
+    this.factory = new PgConnectionFactory(context, Vertx.currentContext() != null, connectOptions, statementCache(), poolFlushStats());
+    init();
   }
 
   @Override
-  public void connect(Handler<AsyncResult<Connection>> completionHandler) {
-    factory.connectAndInit(completionHandler);
+  public void connect(Context context, Handler<AsyncResult<Connection>> completionHandler) {
+    factory.connectAndInit(context, completionHandler);
   }
 
   @Override
@@ -21,6 +21,8 @@ import io.netty.channel.ChannelPipeline;
 import io.netty.handler.codec.DecoderException;
 import io.vertx.pgclient.impl.codec.PgCodec;
 import io.vertx.sqlclient.impl.Connection;
+import io.vertx.sqlclient.impl.PoolFlushStats;
+import io.vertx.sqlclient.impl.PoolStatementCache;
 import io.vertx.sqlclient.impl.SocketConnectionBase;
 import io.vertx.sqlclient.impl.command.CommandResponse;
 import io.vertx.sqlclient.impl.command.InitCommand;
@@ -35,6 +37,8 @@ import java.util.Map;
  */
 public class PgSocketConnection extends SocketConnectionBase {
 
+  private final boolean lazyRowDecoding;
+  private final boolean binaryQueryResults;
   private PgCodec codec;
   public int processId;
   public int secretKey;
@@ -44,13 +48,19 @@ public class PgSocketConnection extends SocketConnectionBase {
                             int preparedStatementCacheSize,
                             int preparedStatementCacheSqlLimit,
                             int pipeliningLimit,
+                            boolean lazyRowDecoding,
+                            boolean binaryQueryResults,
+                            PoolStatementCache poolStatementCache,
+                            PoolFlushStats flushStats,
                             Context context) {
-    super(socket, cachePreparedStatements, preparedStatementCacheSize, preparedStatementCacheSqlLimit, pipeliningLimit, context);
+    super(socket, cachePreparedStatements, preparedStatementCacheSize, preparedStatementCacheSqlLimit, pipeliningLimit, poolStatementCache, flushStats, context);
+    this.lazyRowDecoding = lazyRowDecoding;
+    this.binaryQueryResults = binaryQueryResults;
   }
 
   @Override
   public void init() {
-    codec = new PgCodec();
+    codec = new PgCodec(lazyRowDecoding, binaryQueryResults);
     ChannelPipeline pipeline = socket.channelHandlerContext().pipeline();
     pipeline.addBefore("handler", "codec", codec);
     super.init();
@@ -0,0 +1,196 @@
+/*
+ * Copyright (C) 2017 Julien Viet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.vertx.pgclient.impl.codec;
+
+import io.netty.util.concurrent.EventExecutor;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.impl.NoStackTraceThrowable;
+import io.vertx.core.streams.ReadStream;
+import io.vertx.pgclient.impl.command.CopyInCommand;
+import io.vertx.sqlclient.Tuple;
+import io.vertx.sqlclient.impl.TxStatus;
+
+/**
+ * Streams the data of a {@code COPY ... FROM STDIN} statement once the server is in copy-in mode.
+ * <p>
+ * While the data is streamed, the encoder defers the following commands as any other message than copy data
+ * would abort the copy. The stream is paused when the channel is not writable and resumed when it becomes writable.
+ */
+class CopyInCommandCodec extends PgCommandCodec<Integer, CopyInCommand> {
+
+  // Flush before the pending data reaches this size even if the stream keeps emitting synchronously
+  private static final int FLUSH_THRESHOLD = 64 * 1024;
+
+  private PgEncoder encoder;
+  private ReadStream<?> stream;
+  private DataType[] types;
+  private boolean ended;
+  private boolean paused;
+  private boolean flushScheduled;
+
+  CopyInCommandCodec(CopyInCommand cmd) {
+    super(cmd);
+  }
+
+  @Override
+  void encode(PgEncoder encoder) {
+    this.encoder = encoder;
+    encoder.writeQuery(new Query(cmd.sql()));
+    encoder.beginCopy();
+  }
+
+  @Override
+  void handleCopyInResponse() {
+    stream = cmd.rows() != null ? cmd.rows() : cmd.data();
+    stream.exceptionHandler(err -> runOnEventLoop(() -> handleStreamFailure(err)));
+    stream.endHandler(v -> runOnEventLoop(this::handleStreamEnd));
+    if (cmd.rows() != null) {
+      encoder.writeCopyBinaryHeader();
+      cmd.rows().handler(row -> runOnEventLoop(() -> handleRow(row)));
+    } else {
+      cmd.data().handler(buff -> runOnEventLoop(() -> handleData(buff)));
+    }
+  }
+
+  private void handleData(Buffer buff) {
+    if (!ended) {
+      encoder.writeCopyData(buff.getByteBuf());
+      afterWrite();
+    }
+  }
+
+  private void handleRow(Tuple row) {
+    if (ended) {
+      return;
+    }
+    int size = row.size();
+    if (types == null || types.length != size) {
+      types = new DataType[size];
+    }
+    for (int i = 0;i < size;i++) {
+      Object value = row.getValue(i);
+      if (value != null) {
+        DataType type = DataType.lookup(value.getClass());
+        if (type == null) {
+          handleStreamFailure(new IllegalArgumentException("Cannot encode " + value.getClass().getName() + " in the binary COPY format"));
+          return;
+        }
+        types[i] = type;
+      }
+    }
+    encoder.writeCopyRow(row, types);
+    afterWrite();
+  }
+
+  private void afterWrite() {
+    if (encoder.pendingBytes() >= FLUSH_THRESHOLD) {
+      flush();
+    } else if (!flushScheduled) {
+      // Coalesce the data emitted synchronously by the stream in a single flush
+      flushScheduled = true;
+      encoder.channelHandlerContext().executor().execute(() -> {
+        flushScheduled = false;
+        if (!ended) {
+          flush();
+        }
+      });
+    }
+  }
+
+  private void flush() {
+    encoder.flush();
+    if (!paused && !encoder.channelHandlerContext().channel().isWritable()) {
+      paused = true;
+      stream.pause();
+    }
+  }
+
+  @Override
+  void handleWritabilityChanged(boolean writable) {
+    if (writable && paused && !ended) {
+      paused = false;
+      stream.resume();
+    }
+  }
+
+  private void handleStreamEnd() {
+    if (!ended) {
+      if (cmd.rows() != null) {
+        encoder.writeCopyBinaryTrailer();
+      }
+      encoder.writeCopyDone();
+      end();
+    }
+  }
+
+  private void handleStreamFailure(Throwable err) {
+    if (!ended) {
+      failure = err;
+      String msg = err.getMessage();
+      encoder.writeCopyFail(msg != null ? msg : err.getClass().getName());
+      end();
+    }
+  }
+
+  private void end() {
+    ended = true;
+    if (stream != null) {
+      stream.handler(null);
+      stream.exceptionHandler(null);
+      stream.endHandler(null);
+    }
+    encoder.flush();
+    encoder.endCopy();
+  }
+
+  private void runOnEventLoop(Runnable task) {
+    EventExecutor executor = encoder.channelHandlerContext().executor();
+    if (executor.inEventLoop()) {
+      task.run();
+    } else {
+      executor.execute(task);
+    }
+  }
+
+  @Override
+  void handleCommandComplete(int updated) {
+    result = updated;
+  }
+
+  @Override
+  void handleReadyForQuery(TxStatus txStatus) {
+    if (!ended) {
+      // The statement did not switch the server to copy-in mode
+      if (failure == null) {
+        failure = new NoStackTraceThrowable("Not a COPY FROM STDIN statement");
+      }
+      end();
+    }
+    super.handleReadyForQuery(txStatus);
+  }
+
+  @Override
+  void handleErrorResponse(ErrorResponse errorResponse) {
+    if (failure == null) {
+      failure = errorResponse.toException();
+    }
+    if (!ended) {
+      // The server left the copy-in mode, stop streaming
+      end();
+    }
+  }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright (C) 2017 Julien Viet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.vertx.pgclient.impl.codec;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.pgclient.impl.command.CopyOutCommand;
+import io.vertx.sqlclient.impl.CommandData;
+
+/**
+ * A chunk of the data of a {@code COPY ... TO STDOUT} statement.
+ */
+class CopyOutChunk implements CommandData {
+
+  private final CopyOutCommand.Sink sink;
+  private final Buffer data;
+
+  CopyOutChunk(CopyOutCommand.Sink sink, Buffer data) {
+    this.sink = sink;
+    this.data = data;
+  }
+
+  @Override
+  public void deliver() {
+    sink.handleData(data);
+  }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (C) 2017 Julien Viet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.vertx.pgclient.impl.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelConfig;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.impl.NoStackTraceThrowable;
+import io.vertx.pgclient.impl.command.CopyOutCommand;
+import io.vertx.sqlclient.impl.TxStatus;
+
+/**
+ * Receives the data of a {@code COPY ... TO STDOUT} statement.
+ * <p>
+ * The payloads of the {@code CopyData} messages are copied in a chunk that is emitted at the end of each read
+ * or when it reaches {@link #CHUNK_SIZE}, so the sink does not receive one buffer per row. The chunks are delivered
+ * to the sink by the connection with the other decoded messages, not while the protocol is decoded.
+ */
+class CopyOutCommandCodec extends PgCommandCodec<Integer, CopyOutCommand> {
+
+  static final int CHUNK_SIZE = 64 * 1024;
+
+  private ChannelConfig config;
+  private PgDecoder decoder;
+  private ByteBuf chunk;
+  private boolean copying;
+
+  CopyOutCommandCodec(CopyOutCommand cmd) {
+    super(cmd);
+  }
+
+  @Override
+  void encode(PgEncoder encoder) {
+    config = encoder.channelHandlerContext().channel().config();
+    decoder = encoder.decoder();
+    encoder.writeQuery(new Query(cmd.sql()));
+  }
+
+  @Override
+  void handleCopyOutResponse() {
+    copying = true;
+    cmd.sink().init(config::setAutoRead);
+  }
+
+  @Override
+  void handleCopyData(ByteBuf data) {
+    int len = data.readableBytes();
+    if (chunk == null) {
+      chunk = Unpooled.buffer(Math.max(len, 1024));
+    }
+    chunk.writeBytes(data, data.readerIndex(), len);
+    if (chunk.readableBytes() >= CHUNK_SIZE) {
+      emitChunk();
+    }
+  }
+
+  @Override
+  void handleCopyDone() {
+    emitChunk();
+  }
+
+  @Override
+  void handleReadComplete() {
+    emitChunk();
+  }
+
+  private void emitChunk() {
+    ByteBuf data = chunk;
+    if (data != null) {
+      chunk = null;
+      decoder.fireMessage(new CopyOutChunk(cmd.sink(), Buffer.buffer(data)));
+    }
+  }
+
+  @Override
+  void handleCommandComplete(int updated) {
+    result = updated;
+  }
+
+  @Override
+  void handleErrorResponse(ErrorResponse errorResponse) {
+    failure = errorResponse.toException();
+  }
+
+  @Override
+  void handleReadyForQuery(TxStatus txStatus) {
+    emitChunk();
+    if (!copying && failure == null) {
+      failure = new NoStackTraceThrowable("Not a COPY TO STDOUT statement");
+    }
+    // The following commands must be read even if the sink did not consume all the data
+    config.setAutoRead(true);
+    super.handleReadyForQuery(txStatus);
+  }
+}
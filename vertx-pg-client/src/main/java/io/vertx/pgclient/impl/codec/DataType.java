@@ -31,7 +31,11 @@ import io.vertx.core.buffer.Buffer;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.time.*;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -54,8 +58,8 @@ enum DataType {
   FLOAT4_ARRAY(1021, true, Float[].class, Number[].class),
   FLOAT8(701, true, Double.class, Number.class),
   FLOAT8_ARRAY(1022, true, Double[].class, Number[].class),
-  NUMERIC(1700, false, Numeric.class, Number.class),
-  NUMERIC_ARRAY(1231, false, Numeric[].class, Number[].class),
+  NUMERIC(1700, true, Numeric.class, Number.class),
+  NUMERIC_ARRAY(1231, true, Numeric[].class, Number[].class),
   MONEY(790, true, Object.class),
   MONEY_ARRAY(791, true, Object[].class),
   BIT(1560, true, Object.class),
@@ -153,11 +157,33 @@ enum DataType {
     }
   }
 
+  /**
+   * Lookup the type used to encode a value in binary format without a type information from the server,
+   * e.g for the binary {@code COPY} format.
+   *
+   * @return the type or {@code null} when the Java type has no binary mapping
+   */
+  static DataType lookup(Class<?> type) {
+    DataType value = encodingTypeToDataType.get(type);
+    if (value == null && Buffer.class.isAssignableFrom(type)) {
+      value = BYTEA;
+    }
+    return value;
+  }
+
   private static IntObjectMap<DataType> oidToDataType = new IntObjectHashMap<>();
+  private static Map<Class<?>, DataType> encodingTypeToDataType = new HashMap<>();
 
   static {
     for (DataType dataType : values()) {
       oidToDataType.put(dataType.id, dataType);
+      if (dataType.supportsBinary && dataType.encodingType != Object.class && dataType.encodingType != Object[].class) {
+        encodingTypeToDataType.putIfAbsent(dataType.encodingType, dataType);
+      }
     }
+    encodingTypeToDataType.put(String.class, TEXT);
+    encodingTypeToDataType.put(String[].class, TEXT_ARRAY);
+    encodingTypeToDataType.put(BigDecimal.class, NUMERIC);
+    encodingTypeToDataType.put(BigInteger.class, NUMERIC);
   }
 }
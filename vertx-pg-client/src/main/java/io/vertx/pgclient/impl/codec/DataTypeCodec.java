@@ -31,6 +31,8 @@ import io.vertx.core.json.JsonObject;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.nio.charset.StandardCharsets;
 import java.time.*;
 import java.time.format.DateTimeFormatterBuilder;
@@ -193,6 +195,12 @@ class DataTypeCodec {
       case FLOAT8_ARRAY:
         binaryEncodeArray((Number[]) value, DataType.FLOAT8, buff);
         break;
+      case NUMERIC:
+        binaryEncodeNUMERIC((Number) value, buff);
+        break;
+      case NUMERIC_ARRAY:
+        binaryEncodeArray((Number[]) value, DataType.NUMERIC, buff);
+        break;
       case CHAR:
         binaryEncodeCHAR((String) value, buff);
         break;
@@ -370,6 +378,10 @@ class DataTypeCodec {
         return binaryDecodeFLOAT8(index, len, buff);
       case FLOAT8_ARRAY:
         return binaryDecodeArray(DOUBLE_ARRAY_FACTORY, DataType.FLOAT8, index, len, buff);
+      case NUMERIC:
+        return binaryDecodeNUMERIC(index, len, buff);
+      case NUMERIC_ARRAY:
+        return binaryDecodeArray(NUMERIC_ARRAY_FACTORY, DataType.NUMERIC, index, len, buff);
       case CHAR:
         return binaryDecodeCHAR(index, len, buff);
       case CHAR_ARRAY:
@@ -619,6 +631,12 @@ class DataTypeCodec {
         } else {
           return REFUSED_SENTINEL;
         }
+      case NUMERIC:
+        if (value instanceof Double && ((Double) value).isInfinite() || value instanceof Float && ((Float) value).isInfinite()) {
+          // NUMERIC has no representation for infinity
+          return REFUSED_SENTINEL;
+        }
+        return value == null || value instanceof Number ? value : REFUSED_SENTINEL;
       case UNKNOWN:
         if (value instanceof String[]) {
           return Arrays.stream((String[]) value).collect(Collectors.joining(",", "{", "}"));
@@ -704,9 +722,7 @@ class DataTypeCodec {
   }
 
   private static Float textDecodeFLOAT4(int index, int len, ByteBuf buff) {
-    // Todo optimize that
-    CharSequence cs = buff.getCharSequence(index, len, StandardCharsets.UTF_8);
-    return Float.parseFloat(cs.toString());
+    return decodeDecStringToFloat(index, len, buff);
   }
 
   private static Float binaryDecodeFLOAT4(int index, int len, ByteBuf buff) {
@@ -725,10 +741,131 @@ class DataTypeCodec {
     return buff.getDouble(index);
   }
 
+  private static final int NUMERIC_POS = 0x0000;
+  private static final int NUMERIC_NEG = 0x4000;
+  private static final int NUMERIC_NAN = 0xC000;
+  private static final long NUMERIC_NBASE = 10000;
+  private static final BigInteger NUMERIC_NBASE_4 = BigInteger.valueOf(NUMERIC_NBASE * NUMERIC_NBASE * NUMERIC_NBASE * NUMERIC_NBASE);
+
+  /**
+   * Encode a number in the binary {@code numeric} format: a header of four int16 (ndigits, weight, sign, dscale)
+   * followed by {@code ndigits} base-10000 digits, most significant first.
+   */
+  private static void binaryEncodeNUMERIC(Number value, ByteBuf buff) {
+    BigDecimal decimal;
+    if (value instanceof Numeric) {
+      decimal = ((Numeric) value).bigDecimalValue();
+    } else if (value instanceof BigDecimal) {
+      decimal = (BigDecimal) value;
+    } else if (value instanceof BigInteger) {
+      decimal = new BigDecimal((BigInteger) value);
+    } else if (value instanceof Double || value instanceof Float) {
+      double d = value.doubleValue();
+      decimal = Double.isNaN(d) ? null : new BigDecimal(value.toString());
+    } else if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+      decimal = BigDecimal.valueOf(value.longValue());
+    } else {
+      decimal = new BigDecimal(value.toString());
+    }
+    if (decimal == null) {
+      buff.writeShort(0);
+      buff.writeShort(0);
+      buff.writeShort(NUMERIC_NAN);
+      buff.writeShort(0);
+      return;
+    }
+    if (decimal.scale() < 0) {
+      decimal = decimal.setScale(0);
+    }
+    int dscale = decimal.scale();
+    if (decimal.signum() == 0) {
+      buff.writeShort(0);
+      buff.writeShort(0);
+      buff.writeShort(NUMERIC_POS);
+      buff.writeShort(dscale);
+      return;
+    }
+    // Align the fractional part on a base-10000 digit boundary
+    int fracGroups = (dscale + 3) / 4;
+    BigInteger unscaled = decimal.setScale(fracGroups * 4).unscaledValue().abs();
+    // Base-10000 digits, least significant first
+    short[] digits;
+    int count = 0;
+    if (unscaled.bitLength() < 63) {
+      long l = unscaled.longValue();
+      digits = new short[5];
+      while (l != 0) {
+        digits[count++] = (short) (l % NUMERIC_NBASE);
+        l /= NUMERIC_NBASE;
+      }
+    } else {
+      digits = new short[(unscaled.bitLength() / 13 + 1) + 4];
+      while (unscaled.signum() != 0) {
+        BigInteger[] qr = unscaled.divideAndRemainder(NUMERIC_NBASE_4);
+        long l = qr[1].longValue();
+        for (int i = 0;i < 4;i++) {
+          digits[count++] = (short) (l % NUMERIC_NBASE);
+          l /= NUMERIC_NBASE;
+        }
+        unscaled = qr[0];
+      }
+      while (digits[count - 1] == 0) {
+        count--;
+      }
+    }
+    int weight = count - fracGroups - 1;
+    int from = 0;
+    while (digits[from] == 0) {
+      from++;
+    }
+    buff.writeShort(count - from);
+    buff.writeShort(weight);
+    buff.writeShort(decimal.signum() < 0 ? NUMERIC_NEG : NUMERIC_POS);
+    buff.writeShort(dscale);
+    for (int i = count - 1;i >= from;i--) {
+      buff.writeShort(digits[i]);
+    }
+  }
+
+  private static Numeric binaryDecodeNUMERIC(int index, int len, ByteBuf buff) {
+    int ndigits = buff.getUnsignedShort(index);
+    int weight = buff.getShort(index + 2);
+    int sign = buff.getUnsignedShort(index + 4);
+    int dscale = buff.getUnsignedShort(index + 6);
+    if (sign == NUMERIC_NAN) {
+      return Numeric.NaN;
+    }
+    if (ndigits == 0) {
+      return Numeric.create(BigDecimal.ZERO.setScale(dscale));
+    }
+    int from = index + 8;
+    BigInteger unscaled;
+    if (ndigits <= 4) {
+      long l = 0;
+      for (int i = 0;i < ndigits;i++) {
+        l = l * NUMERIC_NBASE + buff.getShort(from + i * 2);
+      }
+      unscaled = BigInteger.valueOf(l);
+    } else {
+      unscaled = BigInteger.ZERO;
+      int i = 0;
+      while (i < ndigits) {
+        int n = Math.min(4, ndigits - i);
+        long l = 0;
+        for (int j = 0;j < n;j++) {
+          l = l * NUMERIC_NBASE + buff.getShort(from + (i + j) * 2);
+        }
+        BigInteger base = n == 4 ? NUMERIC_NBASE_4 : BigInteger.valueOf(NUMERIC_NBASE).pow(n);
+        unscaled = unscaled.multiply(base).add(BigInteger.valueOf(l));
+        i += n;
+      }
+    }
+    BigDecimal decimal = new BigDecimal(unscaled, (ndigits - 1 - weight) * 4).setScale(dscale);
+    return Numeric.create(sign == NUMERIC_NEG ? decimal.negate() : decimal);
+  }
+
   private static double textDecodeFLOAT8(int index, int len, ByteBuf buff) {
-    // Todo optimize that
-    CharSequence cs = buff.getCharSequence(index, len, StandardCharsets.UTF_8);
-    return Double.parseDouble(cs.toString());
+    return decodeDecStringToDouble(index, len, buff);
   }
 
   private static Number textDecodeNUMERIC(int index, int len, ByteBuf buff) {
@@ -1000,6 +1137,12 @@ class DataTypeCodec {
   }
 
   private static LocalDate textDecodeDATE(int index, int len, ByteBuf buff) {
+    if (len == 10) {
+      LocalDate date = decodeIsoDate(index, buff);
+      if (date != null) {
+        return date;
+      }
+    }
     CharSequence cs = buff.getCharSequence(index, len, StandardCharsets.UTF_8);
     return LocalDate.parse(cs);
   }
@@ -1014,6 +1157,10 @@ class DataTypeCodec {
   }
 
   private static LocalTime textDecodeTIME(int index, int len, ByteBuf buff) {
+    LocalTime time = decodeIsoTime(index, index + len, buff);
+    if (time != null) {
+      return time;
+    }
     CharSequence cs = buff.getCharSequence(index, len, StandardCharsets.UTF_8);
     return LocalTime.parse(cs);
   }
@@ -1032,6 +1179,15 @@ class DataTypeCodec {
   }
 
   private static OffsetTime textDecodeTIMETZ(int index, int len, ByteBuf buff) {
+    int to = index + len;
+    int offsetIdx = indexOfOffset(index, to, buff);
+    LocalTime time = decodeIsoTime(index, offsetIdx, buff);
+    if (time != null) {
+      ZoneOffset offset = decodeOffset(offsetIdx, to, buff);
+      if (offset != null) {
+        return OffsetTime.of(time, offset);
+      }
+    }
     CharSequence cs = buff.getCharSequence(index, len, StandardCharsets.UTF_8);
     return OffsetTime.parse(cs, TIMETZ_FORMAT);
   }
@@ -1045,6 +1201,13 @@ class DataTypeCodec {
   }
 
   private static LocalDateTime textDecodeTIMESTAMP(int index, int len, ByteBuf buff) {
+    if (len >= 19 && buff.getByte(index + 10) == ' ') {
+      LocalDate date = decodeIsoDate(index, buff);
+      LocalTime time = date != null ? decodeIsoTime(index + 11, index + len, buff) : null;
+      if (time != null) {
+        return LocalDateTime.of(date, time);
+      }
+    }
     CharSequence cs = buff.getCharSequence(index, len, StandardCharsets.UTF_8);
     return LocalDateTime.parse(cs, TIMESTAMP_FORMAT);
   }
@@ -1058,6 +1221,16 @@ class DataTypeCodec {
   }
 
   private static OffsetDateTime textDecodeTIMESTAMPTZ(int index, int len, ByteBuf buff) {
+    if (len >= 22 && buff.getByte(index + 10) == ' ') {
+      int to = index + len;
+      int offsetIdx = indexOfOffset(index + 11, to, buff);
+      LocalDate date = decodeIsoDate(index, buff);
+      LocalTime time = date != null ? decodeIsoTime(index + 11, offsetIdx, buff) : null;
+      ZoneOffset offset = time != null ? decodeOffset(offsetIdx, to, buff) : null;
+      if (offset != null) {
+        return OffsetDateTime.of(LocalDateTime.of(date, time), offset);
+      }
+    }
     CharSequence cs = buff.getCharSequence(index, len, StandardCharsets.UTF_8);
     return OffsetDateTime.parse(cs, TIMESTAMPTZ_FORMAT);
   }
@@ -1329,7 +1502,7 @@ class DataTypeCodec {
    * @param buff the byte buff to read from
    * @return the decoded value as a long
    */
-  private static long decodeDecStringToLong(int index, int len, ByteBuf buff) {
+  static long decodeDecStringToLong(int index, int len, ByteBuf buff) {
     long value = 0;
     if (len > 0) {
       int to = index + len;
@@ -1350,6 +1523,217 @@ class DataTypeCodec {
     return value;
   }
 
+  private static final float[] FLOAT_POWERS_OF_TEN = { 1e0f, 1e1f, 1e2f, 1e3f, 1e4f, 1e5f, 1e6f, 1e7f, 1e8f, 1e9f, 1e10f };
+  private static final double[] DOUBLE_POWERS_OF_TEN = {
+    1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+    1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+  };
+  private static final int[] NANOS_SCALE = { 0, 100_000_000, 10_000_000, 1_000_000, 100_000, 10_000, 1_000, 100, 10, 1 };
+
+  static float decodeDecStringToFloat(int index, int len, ByteBuf buff) {
+    return (float) decodeDecString(index, len, buff, true);
+  }
+
+  static double decodeDecStringToDouble(int index, int len, ByteBuf buff) {
+    return decodeDecString(index, len, buff, false);
+  }
+
+  /**
+   * Decode a decimal floating point number without intermediate string when its mantissa and its exponent
+   * are small enough to be represented exactly, so a single multiplication or division gives the correctly
+   * rounded result. Other values ({@code NaN}, {@code Infinity}, long mantissas, ...) are handed to the JDK parser.
+   */
+  private static double decodeDecString(int index, int len, ByteBuf buff, boolean single) {
+    int to = index + len;
+    int idx = index;
+    boolean neg = false;
+    if (idx < to && buff.getByte(idx) == '-') {
+      neg = true;
+      idx++;
+    }
+    int maxDigits = single ? 7 : 15;
+    long mantissa = 0;
+    int digits = 0;
+    int exponent = 0;
+    boolean hasDigits = false;
+    boolean fraction = false;
+    while (idx < to) {
+      byte b = buff.getByte(idx);
+      if (b >= '0' && b <= '9') {
+        if (mantissa != 0 || b != '0') {
+          if (++digits > maxDigits) {
+            return parseDecString(index, len, buff, single);
+          }
+          mantissa = mantissa * 10 + (b - '0');
+        }
+        if (fraction) {
+          exponent--;
+        }
+        hasDigits = true;
+      } else if (b == '.' && !fraction) {
+        fraction = true;
+      } else {
+        break;
+      }
+      idx++;
+    }
+    if (!hasDigits) {
+      return parseDecString(index, len, buff, single);
+    }
+    if (idx < to) {
+      byte b = buff.getByte(idx++);
+      if (b != 'e' && b != 'E' || idx == to) {
+        return parseDecString(index, len, buff, single);
+      }
+      boolean negExp = false;
+      b = buff.getByte(idx);
+      if (b == '-' || b == '+') {
+        negExp = b == '-';
+        if (++idx == to) {
+          return parseDecString(index, len, buff, single);
+        }
+      }
+      int exp = 0;
+      while (idx < to) {
+        b = buff.getByte(idx++);
+        if (b < '0' || b > '9' || exp > 1000) {
+          return parseDecString(index, len, buff, single);
+        }
+        exp = exp * 10 + (b - '0');
+      }
+      exponent += negExp ? -exp : exp;
+    }
+    if (mantissa == 0) {
+      return neg ? -0d : 0d;
+    }
+    double value;
+    if (single) {
+      if (exponent < -10 || exponent > 10) {
+        return parseDecString(index, len, buff, true);
+      }
+      float f = (float) mantissa;
+      value = exponent < 0 ? f / FLOAT_POWERS_OF_TEN[-exponent] : f * FLOAT_POWERS_OF_TEN[exponent];
+    } else {
+      if (exponent < -22 || exponent > 22) {
+        return parseDecString(index, len, buff, false);
+      }
+      double d = (double) mantissa;
+      value = exponent < 0 ? d / DOUBLE_POWERS_OF_TEN[-exponent] : d * DOUBLE_POWERS_OF_TEN[exponent];
+    }
+    return neg ? -value : value;
+  }
+
+  private static double parseDecString(int index, int len, ByteBuf buff, boolean single) {
+    String s = buff.toString(index, len, StandardCharsets.US_ASCII);
+    return single ? Float.parseFloat(s) : Double.parseDouble(s);
+  }
+
+  /**
+   * @return the value of the {@code n} ASCII digits at {@code index} or {@code -1} when one of them is not a digit
+   */
+  private static int decodeDigits(int index, int n, ByteBuf buff) {
+    int value = 0;
+    for (int i = 0;i < n;i++) {
+      int digit = buff.getByte(index + i) - '0';
+      if (digit < 0 || digit > 9) {
+        return -1;
+      }
+      value = value * 10 + digit;
+    }
+    return value;
+  }
+
+  /**
+   * Decode an ISO {@code YYYY-MM-DD} date.
+   *
+   * @return the date or {@code null} when the date is not in this format (e.g {@code infinity}, {@code BC} dates)
+   */
+  private static LocalDate decodeIsoDate(int index, ByteBuf buff) {
+    if (buff.getByte(index + 4) != '-' || buff.getByte(index + 7) != '-') {
+      return null;
+    }
+    int year = decodeDigits(index, 4, buff);
+    int month = decodeDigits(index + 5, 2, buff);
+    int day = decodeDigits(index + 8, 2, buff);
+    if (year < 0 || month < 0 || day < 0) {
+      return null;
+    }
+    return LocalDate.of(year, month, day);
+  }
+
+  /**
+   * Decode an ISO {@code HH:MM:SS[.fraction]} time between {@code index} and {@code to}.
+   *
+   * @return the time or {@code null} when the time is not in this format
+   */
+  private static LocalTime decodeIsoTime(int index, int to, ByteBuf buff) {
+    if (to - index < 8 || buff.getByte(index + 2) != ':' || buff.getByte(index + 5) != ':') {
+      return null;
+    }
+    int hour = decodeDigits(index, 2, buff);
+    int minute = decodeDigits(index + 3, 2, buff);
+    int second = decodeDigits(index + 6, 2, buff);
+    if (hour < 0 || minute < 0 || second < 0) {
+      return null;
+    }
+    int nanos = 0;
+    int idx = index + 8;
+    if (idx < to) {
+      int n = to - idx - 1;
+      if (buff.getByte(idx) != '.' || n < 1 || n > 9) {
+        return null;
+      }
+      int fraction = decodeDigits(idx + 1, n, buff);
+      if (fraction < 0) {
+        return null;
+      }
+      nanos = fraction * NANOS_SCALE[n];
+    }
+    return LocalTime.of(hour, minute, second, nanos);
+  }
+
+  /**
+   * @return the index of the zone offset sign following the time starting at {@code index} or {@code to}
+   */
+  private static int indexOfOffset(int index, int to, ByteBuf buff) {
+    for (int idx = index;idx < to;idx++) {
+      byte b = buff.getByte(idx);
+      if (b == '+' || b == '-') {
+        return idx;
+      }
+    }
+    return to;
+  }
+
+  /**
+   * Decode a {@code +HH[:MM[:SS]]} zone offset between {@code index} and {@code to}.
+   *
+   * @return the offset or {@code null} when the offset is not in this format
+   */
+  private static ZoneOffset decodeOffset(int index, int to, ByteBuf buff) {
+    int len = to - index;
+    if (len != 3 && len != 6 && len != 9) {
+      return null;
+    }
+    byte sign = buff.getByte(index);
+    if (sign != '+' && sign != '-') {
+      return null;
+    }
+    int hours = decodeDigits(index + 1, 2, buff);
+    int minutes = 0;
+    int seconds = 0;
+    if (len >= 6) {
+      minutes = buff.getByte(index + 3) == ':' ? decodeDigits(index + 4, 2, buff) : -1;
+    }
+    if (len == 9) {
+      seconds = buff.getByte(index + 6) == ':' ? decodeDigits(index + 7, 2, buff) : -1;
+    }
+    if (hours < 0 || minutes < 0 || seconds < 0) {
+      return null;
+    }
+    return sign == '-' ? ZoneOffset.ofHoursMinutesSeconds(-hours, -minutes, -seconds) : ZoneOffset.ofHoursMinutesSeconds(hours, minutes, seconds);
+  }
+
   /**
    * Decode the specified {@code buff} formatted as an hex string starting at the buffer readable index
    * with the specified {@code length} to a {@link Buffer}.
@@ -23,8 +23,8 @@ import java.util.List;
 
 class ExtendedBatchQueryCommandCodec<R> extends ExtendedQueryCommandBaseCodec<R, ExtendedBatchQueryCommand<R>> {
 
-  ExtendedBatchQueryCommandCodec(ExtendedBatchQueryCommand<R> cmd) {
-    super(cmd);
+  ExtendedBatchQueryCommandCodec(ExtendedBatchQueryCommand<R> cmd, boolean lazyRowDecoding) {
+    super(cmd, lazyRowDecoding);
   }
 
   @Override
@@ -21,14 +21,14 @@ import io.vertx.sqlclient.impl.command.ExtendedQueryCommandBase;
 
 abstract class ExtendedQueryCommandBaseCodec<R, C extends ExtendedQueryCommandBase<R>> extends QueryCommandBaseCodec<R, C> {
 
-  ExtendedQueryCommandBaseCodec(C cmd) {
-    super(cmd);
-    decoder = new RowResultDecoder<>(cmd.collector(), ((PgPreparedStatement)cmd.preparedStatement()).rowDesc());
+  ExtendedQueryCommandBaseCodec(C cmd, boolean lazyRowDecoding) {
+    super(cmd, lazyRowDecoding);
+    decoder = new RowResultDecoder<>(cmd.collector(), ((PgPreparedStatement)cmd.preparedStatement()).rowDesc(), lazyRowDecoding);
   }
 
   @Override
   void handleRowDescription(PgRowDesc rowDescription) {
-    decoder = new RowResultDecoder<>(cmd.collector(), rowDescription);
+    decoder = new RowResultDecoder<>(cmd.collector(), rowDescription, lazyRowDecoding);
   }
 
   @Override
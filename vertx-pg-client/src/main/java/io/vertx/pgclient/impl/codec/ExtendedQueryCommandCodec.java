@@ -22,8 +22,8 @@ import java.util.List;
 
 class ExtendedQueryCommandCodec<R> extends ExtendedQueryCommandBaseCodec<R, ExtendedQueryCommand<R>> {
 
-  ExtendedQueryCommandCodec(ExtendedQueryCommand<R> cmd) {
-    super(cmd);
+  ExtendedQueryCommandCodec(ExtendedQueryCommand<R> cmd, boolean lazyRowDecoding) {
+    super(cmd, lazyRowDecoding);
   }
 
   @Override
@@ -0,0 +1,120 @@
+/*
+ * Copyright (C) 2018 Julien Viet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.vertx.pgclient.impl.codec;
+
+import io.vertx.core.VertxException;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+import io.vertx.sqlclient.Tuple;
+import io.vertx.sqlclient.impl.command.SimpleQueryCommand;
+
+import java.util.Map;
+
+/**
+ * Executes a simple query with the extended protocol so the results are received in binary format: the
+ * unnamed statement is parsed, bound and executed with a single flush.
+ * <p>
+ * The result formats are requested by the bind before the result columns are described, so they are chosen
+ * after the columns of the previous execution of the same query: the first execution receives text results and
+ * the next ones receive binary results for the columns whose type has a binary codec.
+ */
+class ExtendedSimpleQueryCodec<T> extends QueryCommandBaseCodec<T, SimpleQueryCommand<T>> {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(PgCommandCodec.class);
+
+  private static final DataType[] NO_PARAMS = new DataType[0];
+  private static final Bind UNNAMED_TEXT_BIND = new Bind(0, NO_PARAMS, null);
+  private static final Describe UNNAMED_PORTAL = new Describe(0, "");
+
+  /**
+   * The extended protocol does not allow several statements in the same query, such queries
+   * must use the simple protocol.
+   *
+   * @return whether the {@code sql} contains a single statement
+   */
+  static boolean isSingleStatement(String sql) {
+    int idx = sql.indexOf(';');
+    if (idx != -1) {
+      for (int i = idx + 1;i < sql.length();i++) {
+        if (!Character.isWhitespace(sql.charAt(i))) {
+          return false;
+        }
+      }
+    }
+    return true;
+  }
+
+  private final Map<String, PgColumnDesc[]> resultColumns;
+  private PgColumnDesc[] bound;
+
+  ExtendedSimpleQueryCodec(SimpleQueryCommand<T> cmd, boolean lazyRowDecoding, Map<String, PgColumnDesc[]> resultColumns) {
+    super(cmd, lazyRowDecoding);
+    this.resultColumns = resultColumns;
+  }
+
+  @Override
+  void encode(PgEncoder encoder) {
+    bound = resultColumns.get(cmd.sql());
+    encoder.writeParse(new Parse(cmd.sql()));
+    encoder.writeBind(bound != null ? new Bind(0, NO_PARAMS, bound) : UNNAMED_TEXT_BIND, null, Tuple.tuple());
+    encoder.writeDescribe(UNNAMED_PORTAL);
+    encoder.writeExecute(null, 0);
+    encoder.writeSync();
+  }
+
+  @Override
+  void handleParseComplete() {
+    // Response to Parse
+  }
+
+  @Override
+  void handleBindComplete() {
+    // Response to Bind
+  }
+
+  @Override
+  void handleNoData() {
+    // Response to Describe of a statement that does not return rows
+  }
+
+  @Override
+  void handleRowDescription(PgRowDesc rowDescription) {
+    resultColumns.put(cmd.sql(), rowDescription.columns);
+    for (PgColumnDesc column : rowDescription.columns) {
+      if (column.dataFormat == DataFormat.BINARY && !column.dataType.supportsBinary) {
+        // The columns changed since the previous execution and a binary result has no codec
+        failure = new VertxException("The result columns of the query have changed, it must be executed again", true);
+        break;
+      }
+    }
+    decoder = new RowResultDecoder<>(cmd.collector(), rowDescription, lazyRowDecoding);
+  }
+
+  @Override
+  public void handleErrorResponse(ErrorResponse errorResponse) {
+    if (bound != null) {
+      // The bind formats might not match the result columns anymore
+      resultColumns.remove(cmd.sql());
+    }
+    super.handleErrorResponse(errorResponse);
+  }
+
+  @Override
+  void handleParameterStatus(String key, String value) {
+    LOGGER.debug(getClass().getSimpleName() + " should handle message ParameterStatus");
+  }
+}
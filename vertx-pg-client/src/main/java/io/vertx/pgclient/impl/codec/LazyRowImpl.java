@@ -0,0 +1,171 @@
+/*
+ * Copyright (C) 2017 Julien Viet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package io.vertx.pgclient.impl.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.vertx.pgclient.impl.RowImpl;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * A row retaining the bytes of the {@code DataRow} message, a column is decoded on its first access and
+ * the decoded value replaces the pending marker.
+ */
+class LazyRowImpl extends RowImpl {
+
+  private static final Object PENDING = new Object();
+
+  private final PgRowDesc desc;
+  private final int[] offsets;
+  private final int[] lengths;
+  private ByteBuf data;
+  private int pending;
+
+  LazyRowImpl(PgRowDesc desc, int len, ByteBuf in) {
+    super(desc);
+    this.desc = desc;
+    this.offsets = new int[len];
+    this.lengths = new int[len];
+    int start = in.readerIndex();
+    for (int c = 0; c < len; ++c) {
+      int length = in.readInt();
+      offsets[c] = in.readerIndex() - start;
+      lengths[c] = length;
+      if (length != -1) {
+        in.skipBytes(length);
+        add(PENDING);
+        pending++;
+      } else {
+        add(null);
+      }
+    }
+    if (pending > 0) {
+      // Copy as the message buffer is recycled after decoding
+      byte[] bytes = new byte[in.readerIndex() - start];
+      in.getBytes(start, bytes);
+      data = Unpooled.wrappedBuffer(bytes);
+    }
+  }
+
+  @Override
+  public Object get(int index) {
+    Object value = super.get(index);
+    if (value == PENDING) {
+      value = decode(index);
+      set(index, value);
+      if (--pending == 0) {
+        data = null;
+      }
+    }
+    return value;
+  }
+
+  private Object decode(int index) {
+    PgColumnDesc columnDesc = desc.columns[index];
+    if (columnDesc.dataFormat == DataFormat.BINARY) {
+      return DataTypeCodec.decodeBinary(columnDesc.dataType, offsets[index], lengths[index], data);
+    } else {
+      return DataTypeCodec.decodeText(columnDesc.dataType, offsets[index], lengths[index], data);
+    }
+  }
+
+  private void decodeAll() {
+    for (int i = 0;pending > 0 && i < size();i++) {
+      get(i);
+    }
+  }
+
+  // The list operations not going through get(int) need the decoded values
+
+  @Override
+  public Iterator<Object> iterator() {
+    decodeAll();
+    return super.iterator();
+  }
+
+  @Override
+  public ListIterator<Object> listIterator() {
+    decodeAll();
+    return super.listIterator();
+  }
+
+  @Override
+  public ListIterator<Object> listIterator(int index) {
+    decodeAll();
+    return super.listIterator(index);
+  }
+
+  @Override
+  public Spliterator<Object> spliterator() {
+    decodeAll();
+    return super.spliterator();
+  }
+
+  @Override
+  public void forEach(Consumer<? super Object> action) {
+    decodeAll();
+    super.forEach(action);
+  }
+
+  @Override
+  public List<Object> subList(int fromIndex, int toIndex) {
+    decodeAll();
+    return super.subList(fromIndex, toIndex);
+  }
+
+  @Override
+  public Object[] toArray() {
+    decodeAll();
+    return super.toArray();
+  }
+
+  @Override
+  public <T> T[] toArray(T[] a) {
+    decodeAll();
+    return super.toArray(a);
+  }
+
+  @Override
+  public int indexOf(Object o) {
+    decodeAll();
+    return super.indexOf(o);
+  }
+
+  @Override
+  public int lastIndexOf(Object o) {
+    decodeAll();
+    return super.lastIndexOf(o);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    decodeAll();
+    return super.equals(o);
+  }
+
+  @Override
+  public int hashCode() {
+    decodeAll();
+    return super.hashCode();
+  }
+}
@@ -29,9 +29,13 @@ public class PgCodec extends CombinedChannelDuplexHandler<PgDecoder, PgEncoder>
 
   private final ArrayDeque<PgCommandCodec<?, ?>> inflight = new ArrayDeque<>();
 
-  public PgCodec() {
-    PgDecoder decoder = new PgDecoder(inflight);
-    PgEncoder encoder = new PgEncoder(decoder, inflight);
+  public PgCodec(boolean lazyRowDecoding, boolean binaryQueryResults) {
+    this(lazyRowDecoding, binaryQueryResults, PgDecoder.CUMULATION_COPY_THRESHOLD);
+  }
+
+  PgCodec(boolean lazyRowDecoding, boolean binaryQueryResults, int cumulationCopyThreshold) {
+    PgDecoder decoder = new PgDecoder(inflight, cumulationCopyThreshold);
+    PgEncoder encoder = new PgEncoder(decoder, inflight, lazyRowDecoding, binaryQueryResults);
     init(decoder, encoder);
   }
 
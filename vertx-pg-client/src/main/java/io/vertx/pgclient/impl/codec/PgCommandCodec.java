@@ -16,6 +16,7 @@
  */
 package io.vertx.pgclient.impl.codec;
 
+import io.netty.buffer.ByteBuf;
 import io.vertx.sqlclient.impl.TxStatus;
 import io.vertx.sqlclient.impl.command.CommandResponse;
 import io.vertx.sqlclient.impl.command.CommandBase;
@@ -87,6 +88,28 @@ abstract class PgCommandCodec<R, C extends CommandBase<R>> {
     logger.warn(getClass().getSimpleName() + " should handle message CommandComplete");
   }
 
+  void handleCopyInResponse() {
+    logger.warn(getClass().getSimpleName() + " should handle message CopyInResponse");
+  }
+
+  void handleWritabilityChanged(boolean writable) {
+  }
+
+  void handleCopyOutResponse() {
+    logger.warn(getClass().getSimpleName() + " should handle message CopyOutResponse");
+  }
+
+  void handleCopyData(ByteBuf data) {
+    logger.warn(getClass().getSimpleName() + " should handle message CopyData");
+  }
+
+  void handleCopyDone() {
+    logger.warn(getClass().getSimpleName() + " should handle message CopyDone");
+  }
+
+  void handleReadComplete() {
+  }
+
   void handleAuthenticationMD5Password(byte[] salt) {
     logger.warn(getClass().getSimpleName() + " should handle message AuthenticationMD5Password");
   }
@@ -21,6 +21,7 @@ import io.netty.buffer.ByteBufAllocator;
 import io.netty.buffer.CompositeByteBuf;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.vertx.sqlclient.impl.MessageBatch;
 import io.vertx.sqlclient.impl.Notification;
 import io.vertx.sqlclient.impl.TxStatus;
 import io.vertx.pgclient.impl.util.Util;
@@ -28,6 +29,8 @@ import io.netty.buffer.ByteBuf;
 import io.netty.util.ByteProcessor;
 
 import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  *
@@ -38,79 +41,173 @@ import java.util.ArrayDeque;
 
 class PgDecoder extends ChannelInboundHandlerAdapter {
 
+  // messages up to this size are accumulated in a contiguous buffer
+  static final int CUMULATION_COPY_THRESHOLD = 64 * 1024;
+
   private final ArrayDeque<PgCommandCodec<?, ?>> inflight;
+  private ChannelHandlerContext ctx;
   private ByteBufAllocator alloc;
   private ByteBuf in;
+  private final int cumulationCopyThreshold;
+  private boolean reading;
+  // the messages decoded by the current read
+  private List<Object> batch;
 
-  PgDecoder(ArrayDeque<PgCommandCodec<?, ?>> inflight) {
+  PgDecoder(ArrayDeque<PgCommandCodec<?, ?>> inflight, int cumulationCopyThreshold) {
     this.inflight = inflight;
+    this.cumulationCopyThreshold = cumulationCopyThreshold;
   }
 
   @Override
   public void handlerAdded(ChannelHandlerContext ctx) throws Exception {
+    this.ctx = ctx;
     alloc = ctx.alloc();
   }
 
+  /**
+   * Deliver a decoded message, the messages decoded by a read are delivered at once when the read is complete.
+   */
+  void fireMessage(Object msg) {
+    if (reading) {
+      if (batch == null) {
+        batch = new ArrayList<>();
+      }
+      batch.add(msg);
+    } else {
+      ctx.fireChannelRead(msg);
+    }
+  }
+
+  private void fireBatch() {
+    List<Object> messages = batch;
+    if (messages != null) {
+      batch = null;
+      ctx.fireChannelRead(messages.size() == 1 ? messages.get(0) : new MessageBatch(messages));
+    }
+  }
+
+  @Override
+  public void channelWritabilityChanged(ChannelHandlerContext ctx) throws Exception {
+    PgCommandCodec<?, ?> codec = inflight.peek();
+    if (codec != null) {
+      codec.handleWritabilityChanged(ctx.channel().isWritable());
+    }
+    super.channelWritabilityChanged(ctx);
+  }
+
   @Override
   public void channelRead(ChannelHandlerContext ctx, Object msg) {
-    ByteBuf buff = (ByteBuf) msg;
-    if (in == null) {
-      in = buff;
-    } else {
-      CompositeByteBuf composite;
-      if (in instanceof CompositeByteBuf) {
-        composite = (CompositeByteBuf) in;
+    reading = true;
+    try {
+      ByteBuf buff = (ByteBuf) msg;
+      if (in == null) {
+        in = buff;
       } else {
-        composite = alloc.compositeBuffer();
-        composite.addComponent(true, in);
-        in = composite;
-      }
-      composite.addComponent(true, buff);
-    }
-    while (true) {
-      int available = in.readableBytes();
-      if (available < 5) {
-        break;
-      }
-      int beginIdx = in.readerIndex();
-      int length = in.getInt(beginIdx + 1);
-      if (length + 1 > available) {
-        break;
+        in = cumulate(in, buff);
       }
-      byte id = in.getByte(beginIdx);
-      int endIdx = beginIdx + length + 1;
-      final int writerIndex = in.writerIndex();
-      try {
-        in.setIndex(beginIdx + 5, endIdx);
-        switch (id) {
-          case PgProtocolConstants.MESSAGE_TYPE_READY_FOR_QUERY: {
-            decodeReadyForQuery(in);
-            break;
-          }
-          case PgProtocolConstants.MESSAGE_TYPE_DATA_ROW: {
-            decodeDataRow(in);
-            break;
-          }
-          case PgProtocolConstants.MESSAGE_TYPE_COMMAND_COMPLETE: {
-            decodeCommandComplete(in);
-            break;
-          }
-          case PgProtocolConstants.MESSAGE_TYPE_BIND_COMPLETE: {
-            decodeBindComplete();
-            break;
-          }
-          default: {
-            decodeMessage(ctx, id, in);
+      while (true) {
+        int available = in.readableBytes();
+        if (available < 5) {
+          break;
+        }
+        int beginIdx = in.readerIndex();
+        int length = in.getInt(beginIdx + 1);
+        if (length + 1 > available) {
+          break;
+        }
+        byte id = in.getByte(beginIdx);
+        int endIdx = beginIdx + length + 1;
+        final int writerIndex = in.writerIndex();
+        try {
+          in.setIndex(beginIdx + 5, endIdx);
+          switch (id) {
+            case PgProtocolConstants.MESSAGE_TYPE_READY_FOR_QUERY: {
+              decodeReadyForQuery(in);
+              break;
+            }
+            case PgProtocolConstants.MESSAGE_TYPE_DATA_ROW: {
+              decodeDataRow(in);
+              break;
+            }
+            case PgProtocolConstants.MESSAGE_TYPE_COMMAND_COMPLETE: {
+              decodeCommandComplete(in);
+              break;
+            }
+            case PgProtocolConstants.MESSAGE_TYPE_BIND_COMPLETE: {
+              decodeBindComplete();
+              break;
+            }
+            case PgProtocolConstants.MESSAGE_TYPE_COPY_DATA: {
+              decodeCopyData(in);
+              break;
+            }
+            default: {
+              decodeMessage(ctx, id, in);
+            }
           }
+        } finally {
+          in.setIndex(endIdx, writerIndex);
         }
-      } finally {
-        in.setIndex(endIdx, writerIndex);
       }
+      PgCommandCodec<?, ?> codec = inflight.peek();
+      if (codec != null) {
+        codec.handleReadComplete();
+      }
+      if (in != null && !in.isReadable()) {
+        in.release();
+        in = null;
+      }
+    } finally {
+      reading = false;
+      fireBatch();
     }
-    if (in != null && !in.isReadable()) {
-      in.release();
-      in = null;
+  }
+
+  /**
+   * Append the {@code buff} to the partial message of the {@code cumulation}, both buffers are released or owned by
+   * the returned buffer.
+   * <p>
+   * A message smaller than the copy threshold is copied in a contiguous buffer sized after the message length, so the
+   * following reads of the same message are appended without reallocation. A larger message is accumulated in a
+   * composite buffer, which is consolidated once it holds the entire message, so the message is never decoded
+   * from a composite buffer.
+   */
+  private ByteBuf cumulate(ByteBuf cumulation, ByteBuf buff) {
+    int readable = cumulation.readableBytes() + buff.readableBytes();
+    int expected = readable;
+    if (cumulation.readableBytes() >= 5) {
+      expected = Math.max(readable, cumulation.getInt(cumulation.readerIndex() + 1) + 1);
     }
+    if (expected <= cumulationCopyThreshold) {
+      if (!(cumulation instanceof CompositeByteBuf) && cumulation.refCnt() == 1 && !cumulation.isReadOnly()
+        && cumulation.writableBytes() >= buff.readableBytes()) {
+        cumulation.writeBytes(buff);
+        buff.release();
+        return cumulation;
+      }
+      ByteBuf copy = alloc.buffer(expected);
+      copy.writeBytes(cumulation);
+      copy.writeBytes(buff);
+      cumulation.release();
+      buff.release();
+      return copy;
+    }
+    CompositeByteBuf composite;
+    if (cumulation instanceof CompositeByteBuf) {
+      composite = (CompositeByteBuf) cumulation;
+    } else {
+      composite = alloc.compositeBuffer(Integer.MAX_VALUE);
+      composite.addComponent(true, cumulation);
+    }
+    composite.addComponent(true, buff);
+    if (readable >= expected) {
+      // The message is complete
+      ByteBuf copy = alloc.buffer(readable);
+      copy.writeBytes(composite);
+      composite.release();
+      return copy;
+    }
+    return composite;
   }
 
   private void decodeMessage(ChannelHandlerContext ctx, byte id, ByteBuf in) {
@@ -164,7 +261,19 @@ class PgDecoder extends ChannelInboundHandlerAdapter {
         break;
       }
       case PgProtocolConstants.MESSAGE_TYPE_NOTIFICATION_RESPONSE: {
-        decodeNotificationResponse(ctx, in);
+        decodeNotificationResponse(in);
+        break;
+      }
+      case PgProtocolConstants.MESSAGE_TYPE_COPY_IN_RESPONSE: {
+        decodeCopyInResponse();
+        break;
+      }
+      case PgProtocolConstants.MESSAGE_TYPE_COPY_OUT_RESPONSE: {
+        decodeCopyOutResponse();
+        break;
+      }
+      case PgProtocolConstants.MESSAGE_TYPE_COPY_DONE: {
+        decodeCopyDone();
         break;
       }
       default: {
@@ -420,7 +529,25 @@ class PgDecoder extends ChannelInboundHandlerAdapter {
     inflight.peek().handleBackendKeyData(processId, secretKey);
   }
 
-  private void decodeNotificationResponse(ChannelHandlerContext ctx, ByteBuf in) {
-    ctx.fireChannelRead(new Notification(in.readInt(), Util.readCStringUTF8(in), Util.readCStringUTF8(in)));
+  private void decodeCopyInResponse() {
+    // The overall and the per column formats are those specified by the statement
+    inflight.peek().handleCopyInResponse();
+  }
+
+  private void decodeCopyOutResponse() {
+    inflight.peek().handleCopyOutResponse();
+  }
+
+  private void decodeCopyData(ByteBuf in) {
+    // The payload is the readable part of the buffer, the codec must copy what it keeps
+    inflight.peek().handleCopyData(in);
+  }
+
+  private void decodeCopyDone() {
+    inflight.peek().handleCopyDone();
+  }
+
+  private void decodeNotificationResponse(ByteBuf in) {
+    fireMessage(new Notification(in.readInt(), Util.readCStringUTF8(in), Util.readCStringUTF8(in)));
   }
 }
@@ -20,6 +20,8 @@ import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelOutboundHandlerAdapter;
 import io.netty.channel.ChannelPromise;
+import io.vertx.pgclient.impl.command.CopyInCommand;
+import io.vertx.pgclient.impl.command.CopyOutCommand;
 import io.vertx.sqlclient.Tuple;
 import io.vertx.sqlclient.impl.ParamDesc;
 import io.vertx.sqlclient.impl.RowDesc;
@@ -36,6 +38,7 @@ import io.vertx.sqlclient.impl.command.SimpleQueryCommand;
 import io.vertx.pgclient.impl.util.Util;
 
 import java.util.ArrayDeque;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -59,25 +62,51 @@ final class PgEncoder extends ChannelOutboundHandlerAdapter {
   private static final byte EXECUTE = 'E';
   private static final byte CLOSE = 'C';
   private static final byte SYNC = 'S';
+  private static final byte COPY_DATA = 'd';
+  private static final byte COPY_DONE = 'c';
+  private static final byte COPY_FAIL = 'f';
+
+  // the number of queries whose result columns are remembered to request their binary formats
+  private static final int RESULT_COLUMNS_CACHE_SIZE = 256;
+
+  private static final byte[] COPY_BINARY_SIGNATURE = { 'P', 'G', 'C', 'O', 'P', 'Y', '\n', (byte) 0xFF, '\r', '\n', 0 };
 
   private final ArrayDeque<PgCommandCodec<?, ?>> inflight;
   private ChannelHandlerContext ctx;
   private ByteBuf out;
   private PgDecoder dec;
+  private final boolean lazyRowDecoding;
+  private final boolean binaryQueryResults;
+  private final Map<String, PgColumnDesc[]> resultColumns;
+  private final ArrayDeque<CommandBase<?>> deferred = new ArrayDeque<>();
+  private boolean copying;
 
-  PgEncoder(PgDecoder dec, ArrayDeque<PgCommandCodec<?, ?>> inflight) {
+  PgEncoder(PgDecoder dec, ArrayDeque<PgCommandCodec<?, ?>> inflight, boolean lazyRowDecoding, boolean binaryQueryResults) {
     this.inflight = inflight;
     this.dec = dec;
+    this.lazyRowDecoding = lazyRowDecoding;
+    this.binaryQueryResults = binaryQueryResults;
+    this.resultColumns = binaryQueryResults ? new LinkedHashMap<String, PgColumnDesc[]>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, PgColumnDesc[]> eldest) {
+        return size() > RESULT_COLUMNS_CACHE_SIZE;
+      }
+    } : null;
   }
 
   void write(CommandBase<?> cmd) {
+    if (copying) {
+      // Any message other than copy data would abort the copy
+      deferred.add(cmd);
+      return;
+    }
     PgCommandCodec<?, ?> codec = wrap(cmd);
     codec.completionHandler = resp -> {
       PgCommandCodec<?, ?> c = inflight.poll();
       resp.cmd = (CommandBase) c.cmd;
-      ctx.fireChannelRead(resp);
+      dec.fireMessage(resp);
     };
-    codec.noticeHandler = ctx::fireChannelRead;
+    codec.noticeHandler = dec::fireMessage;
     inflight.add(codec);
     codec.encode(this);
   }
@@ -86,11 +115,15 @@ final class PgEncoder extends ChannelOutboundHandlerAdapter {
     if (cmd instanceof InitCommand) {
       return new InitCommandCodec((InitCommand) cmd);
     } else if (cmd instanceof SimpleQueryCommand<?>) {
-      return new SimpleQueryCodec<>((SimpleQueryCommand<?>) cmd);
+      SimpleQueryCommand<?> queryCmd = (SimpleQueryCommand<?>) cmd;
+      if (binaryQueryResults && ExtendedSimpleQueryCodec.isSingleStatement(queryCmd.sql())) {
+        return new ExtendedSimpleQueryCodec<>(queryCmd, lazyRowDecoding, resultColumns);
+      }
+      return new SimpleQueryCodec<>(queryCmd, lazyRowDecoding);
     } else if (cmd instanceof ExtendedQueryCommand<?>) {
-      return new ExtendedQueryCommandCodec<>((ExtendedQueryCommand<?>) cmd);
+      return new ExtendedQueryCommandCodec<>((ExtendedQueryCommand<?>) cmd, lazyRowDecoding);
     } else if (cmd instanceof ExtendedBatchQueryCommand<?>) {
-      return new ExtendedBatchQueryCommandCodec<>((ExtendedBatchQueryCommand<?>) cmd);
+      return new ExtendedBatchQueryCommandCodec<>((ExtendedBatchQueryCommand<?>) cmd, lazyRowDecoding);
     } else if (cmd instanceof PrepareStatementCommand) {
       return new PrepareStatementCommandCodec((PrepareStatementCommand) cmd);
     } else if (cmd instanceof CloseConnectionCommand) {
@@ -99,6 +132,10 @@ final class PgEncoder extends ChannelOutboundHandlerAdapter {
       return new ClosePortalCommandCodec((CloseCursorCommand) cmd);
     } else if (cmd instanceof CloseStatementCommand) {
       return new CloseStatementCommandCodec((CloseStatementCommand) cmd);
+    } else if (cmd instanceof CopyInCommand) {
+      return new CopyInCommandCodec((CopyInCommand) cmd);
+    } else if (cmd instanceof CopyOutCommand) {
+      return new CopyOutCommandCodec((CopyOutCommand) cmd);
     }
     throw new AssertionError();
   }
@@ -123,6 +160,42 @@ final class PgEncoder extends ChannelOutboundHandlerAdapter {
     flush();
   }
 
+  ChannelHandlerContext channelHandlerContext() {
+    return ctx;
+  }
+
+  PgDecoder decoder() {
+    return dec;
+  }
+
+  /**
+   * @return the number of bytes encoded and not yet flushed
+   */
+  int pendingBytes() {
+    return out != null ? out.readableBytes() : 0;
+  }
+
+  /**
+   * Defer the encoding of the next commands until {@link #endCopy()} is called.
+   */
+  void beginCopy() {
+    copying = true;
+  }
+
+  /**
+   * Encode the commands deferred during the copy.
+   */
+  void endCopy() {
+    copying = false;
+    if (deferred.size() > 0) {
+      CommandBase<?> cmd;
+      while (!copying && (cmd = deferred.poll()) != null) {
+        write(cmd);
+      }
+      flush();
+    }
+  }
+
   void flush() {
     if (out != null) {
       ByteBuf buff = out;
@@ -377,8 +450,10 @@ final class PgEncoder extends ChannelOutboundHandlerAdapter {
 
     // MAKE resultColumsn non null to avoid null check
 
-    // Result columns are all in Binary format
-    if (bind.resultColumns.length > 0) {
+    if (bind.resultColumns == null) {
+      // Result columns are all in Text format
+      out.writeShort(0);
+    } else if (bind.resultColumns.length > 0) {
       out.writeShort(bind.resultColumns.length);
       for (PgColumnDesc resultColumn : bind.resultColumns) {
         out.writeShort(resultColumn.dataType.supportsBinary ? 1 : 0);
@@ -390,6 +465,91 @@ final class PgEncoder extends ChannelOutboundHandlerAdapter {
     out.setInt(pos + 1, out.writerIndex() - pos - 1);
   }
 
+  /**
+   * Send a chunk of the data of a {@code COPY FROM STDIN} statement, the chunks do not need to be aligned
+   * on rows.
+   */
+  void writeCopyData(ByteBuf data) {
+    ensureBuffer();
+    out.writeByte(COPY_DATA);
+    out.writeInt(4 + data.readableBytes());
+    out.writeBytes(data, data.readerIndex(), data.readableBytes());
+  }
+
+  /**
+   * Send the header of the binary {@code COPY} format: the signature, the flags and the header extension length.
+   */
+  void writeCopyBinaryHeader() {
+    ensureBuffer();
+    out.writeByte(COPY_DATA);
+    out.writeInt(4 + COPY_BINARY_SIGNATURE.length + 8);
+    out.writeBytes(COPY_BINARY_SIGNATURE);
+    out.writeInt(0);
+    out.writeInt(0);
+  }
+
+  /**
+   * Send a row in the binary {@code COPY} format: the number of fields followed by the length and the
+   * binary value of each field.
+   *
+   * @param types the types of the non null values of the row
+   */
+  void writeCopyRow(Tuple row, DataType[] types) {
+    ensureBuffer();
+    int pos = out.writerIndex();
+    out.writeByte(COPY_DATA);
+    out.writeInt(0);
+    int size = row.size();
+    out.writeShort(size);
+    for (int c = 0;c < size;c++) {
+      Object value = row.getValue(c);
+      if (value == null) {
+        out.writeInt(-1);
+      } else {
+        int idx = out.writerIndex();
+        out.writeInt(0);
+        DataTypeCodec.encodeBinary(types[c], value, out);
+        out.setInt(idx, out.writerIndex() - idx - 4);
+      }
+    }
+    out.setInt(pos + 1, out.writerIndex() - pos - 1);
+  }
+
+  /**
+   * Send the trailer of the binary {@code COPY} format.
+   */
+  void writeCopyBinaryTrailer() {
+    ensureBuffer();
+    out.writeByte(COPY_DATA);
+    out.writeInt(6);
+    out.writeShort(-1);
+  }
+
+  /**
+   * Terminate the data of a {@code COPY FROM STDIN} statement.
+   * <p>
+   * The response is {@link CommandComplete} or {@link ErrorResponse}.
+   */
+  void writeCopyDone() {
+    ensureBuffer();
+    out.writeByte(COPY_DONE);
+    out.writeInt(4);
+  }
+
+  /**
+   * Abort a {@code COPY FROM STDIN} statement with the {@code message} error.
+   * <p>
+   * The response is an {@link ErrorResponse}.
+   */
+  void writeCopyFail(String message) {
+    ensureBuffer();
+    int pos = out.writerIndex();
+    out.writeByte(COPY_FAIL);
+    out.writeInt(0);
+    Util.writeCStringUTF8(out, message);
+    out.setInt(pos + 1, out.writerIndex() - pos - 1);
+  }
+
   private void ensureBuffer() {
     if (out == null) {
       out = ctx.alloc().ioBuffer();
@@ -32,7 +32,14 @@ class PrepareStatementCommandCodec extends PgCommandCodec<PreparedStatement, Pre
   @Override
   void encode(PgEncoder encoder) {
     encoder.writeParse(new Parse(cmd.sql(), cmd.statement()));
-    encoder.writeDescribe(new Describe(cmd.statement(), null));
+    if (cmd.metadata instanceof PgPreparedStatement) {
+      // Another connection described the statement already
+      PgPreparedStatement metadata = (PgPreparedStatement) cmd.metadata;
+      parameterDesc = metadata.paramDesc;
+      rowDesc = metadata.rowDesc;
+    } else {
+      encoder.writeDescribe(new Describe(cmd.statement(), null));
+    }
     encoder.writeSync();
   }
 
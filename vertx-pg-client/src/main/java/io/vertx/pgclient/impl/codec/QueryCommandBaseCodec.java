@@ -24,10 +24,12 @@ import java.util.stream.Collector;
 
 abstract class QueryCommandBaseCodec<T, C extends QueryCommandBase<T>> extends PgCommandCodec<Boolean, C> {
 
+  final boolean lazyRowDecoding;
   RowResultDecoder<?, T> decoder;
 
-  QueryCommandBaseCodec(C cmd) {
+  QueryCommandBaseCodec(C cmd, boolean lazyRowDecoding) {
     super(cmd);
+    this.lazyRowDecoding = lazyRowDecoding;
   }
 
   @Override
@@ -18,8 +18,10 @@
 package io.vertx.pgclient.impl.codec;
 
 import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowVisitor;
 import io.vertx.pgclient.impl.RowImpl;
 import io.netty.buffer.ByteBuf;
+import io.vertx.sqlclient.impl.ColumnarRowSetImpl;
 import io.vertx.sqlclient.impl.RowDecoder;
 
 import java.util.stream.Collector;
@@ -27,14 +29,23 @@ import java.util.stream.Collector;
 class RowResultDecoder<C, R> extends RowDecoder<C, R> {
 
   final PgRowDesc desc;
+  final boolean lazy;
 
   RowResultDecoder(Collector<Row, C, R> collector, PgRowDesc desc) {
+    this(collector, desc, false);
+  }
+
+  RowResultDecoder(Collector<Row, C, R> collector, PgRowDesc desc, boolean lazy) {
     super(collector);
     this.desc = desc;
+    this.lazy = lazy;
   }
 
   @Override
   protected Row decodeRow(int len, ByteBuf in) {
+    if (lazy) {
+      return new LazyRowImpl(desc, len, in);
+    }
     Row row = new RowImpl(desc);
     for (int c = 0; c < len; ++c) {
       int length = in.readInt();
@@ -52,4 +63,91 @@ class RowResultDecoder<C, R> extends RowDecoder<C, R> {
     }
     return row;
   }
+
+  @Override
+  protected void visitRow(int len, ByteBuf in, RowVisitor visitor) {
+    visitor.startRow();
+    for (int c = 0; c < len; ++c) {
+      int length = in.readInt();
+      PgColumnDesc columnDesc = desc.columns[c];
+      boolean binary = columnDesc.dataFormat == DataFormat.BINARY;
+      if (length == -1) {
+        visitor.visitField(c, columnDesc.dataType.id, binary, in, -1, -1);
+      } else {
+        visitor.visitField(c, columnDesc.dataType.id, binary, in, in.readerIndex(), length);
+        in.skipBytes(length);
+      }
+    }
+    visitor.endRow();
+  }
+
+  @Override
+  protected void decodeColumns(int len, ByteBuf in, ColumnarRowSetImpl columns) {
+    if (!columns.isInitialized()) {
+      ColumnarRowSetImpl.ColumnType[] types = new ColumnarRowSetImpl.ColumnType[len];
+      for (int c = 0;c < len;c++) {
+        types[c] = columnType(desc.columns[c].dataType);
+      }
+      columns.init(types);
+    }
+    for (int c = 0; c < len; ++c) {
+      int length = in.readInt();
+      if (length == -1) {
+        columns.setNull(c);
+        continue;
+      }
+      PgColumnDesc columnDesc = desc.columns[c];
+      int index = in.readerIndex();
+      boolean binary = columnDesc.dataFormat == DataFormat.BINARY;
+      switch (columnDesc.dataType) {
+        case INT2:
+          columns.setInt(c, binary ? in.getShort(index) : (int) DataTypeCodec.decodeDecStringToLong(index, length, in));
+          break;
+        case INT4:
+          columns.setInt(c, binary ? in.getInt(index) : (int) DataTypeCodec.decodeDecStringToLong(index, length, in));
+          break;
+        case INT8:
+          columns.setLong(c, binary ? in.getLong(index) : DataTypeCodec.decodeDecStringToLong(index, length, in));
+          break;
+        case FLOAT4:
+          if (binary) {
+            columns.setDouble(c, in.getFloat(index));
+          } else {
+            columns.setDouble(c, DataTypeCodec.decodeDecStringToFloat(index, length, in));
+          }
+          break;
+        case FLOAT8:
+          if (binary) {
+            columns.setDouble(c, in.getDouble(index));
+          } else {
+            columns.setDouble(c, DataTypeCodec.decodeDecStringToDouble(index, length, in));
+          }
+          break;
+        default:
+          if (binary) {
+            columns.setValue(c, DataTypeCodec.decodeBinary(columnDesc.dataType, index, length, in));
+          } else {
+            columns.setValue(c, DataTypeCodec.decodeText(columnDesc.dataType, index, length, in));
+          }
+          break;
+      }
+      in.skipBytes(length);
+    }
+    columns.endRow();
+  }
+
+  private static ColumnarRowSetImpl.ColumnType columnType(DataType dataType) {
+    switch (dataType) {
+      case INT2:
+      case INT4:
+        return ColumnarRowSetImpl.ColumnType.INT;
+      case INT8:
+        return ColumnarRowSetImpl.ColumnType.LONG;
+      case FLOAT4:
+      case FLOAT8:
+        return ColumnarRowSetImpl.ColumnType.DOUBLE;
+      default:
+        return ColumnarRowSetImpl.ColumnType.OBJECT;
+    }
+  }
 }
@@ -24,8 +24,8 @@ class SimpleQueryCodec<T> extends QueryCommandBaseCodec<T, SimpleQueryCommand<T>
 
   private static final Logger LOGGER = LoggerFactory.getLogger(PgCommandCodec.class);
 
-  SimpleQueryCodec(SimpleQueryCommand<T> cmd) {
-    super(cmd);
+  SimpleQueryCodec(SimpleQueryCommand<T> cmd, boolean lazyRowDecoding) {
+    super(cmd, lazyRowDecoding);
   }
 
   @Override
@@ -35,7 +35,7 @@ class SimpleQueryCodec<T> extends QueryCommandBaseCodec<T, SimpleQueryCommand<T>
 
   @Override
   void handleRowDescription(PgRowDesc rowDescription) {
-    decoder = new RowResultDecoder<>(cmd.collector(), rowDescription);
+    decoder = new RowResultDecoder<>(cmd.collector(), rowDescription, lazyRowDecoding);
   }
 
   @Override
@@ -0,0 +1,57 @@
+/*
+ * Copyright (C) 2017 Julien Viet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.vertx.pgclient.impl.command;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.streams.ReadStream;
+import io.vertx.sqlclient.Tuple;
+import io.vertx.sqlclient.impl.command.CommandBase;
+
+/**
+ * Execute a {@code COPY ... FROM STDIN} statement, the data is either provided as a stream of buffers in the format
+ * of the statement or as a stream of tuples encoded by the client in the binary {@code COPY} format.
+ */
+public class CopyInCommand extends CommandBase<Integer> {
+
+  private final String sql;
+  private final ReadStream<Buffer> data;
+  private final ReadStream<Tuple> rows;
+
+  public CopyInCommand(String sql, ReadStream<Buffer> data, ReadStream<Tuple> rows) {
+    this.sql = sql;
+    this.data = data;
+    this.rows = rows;
+  }
+
+  public String sql() {
+    return sql;
+  }
+
+  /**
+   * @return the raw data stream or {@code null} when the command copies {@link #rows()}
+   */
+  public ReadStream<Buffer> data() {
+    return data;
+  }
+
+  /**
+   * @return the rows stream or {@code null} when the command copies {@link #data()}
+   */
+  public ReadStream<Tuple> rows() {
+    return rows;
+  }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright (C) 2017 Julien Viet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.vertx.pgclient.impl.command;
+
+import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.sqlclient.impl.command.CommandBase;
+
+/**
+ * Execute a {@code COPY ... TO STDOUT} statement, the data sent by the server is delivered to a {@link Sink}.
+ */
+public class CopyOutCommand extends CommandBase<Integer> {
+
+  /**
+   * Receives the data of the copy.
+   */
+  public interface Sink {
+
+    /**
+     * Called when the server starts to send data.
+     *
+     * @param readControl called with {@code false} to stop reading from the connection and with {@code true}
+     *                    to read again
+     */
+    void init(Handler<Boolean> readControl);
+
+    /**
+     * Called with chunks of the data, the chunks are not aligned on rows.
+     */
+    void handleData(Buffer data);
+
+  }
+
+  private final String sql;
+  private final Sink sink;
+
+  public CopyOutCommand(String sql, Sink sink) {
+    this.sql = sql;
+    this.sink = sink;
+  }
+
+  public String sql() {
+    return sql;
+  }
+
+  public Sink sink() {
+    return sink;
+  }
+}
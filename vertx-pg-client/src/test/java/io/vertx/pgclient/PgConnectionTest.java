@@ -17,14 +17,25 @@
 
 package io.vertx.pgclient;
 
+import io.vertx.core.Context;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.streams.ReadStream;
+import io.vertx.sqlclient.Row;
 import io.vertx.sqlclient.SqlResult;
 import io.vertx.sqlclient.Tuple;
 import io.vertx.ext.unit.Async;
 import io.vertx.ext.unit.TestContext;
 import org.junit.Test;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
@@ -47,6 +58,53 @@ public class PgConnectionTest extends PgConnectionTestBase {
     }));
   }
 
+  @Test
+  public void testBinaryQueryResults(TestContext ctx) {
+    Async async = ctx.async();
+    PgConnection.connect(vertx, new PgConnectOptions(options).setBinaryQueryResults(true), ctx.asyncAssertSuccess(conn -> {
+      conn.query("SELECT 4::INT4 \"i\", 'foo'::TEXT \"t\", '2017-05-14 19:35:58.237666'::TIMESTAMP \"ts\", NULL::INT8 \"n\"", ctx.asyncAssertSuccess(result -> {
+        ctx.assertEquals(1, result.size());
+        Row row = result.iterator().next();
+        ctx.assertEquals(4, row.getInteger("i"));
+        ctx.assertEquals("foo", row.getString("t"));
+        ctx.assertEquals(LocalDateTime.parse("2017-05-14T19:35:58.237666"), row.getLocalDateTime("ts"));
+        ctx.assertNull(row.getLong("n"));
+        conn.query("SELECT 1 \"a\"; SELECT 2 \"b\"", ctx.asyncAssertSuccess(multi -> {
+          ctx.assertEquals(1, multi.iterator().next().getInteger("a"));
+          ctx.assertEquals(2, multi.next().iterator().next().getInteger("b"));
+          conn.query("SELEC 1", ctx.asyncAssertFailure(err -> {
+            conn.query("SELECT 3", ctx.asyncAssertSuccess(last -> {
+              ctx.assertEquals(3, last.iterator().next().getInteger(0));
+              async.complete();
+            }));
+          }));
+        }));
+      }));
+    }));
+  }
+
+  @Test
+  public void testBinaryQueryResultsWithoutBinaryCodec(TestContext ctx) {
+    Async async = ctx.async();
+    String sql = "SELECT 4::INT4 \"i\", '[1,10)'::INT4RANGE \"r\", 'a fat cat'::TSVECTOR \"v\"";
+    PgConnection.connect(vertx, new PgConnectOptions(options).setBinaryQueryResults(true), ctx.asyncAssertSuccess(conn -> {
+      conn.query(sql, ctx.asyncAssertSuccess(result1 -> {
+        Row row1 = result1.iterator().next();
+        ctx.assertEquals(4, row1.getInteger("i"));
+        ctx.assertEquals("[1,10)", row1.getString("r"));
+        ctx.assertEquals("'a' 'cat' 'fat'", row1.getString("v"));
+        // Executed again with the result formats of the first execution
+        conn.query(sql, ctx.asyncAssertSuccess(result2 -> {
+          Row row2 = result2.iterator().next();
+          ctx.assertEquals(4, row2.getInteger("i"));
+          ctx.assertEquals("[1,10)", row2.getString("r"));
+          ctx.assertEquals("'a' 'cat' 'fat'", row2.getString("v"));
+          async.complete();
+        }));
+      }));
+    }));
+  }
+
   @Test
   public void testBatchUpdate(TestContext ctx) {
     Async async = ctx.async();
@@ -97,6 +155,32 @@ public class PgConnectionTest extends PgConnectionTestBase {
     }));
   }
 
+  @Test
+  public void testScheduleFromPipelinedResponses(TestContext ctx) {
+    // The responses of a socket read are handled together, the queries they schedule are written afterwards
+    int num = 256;
+    Async async = ctx.async(2 * num);
+    List<Integer> order = new ArrayList<>();
+    connector.accept(ctx.asyncAssertSuccess(conn -> {
+      for (int i = 0;i < num;i++) {
+        int val = i;
+        conn.preparedQuery("SELECT $1::INT4", Tuple.of(val), ctx.asyncAssertSuccess(rs1 -> {
+          order.add(rs1.iterator().next().getInteger(0));
+          conn.preparedQuery("SELECT $1::INT4", Tuple.of(num + val), ctx.asyncAssertSuccess(rs2 -> {
+            order.add(rs2.iterator().next().getInteger(0));
+            async.countDown();
+          }));
+          async.countDown();
+        }));
+      }
+    }));
+    async.awaitSuccess(20000);
+    ctx.assertEquals(2 * num, order.size());
+    for (int i = 0;i < 2 * num;i++) {
+      ctx.assertEquals(i, order.get(i));
+    }
+  }
+
   @Test
   public void testCancelRequest(TestContext ctx) {
     Async async = ctx.async(2);
@@ -114,4 +198,241 @@ public class PgConnectionTest extends PgConnectionTestBase {
       conn.close();
     }));
   }
+
+  @Test
+  public void testCopyFrom(TestContext ctx) {
+    Async async = ctx.async();
+    connector.accept(ctx.asyncAssertSuccess(conn -> {
+      deleteFromTestTable(ctx, conn, () -> {
+        List<Buffer> data = Arrays.asList(Buffer.buffer("1\tval-1\n2\tva"), Buffer.buffer("l-2\n3\tval-3\n"));
+        ((PgConnection) conn).copyFrom("COPY Test (id, val) FROM STDIN", new ListStream<>(data, null), ctx.asyncAssertSuccess(count -> {
+          ctx.assertEquals(3, count);
+          conn.query("SELECT val FROM Test WHERE id = 2", ctx.asyncAssertSuccess(result -> {
+            ctx.assertEquals("val-2", result.iterator().next().getString(0));
+            async.complete();
+          }));
+        }));
+      });
+    }));
+  }
+
+  @Test
+  public void testCopyFromTuples(TestContext ctx) {
+    Async async = ctx.async();
+    int num = 10000;
+    List<Tuple> rows = new ArrayList<>();
+    for (int i = 0;i < num;i++) {
+      rows.add(Tuple.of(i, "val-" + i));
+    }
+    connector.accept(ctx.asyncAssertSuccess(conn -> {
+      deleteFromTestTable(ctx, conn, () -> {
+        ((PgConnection) conn).copyFromTuples("COPY Test (id, val) FROM STDIN (FORMAT BINARY)", new ListStream<>(rows, null), ctx.asyncAssertSuccess(count -> {
+          ctx.assertEquals(num, count);
+          conn.query("SELECT COUNT(*), MAX(val) FROM Test", ctx.asyncAssertSuccess(result -> {
+            Row row = result.iterator().next();
+            ctx.assertEquals((long) num, row.getLong(0));
+            ctx.assertEquals("val-9999", row.getString(1));
+            async.complete();
+          }));
+        }));
+      });
+    }));
+  }
+
+  @Test
+  public void testCopyFromStreamFailure(TestContext ctx) {
+    Async async = ctx.async();
+    connector.accept(ctx.asyncAssertSuccess(conn -> {
+      deleteFromTestTable(ctx, conn, () -> {
+        Exception failure = new Exception("the-failure");
+        List<Buffer> data = Collections.singletonList(Buffer.buffer("1\tval-1\n"));
+        ((PgConnection) conn).copyFrom("COPY Test (id, val) FROM STDIN", new ListStream<>(data, failure), ctx.asyncAssertFailure(err -> {
+          ctx.assertEquals(failure, err);
+        }));
+        // Scheduled while the copy is in progress
+        conn.query("SELECT COUNT(*) FROM Test", ctx.asyncAssertSuccess(result -> {
+          ctx.assertEquals(0L, result.iterator().next().getLong(0));
+          async.complete();
+        }));
+      });
+    }));
+  }
+
+  @Test
+  public void testCopyFromStatementFailure(TestContext ctx) {
+    Async async = ctx.async();
+    connector.accept(ctx.asyncAssertSuccess(conn -> {
+      List<Buffer> data = Collections.singletonList(Buffer.buffer("1\tval-1\n"));
+      ((PgConnection) conn).copyFrom("COPY DoesNotExist FROM STDIN", new ListStream<>(data, null), ctx.asyncAssertFailure(err -> {
+        conn.query("SELECT 1", ctx.asyncAssertSuccess(result -> {
+          async.complete();
+        }));
+      }));
+    }));
+  }
+
+  @Test
+  public void testCopyTo(TestContext ctx) {
+    Async async = ctx.async();
+    int num = 10000;
+    List<Tuple> rows = new ArrayList<>();
+    StringBuilder expected = new StringBuilder();
+    for (int i = 0;i < num;i++) {
+      rows.add(Tuple.of(i, "val-" + i));
+      expected.append(i).append(",val-").append(i).append('\n');
+    }
+    connector.accept(ctx.asyncAssertSuccess(conn -> {
+      deleteFromTestTable(ctx, conn, () -> {
+        ((PgConnection) conn).copyFromTuples("COPY Test (id, val) FROM STDIN (FORMAT BINARY)", new ListStream<>(rows, null), ctx.asyncAssertSuccess(count -> {
+          Buffer data = Buffer.buffer();
+          ReadStream<Buffer> stream = ((PgConnection) conn).copyTo("COPY (SELECT id, val FROM Test ORDER BY id) TO STDOUT (FORMAT CSV)");
+          stream.exceptionHandler(ctx::fail);
+          stream.endHandler(v -> {
+            ctx.assertEquals(expected.toString(), data.toString());
+            conn.query("SELECT 1", ctx.asyncAssertSuccess(result -> {
+              async.complete();
+            }));
+          });
+          // Consume one chunk at a time to exercise the back-pressure
+          stream.pause();
+          stream.handler(chunk -> {
+            data.appendBuffer(chunk);
+            vertx.setTimer(1, id -> stream.fetch(1));
+          });
+          stream.fetch(1);
+        }));
+      });
+    }));
+  }
+
+  @Test
+  public void testCopyToStatementFailure(TestContext ctx) {
+    Async async = ctx.async();
+    connector.accept(ctx.asyncAssertSuccess(conn -> {
+      ReadStream<Buffer> stream = ((PgConnection) conn).copyTo("COPY DoesNotExist TO STDOUT");
+      stream.endHandler(v -> ctx.fail());
+      stream.exceptionHandler(err -> {
+        conn.query("SELECT 1", ctx.asyncAssertSuccess(result -> {
+          async.complete();
+        }));
+      });
+      stream.handler(chunk -> ctx.fail());
+    }));
+  }
+
+  @Test
+  public void testCopyToDataHandlerFailure(TestContext ctx) {
+    Async async = ctx.async(2);
+    RuntimeException failure = new RuntimeException();
+    connector.accept(ctx.asyncAssertSuccess(conn -> {
+      ReadStream<Buffer> stream = ((PgConnection) conn).copyTo("COPY (SELECT generate_series(1, 1000)) TO STDOUT");
+      AtomicBoolean failed = new AtomicBoolean();
+      stream.exceptionHandler(err -> {
+        ctx.assertEquals(failure, err);
+        async.countDown();
+      });
+      stream.endHandler(v -> {
+        // The connection is not affected by the failure of the handler
+        conn.query("SELECT 1", ctx.asyncAssertSuccess(result -> {
+          async.countDown();
+        }));
+      });
+      stream.handler(chunk -> {
+        if (failed.compareAndSet(false, true)) {
+          throw failure;
+        }
+      });
+    }));
+  }
+
+  @Test
+  public void testCopyToNotConsumed(TestContext ctx) {
+    Async async = ctx.async();
+    connector.accept(ctx.asyncAssertSuccess(conn -> {
+      ReadStream<Buffer> stream = ((PgConnection) conn).copyTo("COPY (SELECT generate_series(1, 10)) TO STDOUT");
+      stream.exceptionHandler(ctx::fail);
+      stream.endHandler(v -> async.complete());
+      stream.pause();
+      stream.handler(chunk -> {});
+      // The following command is read even though the data of the copy is not consumed
+      conn.query("SELECT 1", ctx.asyncAssertSuccess(result -> {
+        stream.resume();
+      }));
+    }));
+  }
+
+  /**
+   * Emits the items of a list asynchronously, then ends or fails.
+   */
+  private static class ListStream<T> implements ReadStream<T> {
+
+    private final Context context = Vertx.currentContext();
+    private final Iterator<T> items;
+    private final Throwable failure;
+    private Handler<T> handler;
+    private Handler<Void> endHandler;
+    private Handler<Throwable> exceptionHandler;
+    private boolean paused;
+    private boolean ended;
+
+    ListStream(List<T> items, Throwable failure) {
+      this.items = items.iterator();
+      this.failure = failure;
+    }
+
+    private void drain() {
+      while (!paused && handler != null && items.hasNext()) {
+        handler.handle(items.next());
+      }
+      if (!paused && !ended && !items.hasNext()) {
+        ended = true;
+        if (failure != null) {
+          if (exceptionHandler != null) {
+            exceptionHandler.handle(failure);
+          }
+        } else if (endHandler != null) {
+          endHandler.handle(null);
+        }
+      }
+    }
+
+    @Override
+    public ReadStream<T> exceptionHandler(Handler<Throwable> handler) {
+      exceptionHandler = handler;
+      return this;
+    }
+
+    @Override
+    public ReadStream<T> handler(Handler<T> handler) {
+      this.handler = handler;
+      if (handler != null) {
+        context.runOnContext(v -> drain());
+      }
+      return this;
+    }
+
+    @Override
+    public ReadStream<T> pause() {
+      paused = true;
+      return this;
+    }
+
+    @Override
+    public ReadStream<T> resume() {
+      paused = false;
+      context.runOnContext(v -> drain());
+      return this;
+    }
+
+    @Override
+    public ReadStream<T> fetch(long amount) {
+      return resume();
+    }
+
+    @Override
+    public ReadStream<T> endHandler(Handler<Void> handler) {
+      endHandler = handler;
+      return this;
+    }
+  }
 }
@@ -428,4 +428,93 @@ public abstract class PgConnectionTestBase extends PgClientTestBase<SqlConnectio
       });
     }));
   }
+
+  @Test
+  public void testPipelinedTransactionCommit(TestContext ctx) {
+    Async done = ctx.async();
+    connector.accept(ctx.asyncAssertSuccess(conn -> {
+      deleteFromTestTable(ctx, conn, () -> {
+        Transaction tx = conn.begin(true);
+        AtomicInteger updated = new AtomicInteger();
+        for (int i = 1;i <= 10;i++) {
+          conn.query("INSERT INTO Test (id, val) VALUES (" + i + ", 'val-" + i + "')", ctx.asyncAssertSuccess(res -> {
+            updated.addAndGet(res.rowCount());
+          }));
+        }
+        tx.commit(ctx.asyncAssertSuccess(v -> {
+          ctx.assertEquals(10, updated.get());
+          conn.query("SELECT id FROM Test", ctx.asyncAssertSuccess(result -> {
+            ctx.assertEquals(10, result.size());
+            done.complete();
+          }));
+        }));
+      });
+    }));
+  }
+
+  @Test
+  public void testPipelinedTransactionAbort(TestContext ctx) {
+    Async done = ctx.async();
+    connector.accept(ctx.asyncAssertSuccess(conn -> {
+      deleteFromTestTable(ctx, conn, () -> {
+        Transaction tx = conn.begin(true);
+        AtomicInteger failures = new AtomicInteger();
+        tx.abortHandler(v -> ctx.assertEquals(0, failures.getAndIncrement()));
+        AtomicReference<AsyncResult<RowSet<Row>>> queryAfterFailed = new AtomicReference<>();
+        AtomicReference<AsyncResult<Void>> commit = new AtomicReference<>();
+        conn.query("INSERT INTO Test (id, val) VALUES (1, 'val-1')", ctx.asyncAssertSuccess());
+        conn.query("INSERT INTO Test (id, val) VALUES (1, 'val-2')", ar2 -> {
+          ctx.assertNotNull(queryAfterFailed.get());
+          ctx.assertTrue(queryAfterFailed.get().failed());
+          ctx.assertEquals("rollback exception", queryAfterFailed.get().cause().getMessage());
+          ctx.assertNotNull(commit.get());
+          ctx.assertTrue(commit.get().failed());
+          ctx.assertTrue(ar2.failed());
+          // The statements after the COMMIT are not in the transaction
+          conn.query("SELECT id FROM Test WHERE id=1", ctx.asyncAssertSuccess(result -> {
+            ctx.assertEquals(0, result.size());
+            ctx.assertEquals(1, failures.get());
+            done.complete();
+          }));
+        });
+        conn.query("SELECT id FROM Test", queryAfterFailed::set);
+        tx.commit(commit::set);
+      });
+    }));
+  }
+
+  @Test
+  public void testPipelinedTransactionRollback(TestContext ctx) {
+    Async done = ctx.async();
+    connector.accept(ctx.asyncAssertSuccess(conn -> {
+      deleteFromTestTable(ctx, conn, () -> {
+        Transaction tx = conn.begin(true);
+        conn.query("INSERT INTO Test (id, val) VALUES (1, 'val-1')", ctx.asyncAssertSuccess(res -> {
+          ctx.assertEquals(1, res.rowCount());
+        }));
+        tx.rollback(ctx.asyncAssertSuccess(v -> {
+          conn.query("SELECT id FROM Test WHERE id=1", ctx.asyncAssertSuccess(result -> {
+            ctx.assertEquals(0, result.size());
+            done.complete();
+          }));
+        }));
+      });
+    }));
+  }
+
+  @Test
+  public void testPipelinedTransactionWithoutStatements(TestContext ctx) {
+    Async done = ctx.async();
+    connector.accept(ctx.asyncAssertSuccess(conn -> {
+      Transaction tx = conn.begin(true);
+      tx.commit(ctx.asyncAssertSuccess(v -> {
+        // The transaction has ended, another one can begin
+        Transaction tx2 = conn.begin();
+        conn.query("SELECT 1", ctx.asyncAssertSuccess(result -> {
+          ctx.assertEquals(1, result.size());
+          tx2.commit(ctx.asyncAssertSuccess(v2 -> done.complete()));
+        }));
+      }));
+    }));
+  }
 }
@@ -17,8 +17,15 @@
 
 package io.vertx.pgclient;
 
+import io.vertx.sqlclient.FlushStats;
 import io.vertx.sqlclient.PoolOptions;
+import io.vertx.sqlclient.PreparedStatementCacheStats;
+import io.vertx.sqlclient.Row;
 import io.vertx.sqlclient.Tuple;
+import io.vertx.core.AbstractVerticle;
+import io.vertx.core.Context;
+import io.vertx.core.DeploymentOptions;
+import io.vertx.core.Vertx;
 import io.vertx.ext.unit.Async;
 import io.vertx.ext.unit.TestContext;
 import org.junit.Test;
@@ -150,4 +157,157 @@ public class PgPoolTest extends PgPoolTestBase {
       }));
     }
   }
+
+  @Test
+  public void testShardedPool(TestContext ctx) {
+    int numVerticles = 2;
+    PgPool pool = PgPool.pool(vertx, options, new PoolOptions().setMaxSize(numVerticles).setSharded(true));
+    Async async = ctx.async(numVerticles);
+    vertx.deployVerticle(() -> new AbstractVerticle() {
+      @Override
+      public void start() {
+        Context context = Vertx.currentContext();
+        pool.getConnection(ctx.asyncAssertSuccess(conn -> {
+          ctx.assertEquals(context, Vertx.currentContext());
+          conn.query("SELECT id, randomnumber from WORLD", ctx.asyncAssertSuccess(v -> {
+            ctx.assertEquals(context, Vertx.currentContext());
+            conn.close();
+            async.countDown();
+          }));
+        }));
+      }
+    }, new DeploymentOptions().setInstances(numVerticles));
+    try {
+      async.await(4000);
+    } finally {
+      pool.close();
+    }
+  }
+
+  @Test
+  public void testPipelinedPool(TestContext ctx) {
+    PgPool pool = PgPool.pool(vertx, options, new PoolOptions().setMaxSize(1).setPipelined(true));
+    int numRequests = 10;
+    Async async = ctx.async(numRequests);
+    pool.query("SELECT 1", ctx.asyncAssertSuccess(v -> {
+      // The connection is idle, the queries are pipelined on it
+      FlushStats stats = pool.flushStats();
+      long flushes = stats.flushes();
+      for (int i = 0;i < numRequests;i++) {
+        int id = 1 + i;
+        pool.preparedQuery("SELECT id, randomnumber from WORLD WHERE id=$1", Tuple.of(id), ctx.asyncAssertSuccess(rows -> {
+          ctx.assertEquals(1, rows.size());
+          ctx.assertEquals(id, rows.iterator().next().getInteger("id"));
+          if (async.count() == 1) {
+            // Executed one after the other, each query would flush its prepare and then its execution
+            ctx.assertTrue(stats.flushes() - flushes < 2 * numRequests);
+          }
+          async.countDown();
+        }));
+      }
+    }));
+    try {
+      async.await(4000);
+    } finally {
+      pool.close();
+    }
+  }
+
+  @Test
+  public void testPipelinedPoolBeginAfterOneShotQuery(TestContext ctx) {
+    PgPool pool = PgPool.pool(vertx, options, new PoolOptions().setMaxSize(1).setPipelined(true));
+    Async async = ctx.async(2);
+    pool.query("SELECT 1", ctx.asyncAssertSuccess(v -> {
+      // The connection is idle, the prepare and the execute of the one-shot query are pipelined on it
+      pool.preparedQuery("SELECT id, randomnumber from WORLD WHERE id=$1", Tuple.of(1), ctx.asyncAssertSuccess(rows -> {
+        ctx.assertEquals(1, rows.size());
+        async.countDown();
+      }));
+      // The transaction waits for the one-shot query to be done
+      pool.begin(ctx.asyncAssertSuccess(tx -> {
+        tx.query("SELECT 1/0", ctx.asyncAssertFailure(err -> {
+          tx.rollback(ctx.asyncAssertSuccess(v2 -> async.countDown()));
+        }));
+      }));
+    }));
+    try {
+      async.await(4000);
+    } finally {
+      pool.close();
+    }
+  }
+
+  @Test
+  public void testPreparedStatementCacheStats(TestContext ctx) {
+    PgPool pool = PgPool.pool(vertx, new PgConnectOptions(options).setCachePreparedStatements(true), new PoolOptions().setMaxSize(1));
+    Async async = ctx.async();
+    pool.preparedQuery("SELECT id, randomnumber from WORLD WHERE id=$1", Tuple.of(1), ctx.asyncAssertSuccess(rows1 -> {
+      pool.preparedQuery("SELECT id, randomnumber from WORLD WHERE id=$1", Tuple.of(2), ctx.asyncAssertSuccess(rows2 -> {
+        PreparedStatementCacheStats stats = pool.preparedStatementCacheStats();
+        ctx.assertEquals(1L, stats.hits());
+        ctx.assertEquals(1L, stats.misses());
+        ctx.assertEquals(0L, stats.evictions());
+        async.complete();
+      }));
+    }));
+    try {
+      async.await(4000);
+    } finally {
+      pool.close();
+    }
+  }
+
+  @Test
+  public void testSharedStatementMetadata(TestContext ctx) {
+    PgPool pool = PgPool.pool(vertx, new PgConnectOptions(options).setCachePreparedStatements(true), new PoolOptions().setMaxSize(2).setSharedStatementMetadata(true));
+    Async async = ctx.async();
+    pool.getConnection(ctx.asyncAssertSuccess(conn1 -> {
+      pool.getConnection(ctx.asyncAssertSuccess(conn2 -> {
+        conn1.preparedQuery("SELECT id, message from FORTUNE WHERE id=$1", Tuple.of(1), ctx.asyncAssertSuccess(rows1 -> {
+          // conn2 prepares the statement with the metadata described for conn1
+          conn2.preparedQuery("SELECT id, message from FORTUNE WHERE id=$1", Tuple.of(1), ctx.asyncAssertSuccess(rows2 -> {
+            ctx.assertEquals(1, rows2.size());
+            Row row = rows2.iterator().next();
+            ctx.assertEquals(1, row.getInteger("id"));
+            ctx.assertEquals("fortune: No such file or directory", row.getString("message"));
+            ctx.assertEquals(2L, pool.preparedStatementCacheStats().misses());
+            conn1.close();
+            conn2.close();
+            async.complete();
+          }));
+        }));
+      }));
+    }));
+    try {
+      async.await(4000);
+    } finally {
+      pool.close();
+    }
+  }
+
+  @Test
+  public void testFlushStats(TestContext ctx) {
+    PgPool pool = PgPool.pool(vertx, new PgConnectOptions(options), new PoolOptions().setMaxSize(1));
+    Async async = ctx.async(10);
+    pool.getConnection(ctx.asyncAssertSuccess(conn -> {
+      FlushStats stats = pool.flushStats();
+      long flushes = stats.flushes();
+      long bytes = stats.bytes();
+      ctx.assertTrue(flushes > 0);
+      for (int i = 0;i < 10;i++) {
+        // The queries scheduled by this callback are sent with a single flush
+        conn.query("SELECT 1", ctx.asyncAssertSuccess(rows -> {
+          ctx.assertEquals(flushes + 1, stats.flushes());
+          ctx.assertTrue(stats.bytes() > bytes);
+          ctx.assertEquals((double) stats.bytes() / stats.flushes(), stats.bytesPerFlush());
+          async.countDown();
+        }));
+      }
+    }));
+    try {
+      async.await(4000);
+    } finally {
+      pool.close();
+    }
+  }
 }
@@ -22,14 +22,19 @@ import io.vertx.core.Vertx;
 import io.vertx.ext.unit.Async;
 import io.vertx.ext.unit.TestContext;
 import io.vertx.pgclient.impl.util.Util;
+import io.vertx.sqlclient.ColumnarRowSet;
 import io.vertx.sqlclient.Cursor;
 import io.vertx.sqlclient.Row;
 import io.vertx.sqlclient.RowStream;
+import io.vertx.sqlclient.RowVisitor;
 import io.vertx.sqlclient.Tuple;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -108,6 +113,76 @@ public abstract class PreparedStatementTestBase extends PgTestBase {
     }));
   }
 
+  @Test
+  public void testColumnarCollectorQuery(TestContext ctx) {
+    Async async = ctx.async();
+    PgConnection.connect(vertx, options(), ctx.asyncAssertSuccess(conn -> {
+      conn.prepare("SELECT id, message FROM Fortune WHERE id=$1 OR id=$2 OR id=$3 ORDER BY id", ctx.asyncAssertSuccess(ps -> {
+        ps.execute(Tuple.of(1, 8, 4), ColumnarRowSet.collector(), ctx.asyncAssertSuccess(results -> {
+          ctx.assertEquals(3, results.size());
+          ColumnarRowSet set = results.value();
+          ctx.assertEquals(3, set.size());
+          ctx.assertEquals(2, set.columnCount());
+          ctx.assertEquals(1, set.getInt(0, 0));
+          ctx.assertEquals(4, set.getInt(1, 0));
+          ctx.assertEquals(8L, set.getLong(2, 0));
+          ctx.assertEquals("fortune: No such file or directory", set.getValue(0, 1));
+          conn.query("SELECT id, message FROM Fortune WHERE id=1", ColumnarRowSet.collector(), ctx.asyncAssertSuccess(text -> {
+            ColumnarRowSet textSet = text.value();
+            ctx.assertEquals(1, textSet.size());
+            ctx.assertEquals(1, textSet.getInt(0, 0));
+            ctx.assertEquals("fortune: No such file or directory", textSet.getValue(0, 1));
+            async.complete();
+          }));
+        }));
+      }));
+    }));
+  }
+
+  @Test
+  public void testRowVisitor(TestContext ctx) {
+    Async async = ctx.async();
+    List<String> fields = new ArrayList<>();
+    RowVisitor visitor = (column, type, binary, buffer, index, length) -> {
+      if (length == -1) {
+        fields.add(null);
+      } else if (column == 0) {
+        ctx.assertTrue(binary);
+        fields.add("" + buffer.getInt(index));
+      } else {
+        fields.add(buffer.toString(index, length, StandardCharsets.UTF_8));
+      }
+    };
+    PgConnection.connect(vertx, options(), ctx.asyncAssertSuccess(conn -> {
+      conn.preparedQuery("SELECT id, message, NULL FROM Fortune WHERE id=$1", Tuple.of(1), RowVisitor.collector(visitor), ctx.asyncAssertSuccess(result -> {
+        ctx.assertEquals(1, result.size());
+        ctx.assertNull(result.value());
+        ctx.assertEquals(Arrays.asList("1", "fortune: No such file or directory", null), fields);
+        async.complete();
+      }));
+    }));
+  }
+
+  @Test
+  public void testLazyRowDecoding(TestContext ctx) {
+    Async async = ctx.async();
+    PgConnection.connect(vertx, new PgConnectOptions(options()).setLazyRowDecoding(true), ctx.asyncAssertSuccess(conn -> {
+      conn.preparedQuery("SELECT id, message, NULL FROM Fortune WHERE id=$1", Tuple.of(1), ctx.asyncAssertSuccess(results -> {
+        ctx.assertEquals(1, results.size());
+        Row row = results.iterator().next();
+        ctx.assertEquals("fortune: No such file or directory", row.getString(1));
+        ctx.assertEquals(1, row.getInteger(0));
+        ctx.assertNull(row.getValue(2));
+        conn.query("SELECT id, message FROM Fortune WHERE id=1", ctx.asyncAssertSuccess(text -> {
+          Row textRow = text.iterator().next();
+          ctx.assertEquals("fortune: No such file or directory", textRow.getString("message"));
+          ctx.assertEquals(1, textRow.getInteger("id"));
+          async.complete();
+        }));
+      }));
+    }));
+  }
+
 /*
   @Test
   public void testQueryStream(TestContext ctx) {
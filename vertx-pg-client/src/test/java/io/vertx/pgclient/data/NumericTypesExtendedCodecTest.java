@@ -445,7 +445,6 @@ public class NumericTypesExtendedCodecTest extends ExtendedQueryDataTypeCodecTes
     }));
   }
 
-/*
   @Test
   public void testNumeric(TestContext ctx) {
     testGeneric(ctx,
@@ -457,9 +456,24 @@ public class NumericTypesExtendedCodecTest extends ExtendedQueryDataTypeCodecTes
         Numeric.NaN
       }, Tuple::getNumeric);
   }
-*/
 
-/*
+  @Test
+  public void testNumericScaleAndPrecision(TestContext ctx) {
+    testGeneric(ctx,
+      "SELECT c FROM (VALUES ($1 :: NUMERIC)) AS t (c)",
+      new Numeric[]{
+        Numeric.create(new BigDecimal("0.00")),
+        Numeric.create(new BigDecimal("0.0001")),
+        Numeric.create(new BigDecimal("-0.000000012345")),
+        Numeric.create(new BigDecimal("10000")),
+        Numeric.create(new BigDecimal("100000000")),
+        Numeric.create(new BigDecimal("123456789012345678901234567890.123456789")),
+        Numeric.create(new BigDecimal("-98765432109876543210.00100")),
+        Numeric.create(Long.MIN_VALUE),
+        Numeric.create(1.5d)
+      }, Tuple::getNumeric);
+  }
+
   @Test
   public void testNumericArray(TestContext ctx) {
     testGeneric(ctx,
@@ -467,7 +481,6 @@ public class NumericTypesExtendedCodecTest extends ExtendedQueryDataTypeCodecTes
       new Numeric[][]{new Numeric[]{Numeric.create(10), Numeric.create(200030004), null, Numeric.create(-500), Numeric.NaN, null}},
       Tuple::getNumericArray);
   }
-*/
 
   @Test
   public void testShortArray(TestContext ctx) {
@@ -0,0 +1,79 @@
+package io.vertx.pgclient.impl.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.ZoneOffset;
+
+import static org.junit.Assert.*;
+
+public class DataTypeCodecTest {
+
+  private static Object decodeText(DataType type, String s) {
+    // Pad the value to check that the decoders honor the index and length
+    ByteBuf buff = Unpooled.copiedBuffer("##" + s + "##", StandardCharsets.US_ASCII);
+    return DataTypeCodec.decodeText(type, 2, s.length(), buff);
+  }
+
+  @Test
+  public void testDecodeFloat8() {
+    String[] values = {
+      "0", "-0", "1", "-1.5", "3.141592653589793", "0.1", "123456.789", "1e-5", "1.5E+10", "-2.5e22",
+      "1.7976931348623157e+308", "4.9e-324", "0.30000000000000004", "12345678901234567890", "NaN",
+      "Infinity", "-Infinity"
+    };
+    for (String value : values) {
+      assertEquals(value, Double.parseDouble(value), (Double) decodeText(DataType.FLOAT8, value), 0d);
+    }
+    assertEquals(Double.doubleToRawLongBits(-0d), Double.doubleToRawLongBits((Double) decodeText(DataType.FLOAT8, "-0")));
+  }
+
+  @Test
+  public void testDecodeFloat4() {
+    String[] values = {
+      "0", "1", "-1.5", "3.1415927", "0.1", "123456.79", "1e-5", "1.5E+10", "3.4028235e+38", "1.4e-45",
+      "16777217", "NaN", "Infinity", "-Infinity"
+    };
+    for (String value : values) {
+      assertEquals(value, Float.parseFloat(value), (Float) decodeText(DataType.FLOAT4, value), 0f);
+    }
+  }
+
+  @Test
+  public void testDecodeDate() {
+    assertEquals(LocalDate.of(2017, 5, 14), decodeText(DataType.DATE, "2017-05-14"));
+    assertEquals(LocalDate.of(1, 1, 1), decodeText(DataType.DATE, "0001-01-01"));
+  }
+
+  @Test
+  public void testDecodeTime() {
+    assertEquals(LocalTime.of(19, 35, 58), decodeText(DataType.TIME, "19:35:58"));
+    assertEquals(LocalTime.of(19, 35, 58, 237_666_000), decodeText(DataType.TIME, "19:35:58.237666"));
+    assertEquals(LocalTime.of(0, 0, 0, 100_000_000), decodeText(DataType.TIME, "00:00:00.1"));
+  }
+
+  @Test
+  public void testDecodeTimeTz() {
+    assertEquals(OffsetTime.of(19, 35, 58, 0, ZoneOffset.ofHours(2)), decodeText(DataType.TIMETZ, "19:35:58+02"));
+    assertEquals(OffsetTime.of(19, 35, 58, 5_000, ZoneOffset.ofHoursMinutes(-5, -30)), decodeText(DataType.TIMETZ, "19:35:58.000005-05:30"));
+  }
+
+  @Test
+  public void testDecodeTimestamp() {
+    assertEquals(LocalDateTime.of(2017, 5, 14, 19, 35, 58, 237_666_000), decodeText(DataType.TIMESTAMP, "2017-05-14 19:35:58.237666"));
+    assertEquals(LocalDateTime.of(2017, 5, 14, 19, 35, 58), decodeText(DataType.TIMESTAMP, "2017-05-14 19:35:58"));
+  }
+
+  @Test
+  public void testDecodeTimestampTz() {
+    assertEquals(OffsetDateTime.of(2017, 5, 14, 19, 35, 58, 237_666_000, ZoneOffset.UTC), decodeText(DataType.TIMESTAMPTZ, "2017-05-14 19:35:58.237666+00"));
+    assertEquals(OffsetDateTime.of(2017, 5, 14, 19, 35, 58, 0, ZoneOffset.ofHoursMinutesSeconds(-3, -20, -15)), decodeText(DataType.TIMESTAMPTZ, "2017-05-14 19:35:58-03:20:15"));
+  }
+}
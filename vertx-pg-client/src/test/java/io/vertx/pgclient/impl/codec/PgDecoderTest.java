@@ -0,0 +1,117 @@
+package io.vertx.pgclient.impl.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.vertx.sqlclient.impl.MessageBatch;
+import io.vertx.sqlclient.impl.command.CommandBase;
+import io.vertx.sqlclient.impl.command.CommandResponse;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class PgDecoderTest {
+
+  private final ArrayDeque<PgCommandCodec<?, ?>> inflight = new ArrayDeque<>();
+  private final PgDecoder decoder = new PgDecoder(inflight, PgDecoder.CUMULATION_COPY_THRESHOLD);
+  private final EmbeddedChannel channel = new EmbeddedChannel(decoder);
+
+  /**
+   * Completes with the number of rows of the {@code CommandComplete} message, like a simple query.
+   */
+  private static class CompletingCodec extends PgCommandCodec<Integer, CommandBase<Integer>> {
+
+    CompletingCodec() {
+      super(new CommandBase<Integer>() {
+      });
+    }
+
+    @Override
+    void encode(PgEncoder encoder) {
+    }
+
+    @Override
+    void handleCommandComplete(int updated) {
+      result = updated;
+    }
+  }
+
+  private List<CommandBase<Integer>> schedule(int num) {
+    List<CommandBase<Integer>> cmds = new ArrayList<>();
+    for (int i = 0;i < num;i++) {
+      CompletingCodec codec = new CompletingCodec();
+      codec.completionHandler = resp -> {
+        PgCommandCodec<?, ?> c = inflight.poll();
+        resp.cmd = (CommandBase) c.cmd;
+        decoder.fireMessage(resp);
+      };
+      inflight.add(codec);
+      cmds.add(codec.cmd);
+    }
+    return cmds;
+  }
+
+  private static void writeCommandComplete(ByteBuf buff, String tag) {
+    byte[] bytes = tag.getBytes(StandardCharsets.UTF_8);
+    buff.writeByte('C');
+    buff.writeInt(4 + bytes.length + 1);
+    buff.writeBytes(bytes);
+    buff.writeByte(0);
+  }
+
+  private static void writeReadyForQuery(ByteBuf buff) {
+    buff.writeByte('Z');
+    buff.writeInt(5);
+    buff.writeByte('I');
+  }
+
+  @Test
+  public void testResponsesOfReadAreBatched() {
+    List<CommandBase<Integer>> cmds = schedule(3);
+    ByteBuf buff = Unpooled.buffer();
+    for (int i = 0;i < 3;i++) {
+      writeCommandComplete(buff, "UPDATE " + i);
+      writeReadyForQuery(buff);
+    }
+    channel.writeInbound(buff);
+    Object msg = channel.readInbound();
+    assertTrue(msg instanceof MessageBatch);
+    List<Object> messages = ((MessageBatch) msg).messages();
+    assertEquals(3, messages.size());
+    for (int i = 0;i < 3;i++) {
+      CommandResponse<?> resp = (CommandResponse<?>) messages.get(i);
+      assertSame(cmds.get(i), resp.cmd);
+      assertEquals(i, resp.result());
+    }
+    // A single message is fired for the read
+    assertNull(channel.readInbound());
+    assertTrue(inflight.isEmpty());
+  }
+
+  @Test
+  public void testSingleResponseIsNotBatched() {
+    List<CommandBase<Integer>> cmds = schedule(2);
+    ByteBuf buff = Unpooled.buffer();
+    writeCommandComplete(buff, "UPDATE 4");
+    writeReadyForQuery(buff);
+    // The second response is split across reads
+    writeCommandComplete(buff, "UPDATE 5");
+    channel.writeInbound(buff);
+    Object msg = channel.readInbound();
+    assertTrue(msg instanceof CommandResponse);
+    assertSame(cmds.get(0), ((CommandResponse<?>) msg).cmd);
+    assertNull(channel.readInbound());
+    buff = Unpooled.buffer();
+    writeReadyForQuery(buff);
+    channel.writeInbound(buff);
+    msg = channel.readInbound();
+    assertTrue(msg instanceof CommandResponse);
+    assertSame(cmds.get(1), ((CommandResponse<?>) msg).cmd);
+    assertEquals(5, ((CommandResponse<?>) msg).result());
+  }
+}
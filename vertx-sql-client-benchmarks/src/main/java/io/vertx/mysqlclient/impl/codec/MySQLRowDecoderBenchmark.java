@@ -0,0 +1,98 @@
+package io.vertx.mysqlclient.impl.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.vertx.mysqlclient.impl.util.BufferUtils;
+import io.vertx.sqlclient.Row;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Measures {@link RowResultDecoder#decodeRow} for a single canned text or binary protocol row
+ * of {@code id INT, value BIGINT, price DOUBLE, message VARCHAR, created DATETIME(6)}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MySQLRowDecoderBenchmark {
+
+  private static final int UTF8MB4_GENERAL_CI = 45;
+  private static final int BINARY = 63;
+
+  @Param({"TEXT", "BINARY"})
+  public String format;
+
+  private RowResultDecoder<?, ?> decoder;
+  private ByteBuf payload;
+  private int len;
+
+  @Setup
+  public void setup() {
+    ColumnDefinition[] columns = {
+      column("id", BINARY, DataType.INT4, ColumnDefinition.ColumnDefinitionFlags.NOT_NULL_FLAG | ColumnDefinition.ColumnDefinitionFlags.PRI_KEY_FLAG),
+      column("value", BINARY, DataType.INT8, 0),
+      column("price", BINARY, DataType.DOUBLE, 0),
+      column("message", UTF8MB4_GENERAL_CI, DataType.VARSTRING, 0),
+      column("created", BINARY, DataType.DATETIME, 0)
+    };
+    DataFormat dataFormat = DataFormat.valueOf(format);
+    decoder = new RowResultDecoder<>(Collectors.toList(), new MySQLRowDesc(columns, dataFormat));
+    len = columns.length;
+    payload = Unpooled.buffer();
+    if (dataFormat == DataFormat.BINARY) {
+      // packet header and empty null bitmap
+      payload.writeByte(0x00);
+      payload.writeByte(0x00);
+      payload.writeIntLE(1);
+      payload.writeLongLE(31L);
+      payload.writeDoubleLE(1.5D);
+      BufferUtils.writeLengthEncodedString(payload, "Additional fortune added at request time", StandardCharsets.UTF_8);
+      payload.writeByte(11);
+      payload.writeShortLE(2019);
+      payload.writeByte(10);
+      payload.writeByte(18);
+      payload.writeByte(12);
+      payload.writeByte(34);
+      payload.writeByte(56);
+      payload.writeIntLE(123456);
+    } else {
+      BufferUtils.writeLengthEncodedString(payload, "1", StandardCharsets.UTF_8);
+      BufferUtils.writeLengthEncodedString(payload, "31", StandardCharsets.UTF_8);
+      BufferUtils.writeLengthEncodedString(payload, "1.5", StandardCharsets.UTF_8);
+      BufferUtils.writeLengthEncodedString(payload, "Additional fortune added at request time", StandardCharsets.UTF_8);
+      BufferUtils.writeLengthEncodedString(payload, "2019-10-18 12:34:56.123456", StandardCharsets.UTF_8);
+    }
+  }
+
+  private static ColumnDefinition column(String name, int characterSet, DataType type, int flags) {
+    return new ColumnDefinition("def", "testschema", "item", "item", name, name, characterSet, 0L, type, flags, (byte) 0);
+  }
+
+  @TearDown
+  public void tearDown() {
+    payload.release();
+  }
+
+  @Benchmark
+  public Row decodeRow() {
+    payload.readerIndex(0);
+    return decoder.decodeRow(len, payload);
+  }
+}
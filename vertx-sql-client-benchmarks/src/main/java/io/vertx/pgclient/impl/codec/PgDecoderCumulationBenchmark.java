@@ -0,0 +1,108 @@
+/*
+ * Copyright (C) 2017 Julien Viet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.vertx.pgclient.impl.codec;
+
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.vertx.sqlclient.PropertyKind;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.impl.QueryResultHandler;
+import io.vertx.sqlclient.impl.RowDesc;
+import io.vertx.sqlclient.impl.command.SimpleQueryCommand;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Compares the cumulation strategies of {@link PgDecoder} for a response of wide rows split in chunks of
+ * {@code chunkSize} bytes: a {@code cumulationCopyThreshold} of {@code 0} accumulates every partial message in a
+ * composite buffer consolidated once complete, the default threshold copies them in a contiguous buffer.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PgDecoderCumulationBenchmark {
+
+  @Param({"100"})
+  public int rows;
+
+  @Param({"200"})
+  public int columns;
+
+  @Param({"TEXT", "BINARY"})
+  public String format;
+
+  @Param({"1460", "16384"})
+  public int chunkSize;
+
+  @Param({"0", "65536"})
+  public int cumulationCopyThreshold;
+
+  private byte[] response;
+  private EmbeddedChannel channel;
+  private List<Row> result;
+
+  private final QueryResultHandler<List<Row>> resultHandler = new QueryResultHandler<List<Row>>() {
+    @Override
+    public <V> void addProperty(PropertyKind<V> property, V value) {
+    }
+    @Override
+    public void handleResult(int updatedCount, int size, RowDesc desc, List<Row> res, Throwable failure) {
+      result = res;
+    }
+  };
+
+  @Setup
+  public void setup() {
+    response = PgWire.wideSelectResponse(DataFormat.valueOf(format), columns, rows);
+    channel = new EmbeddedChannel(new PgCodec(false, false, cumulationCopyThreshold));
+  }
+
+  @TearDown
+  public void tearDown() {
+    channel.finishAndReleaseAll();
+  }
+
+  @Benchmark
+  public List<Row> query() {
+    SimpleQueryCommand<List<Row>> cmd = new SimpleQueryCommand<>(PgWire.SQL, false, Collectors.toList(), resultHandler);
+    channel.writeOutbound(cmd);
+    channel.releaseOutbound();
+    for (int idx = 0;idx < response.length;idx += chunkSize) {
+      channel.writeInbound(Unpooled.wrappedBuffer(response, idx, Math.min(chunkSize, response.length - idx)));
+    }
+    // Drain the command response
+    channel.readInbound();
+    return result;
+  }
+}
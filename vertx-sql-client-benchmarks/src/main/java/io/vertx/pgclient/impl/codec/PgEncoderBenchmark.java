@@ -0,0 +1,78 @@
+/*
+ * Copyright (C) 2017 Julien Viet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.vertx.pgclient.impl.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.vertx.sqlclient.Tuple;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link PgEncoder#writeBind} encoding the parameters of a prepared statement.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PgEncoderBenchmark {
+
+  private EmbeddedChannel channel;
+  private PgEncoder encoder;
+  private Bind bind;
+  private Tuple params;
+
+  @Setup
+  public void setup() {
+    ArrayDeque<PgCommandCodec<?, ?>> inflight = new ArrayDeque<>();
+    encoder = new PgEncoder(new PgDecoder(inflight, PgDecoder.CUMULATION_COPY_THRESHOLD), inflight, false, false);
+    channel = new EmbeddedChannel(encoder);
+    DataType[] paramTypes = { DataType.INT4, DataType.INT8, DataType.FLOAT8, DataType.VARCHAR, DataType.TIMESTAMP };
+    bind = new Bind(1L, paramTypes, PgWire.columns(DataFormat.BINARY));
+    params = Tuple.of(1, 31L, 1.5D, "Additional fortune added at request time", LocalDateTime.of(2019, 10, 18, 12, 34, 56));
+  }
+
+  @TearDown
+  public void tearDown() {
+    channel.finishAndReleaseAll();
+  }
+
+  @Benchmark
+  public int writeBind() {
+    encoder.writeBind(bind, null, params);
+    encoder.flush();
+    ByteBuf out = channel.readOutbound();
+    int size = out.readableBytes();
+    out.release();
+    return size;
+  }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright (C) 2017 Julien Viet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.vertx.pgclient.impl.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.vertx.sqlclient.Row;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Measures {@link RowResultDecoder#decodeRow} for a single canned data row.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PgRowDecoderBenchmark {
+
+  @Param({"TEXT", "BINARY"})
+  public String format;
+
+  private RowResultDecoder<?, ?> decoder;
+  private ByteBuf payload;
+  private int readerIndex;
+  private int len;
+
+  @Setup
+  public void setup() {
+    DataFormat dataFormat = DataFormat.valueOf(format);
+    PgColumnDesc[] columns = PgWire.columns(dataFormat);
+    decoder = new RowResultDecoder<>(Collectors.toList(), new PgRowDesc(columns));
+    payload = PgWire.dataRowPayload(dataFormat, 1);
+    readerIndex = payload.readerIndex();
+    len = columns.length;
+  }
+
+  @TearDown
+  public void tearDown() {
+    payload.release();
+  }
+
+  @Benchmark
+  public Row decodeRow() {
+    payload.readerIndex(readerIndex);
+    return decoder.decodeRow(len, payload);
+  }
+}
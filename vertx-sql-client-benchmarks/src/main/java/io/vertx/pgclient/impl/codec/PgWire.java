@@ -0,0 +1,181 @@
+/*
+ * Copyright (C) 2017 Julien Viet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.vertx.pgclient.impl.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.vertx.pgclient.impl.util.Util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Canned PostgreSQL backend messages used to drive the codec without a live database.
+ *
+ * The result set mimics a typical OLTP row: {@code id INT4, value INT8, price FLOAT8, message VARCHAR, created TIMESTAMP}.
+ */
+final class PgWire {
+
+  static final String SQL = "SELECT id, value, price, message, created FROM item";
+
+  private static final LocalDateTime TIMESTAMP_EPOCH = LocalDateTime.of(2000, 1, 1, 0, 0, 0);
+  private static final LocalDateTime CREATED = LocalDateTime.of(2019, 10, 18, 12, 34, 56, 123456000);
+
+  private PgWire() {
+  }
+
+  static PgColumnDesc[] columns(DataFormat format) {
+    return new PgColumnDesc[] {
+      new PgColumnDesc("id", 16384, (short) 1, DataType.INT4, (short) 4, -1, format),
+      new PgColumnDesc("value", 16384, (short) 2, DataType.INT8, (short) 8, -1, format),
+      new PgColumnDesc("price", 16384, (short) 3, DataType.FLOAT8, (short) 8, -1, format),
+      new PgColumnDesc("message", 16384, (short) 4, DataType.VARCHAR, (short) -1, 68, format),
+      new PgColumnDesc("created", 16384, (short) 5, DataType.TIMESTAMP, (short) 8, -1, format)
+    };
+  }
+
+  /**
+   * @return the full backend response to {@link #SQL} returning {@code rows} rows
+   */
+  static byte[] selectResponse(DataFormat format, int rows) {
+    ByteBuf out = Unpooled.buffer();
+    writeRowDescription(columns(format), out);
+    for (int i = 0;i < rows;i++) {
+      writeDataRow(format, i, out);
+    }
+    writeCommandComplete("SELECT " + rows, out);
+    writeReadyForQuery(out);
+    byte[] bytes = new byte[out.readableBytes()];
+    out.readBytes(bytes);
+    out.release();
+    return bytes;
+  }
+
+  /**
+   * @return the full backend response to {@link #SQL} returning {@code rows} rows of {@code columns} {@code INT8} columns
+   */
+  static byte[] wideSelectResponse(DataFormat format, int columns, int rows) {
+    PgColumnDesc[] desc = new PgColumnDesc[columns];
+    for (int c = 0;c < columns;c++) {
+      desc[c] = new PgColumnDesc("col" + c, 16384, (short) (c + 1), DataType.INT8, (short) 8, -1, format);
+    }
+    ByteBuf out = Unpooled.buffer();
+    writeRowDescription(desc, out);
+    for (int i = 0;i < rows;i++) {
+      int pos = out.writerIndex();
+      out.writeByte(PgProtocolConstants.MESSAGE_TYPE_DATA_ROW);
+      out.writeInt(0);
+      out.writeShort(columns);
+      for (int c = 0;c < columns;c++) {
+        long value = i * 31L + c;
+        if (format == DataFormat.BINARY) {
+          out.writeInt(8);
+          out.writeLong(value);
+        } else {
+          writeValue(Long.toString(value), out);
+        }
+      }
+      out.setInt(pos + 1, out.writerIndex() - pos - 1);
+    }
+    writeCommandComplete("SELECT " + rows, out);
+    writeReadyForQuery(out);
+    byte[] bytes = new byte[out.readableBytes()];
+    out.readBytes(bytes);
+    out.release();
+    return bytes;
+  }
+
+  /**
+   * @return the payload of a single data row, positioned after the column count
+   */
+  static ByteBuf dataRowPayload(DataFormat format, int i) {
+    ByteBuf out = Unpooled.buffer();
+    writeDataRow(format, i, out);
+    // Skip message id, message length and column count
+    out.skipBytes(1 + 4 + 2);
+    return out;
+  }
+
+  static void writeRowDescription(PgColumnDesc[] columns, ByteBuf out) {
+    int pos = out.writerIndex();
+    out.writeByte(PgProtocolConstants.MESSAGE_TYPE_ROW_DESCRIPTION);
+    out.writeInt(0);
+    out.writeShort(columns.length);
+    for (PgColumnDesc column : columns) {
+      Util.writeCStringUTF8(out, column.name);
+      out.writeInt(column.relationId);
+      out.writeShort(column.relationAttributeNo);
+      out.writeInt(column.dataType.id);
+      out.writeShort(column.length);
+      out.writeInt(column.typeModifier);
+      out.writeShort(column.dataFormat.id);
+    }
+    out.setInt(pos + 1, out.writerIndex() - pos - 1);
+  }
+
+  static void writeDataRow(DataFormat format, int i, ByteBuf out) {
+    int pos = out.writerIndex();
+    out.writeByte(PgProtocolConstants.MESSAGE_TYPE_DATA_ROW);
+    out.writeInt(0);
+    out.writeShort(5);
+    int id = i;
+    long value = i * 31L;
+    double price = i * 1.5D;
+    String message = "Additional fortune added at request time #" + i;
+    LocalDateTime created = CREATED.plusSeconds(i);
+    if (format == DataFormat.BINARY) {
+      out.writeInt(4);
+      out.writeInt(id);
+      out.writeInt(8);
+      out.writeLong(value);
+      out.writeInt(8);
+      out.writeDouble(price);
+      writeValue(message, out);
+      out.writeInt(8);
+      out.writeLong(ChronoUnit.MICROS.between(TIMESTAMP_EPOCH, created));
+    } else {
+      writeValue(Integer.toString(id), out);
+      writeValue(Long.toString(value), out);
+      writeValue(Double.toString(price), out);
+      writeValue(message, out);
+      writeValue(created.toLocalDate() + " " + created.toLocalTime(), out);
+    }
+    out.setInt(pos + 1, out.writerIndex() - pos - 1);
+  }
+
+  private static void writeValue(String s, ByteBuf out) {
+    int idx = out.writerIndex();
+    out.writeInt(0);
+    int len = out.writeCharSequence(s, StandardCharsets.UTF_8);
+    out.setInt(idx, len);
+  }
+
+  static void writeCommandComplete(String tag, ByteBuf out) {
+    int pos = out.writerIndex();
+    out.writeByte(PgProtocolConstants.MESSAGE_TYPE_COMMAND_COMPLETE);
+    out.writeInt(0);
+    Util.writeCStringUTF8(out, tag);
+    out.setInt(pos + 1, out.writerIndex() - pos - 1);
+  }
+
+  static void writeReadyForQuery(ByteBuf out) {
+    out.writeByte(PgProtocolConstants.MESSAGE_TYPE_READY_FOR_QUERY);
+    out.writeInt(5);
+    out.writeByte('I');
+  }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (C) 2017 Julien Viet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.vertx.sqlclient;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the different ways of building the {@link Tuple} of parameters of a query.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TupleBenchmark {
+
+  private final Integer id = 1;
+  private final Long value = 31L;
+  private final Double price = 1.5D;
+  private final String message = "Additional fortune added at request time";
+  private final LocalDateTime created = LocalDateTime.of(2019, 10, 18, 12, 34, 56);
+
+  @Benchmark
+  public Tuple of() {
+    return Tuple.of(id, value, price, message, created);
+  }
+
+  @Benchmark
+  public Tuple tuple() {
+    return Tuple.tuple()
+      .addInteger(id)
+      .addLong(value)
+      .addDouble(price)
+      .addString(message)
+      .addLocalDateTime(created);
+  }
+
+  @Benchmark
+  public Tuple wrap() {
+    return Tuple.wrap(id, value, price, message, created);
+  }
+
+  @Benchmark
+  public void read(Blackhole blackhole) {
+    Tuple tuple = Tuple.of(id, value, price, message, created);
+    blackhole.consume(tuple.getInteger(0));
+    blackhole.consume(tuple.getLong(1));
+    blackhole.consume(tuple.getDouble(2));
+    blackhole.consume(tuple.getString(3));
+    blackhole.consume(tuple.getLocalDateTime(4));
+  }
+}
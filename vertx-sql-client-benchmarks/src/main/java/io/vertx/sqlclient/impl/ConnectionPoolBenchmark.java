@@ -0,0 +1,139 @@
+/*
+ * Copyright (C) 2017 Julien Viet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.vertx.sqlclient.impl;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.sqlclient.impl.command.CommandBase;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the {@link ConnectionPool} acquire / release cycle with connections that are already established.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConnectionPoolBenchmark {
+
+  @Param({"1", "16"})
+  public int maxSize;
+
+  /**
+   * The number of concurrent acquisitions, when greater than {@code maxSize} the extra requests are queued.
+   */
+  @Param({"1", "32"})
+  public int concurrency;
+
+  private ConnectionPool pool;
+  private Connection[] acquired;
+  private int count;
+
+  private final Connection.Holder holder = new Connection.Holder() {
+    @Override
+    public void handleNotification(int processId, String channel, String payload) {
+    }
+    @Override
+    public void handleClosed() {
+    }
+    @Override
+    public void handleException(Throwable err) {
+    }
+  };
+
+  private final Handler<AsyncResult<Connection>> handler = ar -> {
+    Connection conn = ar.result();
+    conn.init(holder);
+    acquired[count++] = conn;
+  };
+
+  @Setup
+  public void setup() {
+    pool = new ConnectionPool(this::connect, maxSize);
+    acquired = new Connection[concurrency];
+    // Establish all the connections up front
+    acquireRelease();
+  }
+
+  @TearDown
+  public void tearDown() {
+    pool.close();
+  }
+
+  private void connect(Handler<AsyncResult<Connection>> handler) {
+    handler.handle(Future.succeededFuture(new NoopConnection()));
+  }
+
+  @Benchmark
+  public int acquireRelease() {
+    count = 0;
+    for (int i = 0;i < concurrency;i++) {
+      pool.acquire(handler);
+    }
+    // Releasing a connection hands it over to the next waiter
+    int released = 0;
+    while (released < count) {
+      acquired[released++].close(holder);
+    }
+    return released;
+  }
+
+  private static class NoopConnection implements Connection {
+    @Override
+    public void init(Holder holder) {
+    }
+    @Override
+    public boolean isSsl() {
+      return false;
+    }
+    @Override
+    public void schedule(CommandBase<?> cmd) {
+    }
+    @Override
+    public void close(Holder holder) {
+    }
+    @Override
+    public int getProcessId() {
+      return 0;
+    }
+    @Override
+    public int getSecretKey() {
+      return 0;
+    }
+
+    @Override
+    public int inflight() {
+      return 0;
+    }
+  }
+}
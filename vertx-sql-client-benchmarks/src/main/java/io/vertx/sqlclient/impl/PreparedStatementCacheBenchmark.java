@@ -0,0 +1,120 @@
+/*
+ * Copyright (C) 2017 Julien Viet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.vertx.sqlclient.impl;
+
+import io.vertx.sqlclient.impl.command.CommandBase;
+import io.vertx.sqlclient.impl.command.CommandResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link PreparedStatementCache} lookups, both hits and misses causing an eviction.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PreparedStatementCacheBenchmark {
+
+  @Param({"16", "256"})
+  public int capacity;
+
+  private PreparedStatementCache cache;
+  private String[] hits;
+  private String[] misses;
+  private int hitIndex;
+  private int missIndex;
+
+  @Setup
+  public void setup() {
+    cache = new PreparedStatementCache(capacity, new NoopConnection(), new PoolStatementCache(false));
+    hits = new String[capacity];
+    for (int i = 0;i < capacity;i++) {
+      hits[i] = "SELECT id, randomnumber FROM world WHERE id = $1 AND hit = " + i;
+      cache.add(hits[i]).handle(CommandResponse.success(null));
+    }
+    // Cycling over twice the capacity guarantees that every lookup misses
+    misses = new String[2 * capacity];
+    for (int i = 0;i < misses.length;i++) {
+      misses[i] = "SELECT id, randomnumber FROM world WHERE id = $1 AND miss = " + i;
+    }
+  }
+
+  @Benchmark
+  public Object hit() {
+    String sql = hits[hitIndex];
+    hitIndex = (hitIndex + 1) % hits.length;
+    return cache.lookup(sql);
+  }
+
+  /**
+   * Mirrors the sequence performed by {@link SocketConnectionBase#schedule} for a statement which is not cached.
+   */
+  @Benchmark
+  public Object missAndEvict() {
+    String sql = misses[missIndex];
+    missIndex = (missIndex + 1) % misses.length;
+    PreparedStatementCache.Entry cached = cache.lookup(sql);
+    if (cached == null && cache.canCache()) {
+      cached = cache.add(sql);
+      cached.handle(CommandResponse.success(null));
+    }
+    return cached;
+  }
+
+  private static class NoopConnection implements Connection {
+    @Override
+    public void init(Holder holder) {
+    }
+    @Override
+    public boolean isSsl() {
+      return false;
+    }
+    @Override
+    public void schedule(CommandBase<?> cmd) {
+    }
+    @Override
+    public void close(Holder holder) {
+    }
+    @Override
+    public int getProcessId() {
+      return 0;
+    }
+    @Override
+    public int getSecretKey() {
+      return 0;
+    }
+
+    @Override
+    public int inflight() {
+      return 0;
+    }
+  }
+}
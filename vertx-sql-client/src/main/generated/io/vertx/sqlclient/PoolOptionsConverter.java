@@ -14,6 +14,21 @@ public class PoolOptionsConverter {
   public static void fromJson(Iterable<java.util.Map.Entry<String, Object>> json, PoolOptions obj) {
     for (java.util.Map.Entry<String, Object> member : json) {
       switch (member.getKey()) {
+        case "connectionTimeout":
+          if (member.getValue() instanceof Number) {
+            obj.setConnectionTimeout(((Number)member.getValue()).intValue());
+          }
+          break;
+        case "idleTimeout":
+          if (member.getValue() instanceof Number) {
+            obj.setIdleTimeout(((Number)member.getValue()).intValue());
+          }
+          break;
+        case "maxLifetime":
+          if (member.getValue() instanceof Number) {
+            obj.setMaxLifetime(((Number)member.getValue()).intValue());
+          }
+          break;
         case "maxSize":
           if (member.getValue() instanceof Number) {
             obj.setMaxSize(((Number)member.getValue()).intValue());
@@ -24,6 +39,26 @@ public class PoolOptionsConverter {
             obj.setMaxWaitQueueSize(((Number)member.getValue()).intValue());
           }
           break;
+        case "minIdle":
+          if (member.getValue() instanceof Number) {
+            obj.setMinIdle(((Number)member.getValue()).intValue());
+          }
+          break;
+        case "pipelined":
+          if (member.getValue() instanceof Boolean) {
+            obj.setPipelined((Boolean)member.getValue());
+          }
+          break;
+        case "sharded":
+          if (member.getValue() instanceof Boolean) {
+            obj.setSharded((Boolean)member.getValue());
+          }
+          break;
+        case "sharedStatementMetadata":
+          if (member.getValue() instanceof Boolean) {
+            obj.setSharedStatementMetadata((Boolean)member.getValue());
+          }
+          break;
       }
     }
   }
@@ -33,7 +68,14 @@ public class PoolOptionsConverter {
   }
 
   public static void toJson(PoolOptions obj, java.util.Map<String, Object> json) {
+    json.put("connectionTimeout", obj.getConnectionTimeout());
+    json.put("idleTimeout", obj.getIdleTimeout());
+    json.put("maxLifetime", obj.getMaxLifetime());
     json.put("maxSize", obj.getMaxSize());
     json.put("maxWaitQueueSize", obj.getMaxWaitQueueSize());
+    json.put("minIdle", obj.getMinIdle());
+    json.put("pipelined", obj.isPipelined());
+    json.put("sharded", obj.isSharded());
+    json.put("sharedStatementMetadata", obj.isSharedStatementMetadata());
   }
 }
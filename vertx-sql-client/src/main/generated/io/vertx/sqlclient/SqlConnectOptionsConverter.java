@@ -29,6 +29,11 @@ public class SqlConnectOptionsConverter {
             obj.setHost((String)member.getValue());
           }
           break;
+        case "lazyRowDecoding":
+          if (member.getValue() instanceof Boolean) {
+            obj.setLazyRowDecoding((Boolean)member.getValue());
+          }
+          break;
         case "password":
           if (member.getValue() instanceof String) {
             obj.setPassword((String)member.getValue());
@@ -80,6 +85,7 @@ public class SqlConnectOptionsConverter {
     if (obj.getHost() != null) {
       json.put("host", obj.getHost());
     }
+    json.put("lazyRowDecoding", obj.getLazyRowDecoding());
     if (obj.getPassword() != null) {
       json.put("password", obj.getPassword());
     }
@@ -263,6 +263,26 @@ public class SqlClientExamples {
     });
   }
 
+  public void transaction04(SqlConnection conn) {
+
+    // Begin a pipelined transaction
+    Transaction tx = conn.begin(true);
+
+    // The statements are sent without waiting for the previous responses
+    tx.query("INSERT INTO Users (first_name,last_name) VALUES ('Julien','Viet')", ar -> {});
+    tx.query("INSERT INTO Users (first_name,last_name) VALUES ('Emad','Alblueshi')", ar -> {});
+
+    // The commit fails when one of the statements failed
+    tx.commit(ar -> {
+      if (ar.succeeded()) {
+        System.out.println("Transaction succeeded");
+      } else {
+        System.out.println("Transaction failed " + ar.cause().getMessage());
+      }
+      conn.close();
+    });
+  }
+
   public void usingCursors01(SqlConnection connection) {
     connection.prepare("SELECT * FROM users WHERE first_name LIKE $1", ar1 -> {
       if (ar1.succeeded()) {
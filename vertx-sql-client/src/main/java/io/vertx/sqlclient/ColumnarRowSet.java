@@ -0,0 +1,94 @@
+/*
+ * Copyright (C) 2017 Julien Viet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package io.vertx.sqlclient;
+
+import io.vertx.sqlclient.impl.ColumnarRowSetImpl;
+
+import java.util.stream.Collector;
+
+/**
+ * A set of rows stored column by column.
+ * <p>
+ * The integer, long and floating point columns are stored in primitive arrays with a null bitmap, so reading
+ * a large result does not allocate an object per value. Such set is obtained by executing a query with
+ * the {@link #collector()}, the database client decodes then the rows directly in the columns without creating
+ * {@link Row} objects.
+ */
+public interface ColumnarRowSet {
+
+  /**
+   * @return the collector building a columnar row set
+   */
+  static Collector<Row, ?, ColumnarRowSet> collector() {
+    return ColumnarRowSetImpl.COLLECTOR;
+  }
+
+  /**
+   * @return the number of rows
+   */
+  int size();
+
+  /**
+   * @return the number of columns
+   */
+  int columnCount();
+
+  /**
+   * @param row the row index
+   * @param column the column index
+   * @return whether the value is {@code null}
+   */
+  boolean isNull(int row, int column);
+
+  /**
+   * Get a value as an int, {@code 0} is returned for a {@code null} value.
+   *
+   * @param row the row index
+   * @param column the column index
+   * @return the value
+   */
+  int getInt(int row, int column);
+
+  /**
+   * Get a value as a long, {@code 0} is returned for a {@code null} value.
+   *
+   * @param row the row index
+   * @param column the column index
+   * @return the value
+   */
+  long getLong(int row, int column);
+
+  /**
+   * Get a value as a double, {@code 0} is returned for a {@code null} value.
+   *
+   * @param row the row index
+   * @param column the column index
+   * @return the value
+   */
+  double getDouble(int row, int column);
+
+  /**
+   * Get a value, the values of the primitive columns are boxed as {@code Integer}, {@code Long} or {@code Double}.
+   *
+   * @param row the row index
+   * @param column the column index
+   * @return the value or {@code null}
+   */
+  Object getValue(int row, int column);
+
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright (C) 2017 Julien Viet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package io.vertx.sqlclient;
+
+import io.vertx.codegen.annotations.VertxGen;
+
+/**
+ * The counters of the flushes of the connections of a pool.
+ */
+@VertxGen
+public interface FlushStats {
+
+  /**
+   * @return the number of flushes that wrote bytes to a connection
+   */
+  long flushes();
+
+  /**
+   * @return the number of bytes written by the flushes
+   */
+  long bytes();
+
+  /**
+   * @return the average number of bytes written by a flush or {@code 0} when nothing has been flushed
+   */
+  double bytesPerFlush();
+
+}
@@ -68,6 +68,15 @@ public interface Pool extends SqlClient {
    */
   void getConnection(Handler<AsyncResult<SqlConnection>> handler);
 
+  /**
+   * Get a connection from the pool, waiting at most {@code timeout} milliseconds for a connection instead of the
+   * {@link PoolOptions#getConnectionTimeout() pool connection timeout}.
+   *
+   * @param timeout the timeout in milliseconds, zero means no timeout
+   * @param handler the handler that will get the connection result
+   */
+  void getConnection(long timeout, Handler<AsyncResult<SqlConnection>> handler);
+
   /**
    * Borrow a connection from the pool and begin a transaction, the underlying connection will be returned
    * to the pool when the transaction ends.
@@ -76,6 +85,18 @@ public interface Pool extends SqlClient {
    */
   void begin(Handler<AsyncResult<Transaction>> handler);
 
+  /**
+   * @return the counters of the prepared statement caches of the pool connections, they remain at zero when the
+   *         connections do not cache prepared statements
+   */
+  PreparedStatementCacheStats preparedStatementCacheStats();
+
+  /**
+   * @return the counters of the flushes of the pool connections, the bytes per flush show how well the writes of
+   *         the commands are coalesced
+   */
+  FlushStats flushStats();
+
   /**
    * Close the pool and release the associated resources.
    */
@@ -38,8 +38,50 @@ public class PoolOptions {
    */
   public static final int DEFAULT_MAX_WAIT_QUEUE_SIZE = -1;
 
+  /**
+   * Default sharding = false
+   */
+  public static final boolean DEFAULT_SHARDED = false;
+
+  /**
+   * Default minimum number of idle connections = 0
+   */
+  public static final int DEFAULT_MIN_IDLE = 0;
+
+  /**
+   * Default idle timeout = 0 (no timeout)
+   */
+  public static final int DEFAULT_IDLE_TIMEOUT = 0;
+
+  /**
+   * Default max lifetime = 0 (no limit)
+   */
+  public static final int DEFAULT_MAX_LIFETIME = 0;
+
+  /**
+   * Default connection timeout = 0 (no timeout)
+   */
+  public static final int DEFAULT_CONNECTION_TIMEOUT = 0;
+
+  /**
+   * Default pipelining = false
+   */
+  public static final boolean DEFAULT_PIPELINED = false;
+
+  /**
+   * Default shared statement metadata = false
+   */
+  public static final boolean DEFAULT_SHARED_STATEMENT_METADATA = false;
+
   private int maxSize = DEFAULT_MAX_SIZE;
   private int maxWaitQueueSize = DEFAULT_MAX_WAIT_QUEUE_SIZE;
+  private boolean sharded = DEFAULT_SHARDED;
+  private int minIdle = DEFAULT_MIN_IDLE;
+  private int idleTimeout = DEFAULT_IDLE_TIMEOUT;
+  private int maxLifetime = DEFAULT_MAX_LIFETIME;
+  private int connectionTimeout = DEFAULT_CONNECTION_TIMEOUT;
+  private boolean pipelined = DEFAULT_PIPELINED;
+  private boolean sharedStatementMetadata = DEFAULT_SHARED_STATEMENT_METADATA;
 
   public PoolOptions() {
   }
@@ -51,6 +93,13 @@ public class PoolOptions {
   public PoolOptions(PoolOptions other) {
     maxSize = other.maxSize;
     maxWaitQueueSize = other.maxWaitQueueSize;
+    sharded = other.sharded;
+    minIdle = other.minIdle;
+    idleTimeout = other.idleTimeout;
+    maxLifetime = other.maxLifetime;
+    connectionTimeout = other.connectionTimeout;
+    pipelined = other.pipelined;
+    sharedStatementMetadata = other.sharedStatementMetadata;
   }
 
   /**
@@ -93,6 +142,165 @@ public class PoolOptions {
     return this;
   }
 
+  /**
+   * @return whether the pool is sharded per event loop
+   */
+  public boolean isSharded() {
+    return sharded;
+  }
+
+  /**
+   * Set whether the pool is sharded per event loop.
+   * <p>
+   * When enabled, each calling event loop gets its own shard of connections bound to that event loop, so acquiring
+   * and using a connection does not require to hop to the event loop that created the pool. When a shard has no
+   * idle connection and cannot open a new one, it borrows an idle connection from another shard. The maximum
+   * size applies to the total number of connections of all the shards.
+   *
+   * @param sharded true to shard the pool per event loop
+   * @return a reference to this, so the API can be used fluently
+   */
+  public PoolOptions setSharded(boolean sharded) {
+    this.sharded = sharded;
+    return this;
+  }
+
+  /**
+   * @return the minimum number of connections the pool keeps open
+   */
+  public int getMinIdle() {
+    return minIdle;
+  }
+
+  /**
+   * Set the minimum number of connections the pool keeps open.
+   * <p>
+   * These connections are opened in parallel when the pool is created, so the first requests do not pay the
+   * connection establishment, and the pool opens new ones in the background when they are closed.
+   *
+   * @param minIdle the minimum number of connections
+   * @return a reference to this, so the API can be used fluently
+   */
+  public PoolOptions setMinIdle(int minIdle) {
+    if (minIdle < 0) {
+      throw new IllegalArgumentException("Min idle cannot be negative");
+    }
+    this.minIdle = minIdle;
+    return this;
+  }
+
+  /**
+   * @return the idle timeout in milliseconds
+   */
+  public int getIdleTimeout() {
+    return idleTimeout;
+  }
+
+  /**
+   * Set the time in milliseconds after which an idle connection is closed, the pool keeps its min idle
+   * connections though. Zero means no timeout.
+   *
+   * @param idleTimeout the idle timeout in milliseconds
+   * @return a reference to this, so the API can be used fluently
+   */
+  public PoolOptions setIdleTimeout(int idleTimeout) {
+    if (idleTimeout < 0) {
+      throw new IllegalArgumentException("Idle timeout cannot be negative");
+    }
+    this.idleTimeout = idleTimeout;
+    return this;
+  }
+
+  /**
+   * @return the max lifetime of a connection in milliseconds
+   */
+  public int getMaxLifetime() {
+    return maxLifetime;
+  }
+
+  /**
+   * Set the time in milliseconds after which a connection is closed and replaced by a new one, a connection
+   * in use is closed when it is given back to the pool. Zero means no limit.
+   *
+   * @param maxLifetime the max lifetime in milliseconds
+   * @return a reference to this, so the API can be used fluently
+   */
+  public PoolOptions setMaxLifetime(int maxLifetime) {
+    if (maxLifetime < 0) {
+      throw new IllegalArgumentException("Max lifetime cannot be negative");
+    }
+    this.maxLifetime = maxLifetime;
+    return this;
+  }
+
+  /**
+   * @return the connection timeout in milliseconds
+   */
+  public int getConnectionTimeout() {
+    return connectionTimeout;
+  }
+
+  /**
+   * Set the maximum time in milliseconds a request waits for a connection of the pool, after this time the request
+   * fails without being handed a connection. Zero means no timeout.
+   *
+   * @param connectionTimeout the connection timeout in milliseconds
+   * @return a reference to this, so the API can be used fluently
+   */
+  public PoolOptions setConnectionTimeout(int connectionTimeout) {
+    if (connectionTimeout < 0) {
+      throw new IllegalArgumentException("Connection timeout cannot be negative");
+    }
+    this.connectionTimeout = connectionTimeout;
+    return this;
+  }
+
+  /**
+   * @return whether the one-shot queries of the pool are pipelined
+   */
+  public boolean isPipelined() {
+    return pipelined;
+  }
+
+  /**
+   * Set whether the one-shot queries of the pool are pipelined on the pool connections.
+   * <p>
+   * When enabled, a query executed directly with the pool is dispatched to the idle connection with the fewest
+   * in-flight commands instead of taking a connection for itself, so a few connections can serve many concurrent
+   * queries up to the connection pipelining limit. The connections obtained with {@link Pool#getConnection} or
+   * {@link Pool#begin} remain exclusive.
+   *
+   * @param pipelined true to pipeline the queries of the pool
+   * @return a reference to this, so the API can be used fluently
+   */
+  public PoolOptions setPipelined(boolean pipelined) {
+    this.pipelined = pipelined;
+    return this;
+  }
+
+  /**
+   * @return whether the pool connections share the metadata of the prepared statements
+   */
+  public boolean isSharedStatementMetadata() {
+    return sharedStatementMetadata;
+  }
+
+  /**
+   * Set whether the pool connections share the metadata of the statements they prepare.
+   * <p>
+   * When enabled, the parameter and row descriptions of a statement prepared and cached by a pool connection are
+   * reused by the other connections preparing the same statement, so they do not ask the server to describe it
+   * again. This applies to the connections caching prepared statements of the PostgreSQL client. The shared metadata
+   * is not refreshed when the schema of the database changes, it is only discarded when preparing the statement fails.
+   *
+   * @param sharedStatementMetadata true to share the metadata of the prepared statements
+   * @return a reference to this, so the API can be used fluently
+   */
+  public PoolOptions setSharedStatementMetadata(boolean sharedStatementMetadata) {
+    this.sharedStatementMetadata = sharedStatementMetadata;
+    return this;
+  }
+
   public JsonObject toJson() {
     JsonObject json = new JsonObject();
     PoolOptionsConverter.toJson(this, json);
@@ -108,6 +316,13 @@ public class PoolOptions {
     PoolOptions that = (PoolOptions) o;
 
     if (maxSize != that.maxSize) return false;
+    if (sharded != that.sharded) return false;
+    if (minIdle != that.minIdle) return false;
+    if (idleTimeout != that.idleTimeout) return false;
+    if (maxLifetime != that.maxLifetime) return false;
+    if (connectionTimeout != that.connectionTimeout) return false;
+    if (pipelined != that.pipelined) return false;
+    if (sharedStatementMetadata != that.sharedStatementMetadata) return false;
 
     return true;
   }
@@ -116,6 +331,13 @@ public class PoolOptions {
   public int hashCode() {
     int result = super.hashCode();
     result = 31 * result + maxSize;
+    result = 31 * result + (sharded ? 1 : 0);
+    result = 31 * result + minIdle;
+    result = 31 * result + idleTimeout;
+    result = 31 * result + maxLifetime;
+    result = 31 * result + connectionTimeout;
+    result = 31 * result + (pipelined ? 1 : 0);
+    result = 31 * result + (sharedStatementMetadata ? 1 : 0);
     return result;
   }
 }
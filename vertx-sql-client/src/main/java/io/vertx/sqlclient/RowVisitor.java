@@ -0,0 +1,71 @@
+/*
+ * Copyright (C) 2017 Julien Viet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package io.vertx.sqlclient;
+
+import io.netty.buffer.ByteBuf;
+import io.vertx.sqlclient.impl.RowVisitorContainer;
+
+import java.util.stream.Collector;
+
+/**
+ * A low level visitor of the rows of a query result.
+ * <p>
+ * The visitor is called for each field of a row with the region of the buffer received from the database,
+ * no {@link Row} nor decoded value is created. The content of the region is the protocol encoding of the value
+ * and depends on the database type and on the format of the field. The buffer is only valid during the call,
+ * the content must be copied when it needs to be retained and the buffer indexes must not be modified.
+ * <p>
+ * Such visitor is used by executing a query with the {@link #collector(RowVisitor)}.
+ */
+public interface RowVisitor {
+
+  /**
+   * Create a collector visiting the rows with the {@code visitor}, the collector can be used with any query
+   * method accepting a collector, the result of the query is {@code null}.
+   *
+   * @param visitor the visitor
+   * @return the collector
+   */
+  static Collector<Row, ?, Void> collector(RowVisitor visitor) {
+    return RowVisitorContainer.collector(visitor);
+  }
+
+  /**
+   * Called before the fields of a row are visited.
+   */
+  default void startRow() {
+  }
+
+  /**
+   * Visit a field of the current row.
+   *
+   * @param column the column index
+   * @param type the database type identifier of the column, the type OID for PostgreSQL and the column type for MySQL
+   * @param binary whether the value is encoded in the binary format or in the text format
+   * @param buffer the buffer
+   * @param index the index of the value in the buffer
+   * @param length the length of the value in the buffer or {@code -1} when the value is {@code null}
+   */
+  void visitField(int column, int type, boolean binary, ByteBuf buffer, int index, int length);
+
+  /**
+   * Called after the fields of a row are visited.
+   */
+  default void endRow() {
+  }
+}
@@ -17,6 +17,7 @@ public abstract class SqlConnectOptions extends NetClientOptions {
   public static final boolean DEFAULT_CACHE_PREPARED_STATEMENTS = false;
   public static final int DEFAULT_PREPARED_STATEMENT_CACHE_MAX_SIZE = 256;
   public static final int DEFAULT_PREPARED_STATEMENT_CACHE_SQL_LIMIT = 2048;
+  public static final boolean DEFAULT_LAZY_ROW_DECODING = false;
 
   private String host;
   private int port;
@@ -26,6 +27,7 @@ public abstract class SqlConnectOptions extends NetClientOptions {
   private boolean cachePreparedStatements = DEFAULT_CACHE_PREPARED_STATEMENTS;
   private int preparedStatementCacheMaxSize = DEFAULT_PREPARED_STATEMENT_CACHE_MAX_SIZE;
   private int preparedStatementCacheSqlLimit = DEFAULT_PREPARED_STATEMENT_CACHE_SQL_LIMIT;
+  private boolean lazyRowDecoding = DEFAULT_LAZY_ROW_DECODING;
   private Map<String, String> properties;
 
   public SqlConnectOptions() {
@@ -49,6 +51,7 @@ public abstract class SqlConnectOptions extends NetClientOptions {
     this.cachePreparedStatements = other.cachePreparedStatements;
     this.preparedStatementCacheMaxSize = other.preparedStatementCacheMaxSize;
     this.preparedStatementCacheSqlLimit = other.preparedStatementCacheSqlLimit;
+    this.lazyRowDecoding = other.lazyRowDecoding;
     this.properties = new HashMap<>(other.properties);
   }
 
@@ -219,6 +222,27 @@ public abstract class SqlConnectOptions extends NetClientOptions {
     return this;
   }
 
+  /**
+   * Get whether the rows are decoded lazily.
+   *
+   * @return the value
+   */
+  public boolean getLazyRowDecoding() {
+    return lazyRowDecoding;
+  }
+
+  /**
+   * Set whether the rows should be decoded lazily, when enabled a row keeps the bytes received from the server
+   * and a column is decoded when it is accessed for the first time.
+   *
+   * @param lazyRowDecoding true if the rows should be decoded lazily
+   * @return a reference to this, so the API can be used fluently
+   */
+  public SqlConnectOptions setLazyRowDecoding(boolean lazyRowDecoding) {
+    this.lazyRowDecoding = lazyRowDecoding;
+    return this;
+  }
+
   /**
    * @return the value of current connection properties
    */
@@ -72,6 +72,23 @@ public interface SqlConnection extends SqlClient {
    */
   Transaction begin();
 
+  /**
+   * Begin a transaction like {@link #begin()}, when {@code pipelined} is {@code true} the statements of the transaction
+   * are sent to the server without waiting for the response of the previous statement.
+   * <p/>
+   * The statements are still executed in order, when one of them fails the transaction, the statements sent after
+   * it are failed without waiting for their responses and the transaction is rollbacked. The statements are only
+   * pipelined when the connection pipelining limit allows it.
+   * <p/>
+   * The {@code BEGIN} of a pipelined transaction is written with its first statement and a {@code COMMIT} follows
+   * the last statement without waiting for its response, a transaction ended before executing any statement does not
+   * send anything to the server.
+   *
+   * @param pipelined whether the statements of the transaction are pipelined
+   * @return the transaction instance
+   */
+  Transaction begin(boolean pipelined);
+
   /**
    * @return whether the connection uses SSL
    */
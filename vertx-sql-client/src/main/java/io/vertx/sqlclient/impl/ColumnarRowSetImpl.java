@@ -0,0 +1,275 @@
+/*
+ * Copyright (C) 2017 Julien Viet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package io.vertx.sqlclient.impl;
+
+import io.vertx.sqlclient.ColumnarRowSet;
+import io.vertx.sqlclient.Row;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.stream.Collector;
+
+/**
+ * The columnar row set, the row decoders write the values of a row in the columns and then call {@link #endRow()}.
+ */
+public class ColumnarRowSetImpl implements ColumnarRowSet {
+
+  public static final Collector<Row, ColumnarRowSetImpl, ColumnarRowSet> COLLECTOR = Collector.of(
+    ColumnarRowSetImpl::new,
+    ColumnarRowSetImpl::addRow,
+    (set1, set2) -> null, // Shall not be invoked as this is sequential
+    set -> set
+  );
+
+  /**
+   * The storage of a column.
+   */
+  public enum ColumnType {
+    INT, LONG, DOUBLE, OBJECT
+  }
+
+  private static final int INITIAL_CAPACITY = 16;
+
+  private static class Column {
+
+    private final ColumnType type;
+    private final BitSet nulls = new BitSet();
+    private int[] ints;
+    private long[] longs;
+    private double[] doubles;
+    private Object[] values;
+
+    private Column(ColumnType type) {
+      this.type = type;
+      switch (type) {
+        case INT:
+          ints = new int[INITIAL_CAPACITY];
+          break;
+        case LONG:
+          longs = new long[INITIAL_CAPACITY];
+          break;
+        case DOUBLE:
+          doubles = new double[INITIAL_CAPACITY];
+          break;
+        default:
+          values = new Object[INITIAL_CAPACITY];
+          break;
+      }
+    }
+  }
+
+  private Column[] columns;
+  private int size;
+
+  /**
+   * @return whether the columns have been initialized
+   */
+  public boolean isInitialized() {
+    return columns != null;
+  }
+
+  /**
+   * Initialize the columns, this is called by the decoder before the first row.
+   */
+  public void init(ColumnType[] types) {
+    columns = new Column[types.length];
+    for (int i = 0;i < types.length;i++) {
+      columns[i] = new Column(types[i]);
+    }
+  }
+
+  public void setNull(int column) {
+    columns[column].nulls.set(size);
+  }
+
+  public void setInt(int column, int value) {
+    Column col = columns[column];
+    if (size >= col.ints.length) {
+      // Null values are not stored, the array can be behind the size
+      col.ints = Arrays.copyOf(col.ints, Math.max(size + 1, col.ints.length << 1));
+    }
+    col.ints[size] = value;
+  }
+
+  public void setLong(int column, long value) {
+    Column col = columns[column];
+    if (size >= col.longs.length) {
+      // Null values are not stored, the array can be behind the size
+      col.longs = Arrays.copyOf(col.longs, Math.max(size + 1, col.longs.length << 1));
+    }
+    col.longs[size] = value;
+  }
+
+  public void setDouble(int column, double value) {
+    Column col = columns[column];
+    if (size >= col.doubles.length) {
+      // Null values are not stored, the array can be behind the size
+      col.doubles = Arrays.copyOf(col.doubles, Math.max(size + 1, col.doubles.length << 1));
+    }
+    col.doubles[size] = value;
+  }
+
+  /**
+   * Set a value of any column, the value of a primitive column must be a {@code Number}.
+   */
+  public void setValue(int column, Object value) {
+    if (value == null) {
+      setNull(column);
+      return;
+    }
+    Column col = columns[column];
+    switch (col.type) {
+      case INT:
+        setInt(column, ((Number) value).intValue());
+        break;
+      case LONG:
+        setLong(column, ((Number) value).longValue());
+        break;
+      case DOUBLE:
+        setDouble(column, ((Number) value).doubleValue());
+        break;
+      default:
+        if (size >= col.values.length) {
+          // Null values are not stored, the array can be behind the size
+          col.values = Arrays.copyOf(col.values, Math.max(size + 1, col.values.length << 1));
+        }
+        col.values[size] = value;
+        break;
+    }
+  }
+
+  /**
+   * Complete the current row.
+   */
+  public void endRow() {
+    size++;
+  }
+
+  /**
+   * Append the values of a row, this is used when the decoder does not decode directly in the columns.
+   */
+  public void addRow(Row row) {
+    int len = row.size();
+    if (columns == null) {
+      ColumnType[] types = new ColumnType[len];
+      Arrays.fill(types, ColumnType.OBJECT);
+      init(types);
+    }
+    for (int i = 0;i < len;i++) {
+      setValue(i, row.getValue(i));
+    }
+    endRow();
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public int columnCount() {
+    return columns != null ? columns.length : 0;
+  }
+
+  private Column column(int row, int column) {
+    if (row < 0 || row >= size) {
+      throw new IndexOutOfBoundsException("Invalid row index " + row);
+    }
+    if (column < 0 || column >= columnCount()) {
+      throw new IndexOutOfBoundsException("Invalid column index " + column);
+    }
+    return columns[column];
+  }
+
+  @Override
+  public boolean isNull(int row, int column) {
+    return column(row, column).nulls.get(row);
+  }
+
+  @Override
+  public int getInt(int row, int column) {
+    Column col = column(row, column);
+    if (col.nulls.get(row)) {
+      return 0;
+    }
+    switch (col.type) {
+      case INT:
+        return col.ints[row];
+      case LONG:
+        return (int) col.longs[row];
+      case DOUBLE:
+        return (int) col.doubles[row];
+      default:
+        return ((Number) col.values[row]).intValue();
+    }
+  }
+
+  @Override
+  public long getLong(int row, int column) {
+    Column col = column(row, column);
+    if (col.nulls.get(row)) {
+      return 0;
+    }
+    switch (col.type) {
+      case INT:
+        return col.ints[row];
+      case LONG:
+        return col.longs[row];
+      case DOUBLE:
+        return (long) col.doubles[row];
+      default:
+        return ((Number) col.values[row]).longValue();
+    }
+  }
+
+  @Override
+  public double getDouble(int row, int column) {
+    Column col = column(row, column);
+    if (col.nulls.get(row)) {
+      return 0;
+    }
+    switch (col.type) {
+      case INT:
+        return col.ints[row];
+      case LONG:
+        return col.longs[row];
+      case DOUBLE:
+        return col.doubles[row];
+      default:
+        return ((Number) col.values[row]).doubleValue();
+    }
+  }
+
+  @Override
+  public Object getValue(int row, int column) {
+    Column col = column(row, column);
+    if (col.nulls.get(row)) {
+      return null;
+    }
+    switch (col.type) {
+      case INT:
+        return col.ints[row];
+      case LONG:
+        return col.longs[row];
+      case DOUBLE:
+        return col.doubles[row];
+      default:
+        return col.values[row];
+    }
+  }
+}
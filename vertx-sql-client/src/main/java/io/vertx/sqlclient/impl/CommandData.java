@@ -0,0 +1,30 @@
+/*
+ * Copyright (C) 2017 Julien Viet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.vertx.sqlclient.impl;
+
+/**
+ * Data decoded for the handler of a command, it is delivered by the connection with the command responses instead
+ * of being handed to the handler while the protocol is decoded.
+ */
+public interface CommandData {
+
+  /**
+   * Hand the data to the handler of the command.
+   */
+  void deliver();
+
+}
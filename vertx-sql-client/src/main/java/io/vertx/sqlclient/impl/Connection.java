@@ -27,12 +27,26 @@ public interface Connection {
 
   void schedule(CommandBase<?> cmd);
 
+  /**
+   * Schedule the commands in order, the connection writes them with a single flush when its pipelining limit allows it.
+   */
+  default void schedule(Iterable<? extends CommandBase<?>> cmds) {
+    for (CommandBase<?> cmd : cmds) {
+      schedule(cmd);
+    }
+  }
+
   void close(Holder holder);
 
   int getProcessId();
 
   int getSecretKey();
 
+  /**
+   * @return the number of commands scheduled on this connection that are not yet completed
+   */
+  int inflight();
+
   interface Holder {
 
     void handleNotification(int processId, String channel, String payload);
@@ -19,12 +19,15 @@ package io.vertx.sqlclient.impl;
 
 import io.vertx.sqlclient.PoolOptions;
 import io.vertx.sqlclient.impl.command.CommandBase;
+import io.vertx.sqlclient.impl.command.CommandResponse;
 import io.vertx.core.*;
 import io.vertx.core.impl.NoStackTraceThrowable;
 
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Set;
 import java.util.function.Consumer;
 
@@ -33,6 +36,11 @@ import java.util.function.Consumer;
  */
 public class ConnectionPool {
 
+  /**
+   * The resolution of the connection timeout in milliseconds.
+   */
+  static final long DEADLINE_TICK = 10;
+
   private final Consumer<Handler<AsyncResult<Connection>>> connector;
   private final int maxSize;
   private final ArrayDeque<Promise<Connection>> waiters = new ArrayDeque<>();
@@ -40,8 +48,16 @@ public class ConnectionPool {
   private final ArrayDeque<PooledConnection> available = new ArrayDeque<>();
   private int size;
   private final int maxWaitQueueSize;
+  private final int minIdle;
+  private final long idleTimeout;
+  private final long maxLifetime;
+  private final long connectionTimeout;
+  private final Vertx vertx;
+  private TimerWheel<Promise<Connection>> deadlines;
+  private long deadlineTimerId = -1;
   private boolean checkInProgress;
   private boolean closed;
+  private final ShardedConnectionPool shards;
 
   public ConnectionPool(Consumer<Handler<AsyncResult<Connection>>> connector) {
     this(connector, PoolOptions.DEFAULT_MAX_SIZE, PoolOptions.DEFAULT_MAX_WAIT_QUEUE_SIZE);
@@ -52,9 +68,27 @@ public class ConnectionPool {
   }
 
   public ConnectionPool(Consumer<Handler<AsyncResult<Connection>>> connector, int maxSize, int maxWaitQueueSize) {
-    this.maxSize = maxSize;
-    this.maxWaitQueueSize = maxWaitQueueSize;
+    this(connector, new PoolOptions().setMaxSize(maxSize).setMaxWaitQueueSize(maxWaitQueueSize));
+  }
+
+  public ConnectionPool(Consumer<Handler<AsyncResult<Connection>>> connector, PoolOptions options) {
+    this(connector, null, options, null);
+  }
+
+  /**
+   * @param vertx the vertx instance used to expire the waiters or {@code null} when {@link #expire(long)} is
+   *              called by the owner of the pool
+   */
+  ConnectionPool(Consumer<Handler<AsyncResult<Connection>>> connector, Vertx vertx, PoolOptions options, ShardedConnectionPool shards) {
+    this.maxSize = options.getMaxSize();
+    this.maxWaitQueueSize = options.getMaxWaitQueueSize();
+    this.minIdle = options.getMinIdle();
+    this.idleTimeout = options.getIdleTimeout();
+    this.maxLifetime = options.getMaxLifetime();
+    this.connectionTimeout = options.getConnectionTimeout();
+    this.vertx = vertx;
     this.connector = connector;
+    this.shards = shards;
   }
 
   public int available() {
@@ -66,13 +100,75 @@ public class ConnectionPool {
   }
 
   public void acquire(Handler<AsyncResult<Connection>> holder) {
+    acquire(holder, connectionTimeout);
+  }
+
+  /**
+   * Acquire a connection, the {@code holder} is failed when no connection is available after {@code timeout}
+   * milliseconds, a zero or negative {@code timeout} waits forever.
+   */
+  public void acquire(Handler<AsyncResult<Connection>> holder, long timeout) {
+    Promise<Connection> promise = Promise.promise();
+    promise.future().setHandler(holder);
+    acquire(promise, timeout);
+  }
+
+  /**
+   * Acquire a connection for the {@code waiter}, the waiter might be completed by another shard of the pool
+   * in which case it is simply discarded by this pool.
+   *
+   * @return {@code true} when the waiter is queued because the pool has no idle connection and cannot open a new one
+   */
+  boolean acquire(Promise<Connection> waiter, long timeout) {
     if (closed) {
       throw new IllegalStateException("Connection pool closed");
     }
-    Promise<Connection> promise = Promise.promise();
-    promise.future().setHandler(holder);
-    waiters.add(promise);
+    waiters.add(waiter);
     check();
+    if (timeout > 0 && !waiter.future().isComplete()) {
+      scheduleDeadline(waiter, timeout);
+    }
+    return waiters.peekLast() == waiter;
+  }
+
+  private void scheduleDeadline(Promise<Connection> waiter, long timeout) {
+    long now = System.currentTimeMillis();
+    if (deadlines == null) {
+      deadlines = new TimerWheel<>(DEADLINE_TICK, 512, now);
+    }
+    deadlines.schedule(waiter, now + timeout);
+    if (vertx != null && deadlineTimerId == -1) {
+      // Called on the pool context, so the timer fires on this context
+      deadlineTimerId = vertx.setPeriodic(DEADLINE_TICK, id -> expire(System.currentTimeMillis()));
+    }
+  }
+
+  /**
+   * Fail the waiters whose connection timeout has elapsed at {@code now} in milliseconds, these waiters are
+   * removed from the wait queue so they won't be handed a connection.
+   */
+  public void expire(long now) {
+    if (deadlines == null) {
+      return;
+    }
+    List<Promise<Connection>> expired = deadlines.advance(now);
+    if (expired.size() > 0) {
+      for (Promise<Connection> waiter : expired) {
+        waiter.tryFail(new NoStackTraceThrowable("Timeout waiting for a connection"));
+      }
+      // Remove the waiters that have been completed (expired or served by another shard)
+      waiters.removeIf(waiter -> waiter.future().isComplete());
+    }
+    if (deadlines.size() == 0) {
+      cancelDeadlineTimer();
+    }
+  }
+
+  private void cancelDeadlineTimer() {
+    if (deadlineTimerId != -1) {
+      vertx.cancelTimer(deadlineTimerId);
+      deadlineTimerId = -1;
+    }
   }
 
   public void close() {
@@ -80,6 +176,7 @@ public class ConnectionPool {
       throw new IllegalStateException("Connection pool already closed");
     }
     closed = true;
+    cancelDeadlineTimer();
     for (PooledConnection pooled : new ArrayList<>(all)) {
       pooled.close();
     }
@@ -92,13 +189,161 @@ public class ConnectionPool {
     }
   }
 
+  /**
+   * Open connections in parallel until the pool holds {@code minIdle} connections, the new connections
+   * are made available to the waiters or kept idle.
+   */
+  public void fill() {
+    if (closed) {
+      return;
+    }
+    while (size < minIdle && canCreate()) {
+      connectIdle();
+    }
+  }
+
+  /**
+   * Open a connection that is made available to the waiters or kept idle, the caller must have checked
+   * the pool can create a connection.
+   */
+  private void connectIdle() {
+    size++;
+    connector.accept(ar -> {
+      if (ar.succeeded()) {
+        Connection conn = ar.result();
+        PooledConnection proxy = new PooledConnection(conn);
+        all.add(proxy);
+        conn.init(proxy);
+        if (closed) {
+          proxy.close();
+        } else {
+          release(proxy);
+        }
+      } else {
+        // Do not retry, the next closed connection will try again
+        decrementSize();
+      }
+    });
+  }
+
+  /**
+   * Pick the idle connection with the fewest in-flight commands, so a one-shot command can be pipelined with
+   * the commands of other callers. The connection remains available in the pool and must not be closed by the
+   * caller. When all the idle connections are busy, the pool opens a new connection in the background.
+   *
+   * @return the connection or {@code null} when the pool has no idle connection
+   */
+  public Connection acquireShared() {
+    if (closed) {
+      throw new IllegalStateException("Connection pool closed");
+    }
+    PooledConnection least = null;
+    int min = Integer.MAX_VALUE;
+    for (PooledConnection proxy : available) {
+      int inflight = proxy.inflight();
+      if (inflight < min) {
+        least = proxy;
+        min = inflight;
+        if (inflight == 0) {
+          break;
+        }
+      }
+    }
+    if (least != null) {
+      least.lastUsedAt = System.currentTimeMillis();
+      // Grow one connection at a time
+      if (min > 0 && size == all.size() && canCreate()) {
+        connectIdle();
+      }
+    }
+    return least;
+  }
+
+  /**
+   * Close the idle connections that exceeded the idle timeout or the max lifetime, the pool then opens
+   * new connections to keep its min idle connections.
+   */
+  public void evict() {
+    evict(System.currentTimeMillis());
+  }
+
+  /**
+   * Like {@link #evict()} with the current time in milliseconds.
+   */
+  public void evict(long now) {
+    if (closed) {
+      return;
+    }
+    // Least recently used connections first
+    Iterator<PooledConnection> it = available.descendingIterator();
+    while (it.hasNext()) {
+      PooledConnection proxy = it.next();
+      if (proxy.hasExceededLifetime(now)) {
+        it.remove();
+        retireWhenDone(proxy);
+      } else if (size > minIdle && proxy.inflight() == 0 && proxy.hasExceededIdleTimeout(now)) {
+        it.remove();
+        retire(proxy);
+      }
+    }
+    fill();
+  }
+
+  /**
+   * Remove a connection from the pool before closing it, so the pool can open a new connection without
+   * waiting for the connection to be closed.
+   */
+  private void retire(PooledConnection proxy) {
+    all.remove(proxy);
+    proxy.retired = true;
+    decrementSize();
+    proxy.close();
+  }
+
+  /**
+   * Retire a connection that exceeded its max lifetime, a connection with in-flight commands is retired once they
+   * are done since their handlers can schedule follow-up commands on it, e.g the execution of a prepared one-shot query.
+   */
+  private void retireWhenDone(PooledConnection proxy) {
+    if (proxy.inflight() == 0) {
+      retire(proxy);
+    } else {
+      proxy.expired = true;
+    }
+  }
+
+  private void decrementSize() {
+    size--;
+    if (shards != null) {
+      shards.release();
+    }
+  }
+
+  private boolean canCreate() {
+    return size < maxSize && (shards == null || shards.reserve());
+  }
+
   private class PooledConnection implements Connection, Connection.Holder  {
 
     private final Connection conn;
+    private final long createdAt;
+    private long lastUsedAt;
+    private boolean retired;
+    private boolean expired;
     private Holder holder;
 
     PooledConnection(Connection conn) {
       this.conn = conn;
+      this.createdAt = System.currentTimeMillis();
+      this.lastUsedAt = createdAt;
+    }
+
+    private boolean hasExceededLifetime(long now) {
+      return maxLifetime > 0 && now - createdAt >= maxLifetime;
+    }
+
+    private boolean hasExceededIdleTimeout(long now) {
+      return idleTimeout > 0 && now - lastUsedAt >= idleTimeout;
     }
 
     @Override
@@ -108,9 +353,43 @@ public class ConnectionPool {
 
     @Override
     public void schedule(CommandBase<?> cmd) {
+      track(cmd);
       conn.schedule(cmd);
     }
 
+    @Override
+    public void schedule(Iterable<? extends CommandBase<?>> cmds) {
+      for (CommandBase<?> cmd : cmds) {
+        track(cmd);
+      }
+      conn.schedule(cmds);
+    }
+
+    /**
+     * A released connection can still have the in-flight commands of one-shot queries, such connection is handed out
+     * to a waiter or retired when it has expired once its last command is done.
+     */
+    private <R> void track(CommandBase<R> cmd) {
+      Handler<? super CommandResponse<R>> handler = cmd.handler;
+      if (handler == null) {
+        return;
+      }
+      cmd.handler = ar -> {
+        handler.handle(ar);
+        if (holder == null && conn.inflight() == 0) {
+          if (expired) {
+            if (all.contains(this)) {
+              retire(this);
+              check();
+              fill();
+            }
+          } else if (waiters.size() > 0 || shards != null) {
+            check();
+          }
+        }
+      };
+    }
+
     /**
      * Close the underlying connection
      */
@@ -138,14 +417,15 @@ public class ConnectionPool {
     @Override
     public void handleClosed() {
       if (all.remove(this)) {
-        size--;
+        decrementSize();
         if (holder == null) {
           available.remove(this);
         } else {
           holder.handleClosed();
         }
         check();
-      } else {
+        fill();
+      } else if (!retired) {
         throw new IllegalStateException();
       }
     }
@@ -173,29 +453,62 @@ public class ConnectionPool {
     public int getSecretKey() {
       return conn.getSecretKey();
     }
+
+    @Override
+    public int inflight() {
+      return conn.inflight();
+    }
   }
 
   private void release(PooledConnection proxy) {
     if (all.contains(proxy)) {
-      available.add(proxy);
-      check();
+      long now = System.currentTimeMillis();
+      if (proxy.hasExceededLifetime(now)) {
+        retireWhenDone(proxy);
+        check();
+        fill();
+      } else {
+        // Most recently used connections are reused first so the others can reach the idle timeout
+        proxy.lastUsedAt = now;
+        available.addFirst(proxy);
+        check();
+      }
+    }
+  }
+
+  /**
+   * @return the first available connection without in-flight commands, the connections used by one-shot
+   *         queries remain available while their commands are in-flight and cannot be handed out before they are done
+   */
+  private PooledConnection idle() {
+    for (PooledConnection proxy : available) {
+      if (proxy.inflight() == 0) {
+        return proxy;
+      }
     }
+    return null;
   }
 
-  private void check() {
+  void check() {
     if (closed) {
       return;
     }
     if (!checkInProgress) {
       checkInProgress = true;
       try {
+        PooledConnection idleConn;
         while (waiters.size() > 0) {
-          if (available.size() > 0) {
-            PooledConnection proxy = available.poll();
+          if (waiters.peek().future().isComplete()) {
+            // Served by another shard
+            waiters.poll();
+          } else if ((idleConn = idle()) != null) {
+            available.remove(idleConn);
             Promise<Connection> waiter = waiters.poll();
-            waiter.complete(proxy);
+            if (!waiter.tryComplete(idleConn)) {
+              available.addFirst(idleConn);
+            }
           } else {
-            if (size < maxSize) {
+            if (canCreate()) {
               Promise<Connection> waiter = waiters.poll();
               size++;
               connector.accept(ar -> {
@@ -204,10 +517,12 @@ public class ConnectionPool {
                   PooledConnection proxy = new PooledConnection(conn);
                   all.add(proxy);
                   conn.init(proxy);
-                  waiter.complete(proxy);
+                  if (!waiter.tryComplete(proxy)) {
+                    release(proxy);
+                  }
                 } else {
-                  size--;
-                  waiter.fail(ar.cause());
+                  decrementSize();
+                  waiter.tryFail(ar.cause());
                   check();
                 }
               });
@@ -217,13 +532,23 @@ public class ConnectionPool {
                 int numToFail = waiters.size() - (maxWaitQueueSize + numInProgress);
                 while (numToFail-- > 0) {
                   Promise<Connection> waiter = waiters.pollLast();
-                  waiter.fail(new NoStackTraceThrowable("Max waiter size reached"));
+                  waiter.tryFail(new NoStackTraceThrowable("Max waiter size reached"));
                 }
               }
               break;
             }
           }
         }
+        if (shards != null) {
+          // Lend our idle connections to the waiters of the other shards
+          Promise<Connection> waiter;
+          while ((idleConn = idle()) != null && (waiter = shards.pollWaiter()) != null) {
+            available.remove(idleConn);
+            if (!waiter.tryComplete(idleConn)) {
+              available.addFirst(idleConn);
+            }
+          }
+        }
       } finally {
         checkInProgress = false;
       }
@@ -0,0 +1,56 @@
+/*
+ * Copyright (C) 2017 Julien Viet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package io.vertx.sqlclient.impl;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufHolder;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.ChannelPromise;
+
+/**
+ * Counts the bytes written to the channel between two flushes, it sits between the codec and the transport.
+ */
+class FlushStatsHandler extends ChannelOutboundHandlerAdapter {
+
+  private final PoolFlushStats stats;
+  private long bytes;
+
+  FlushStatsHandler(PoolFlushStats stats) {
+    this.stats = stats;
+  }
+
+  @Override
+  public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) throws Exception {
+    if (msg instanceof ByteBuf) {
+      bytes += ((ByteBuf) msg).readableBytes();
+    } else if (msg instanceof ByteBufHolder) {
+      bytes += ((ByteBufHolder) msg).content().readableBytes();
+    }
+    ctx.write(msg, promise);
+  }
+
+  @Override
+  public void flush(ChannelHandlerContext ctx) throws Exception {
+    if (bytes > 0) {
+      stats.flush(bytes);
+      bytes = 0;
+    }
+    ctx.flush();
+  }
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright (C) 2017 Julien Viet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.vertx.sqlclient.impl;
+
+import java.util.List;
+
+/**
+ * The messages decoded from a single socket read, they are handled together so the commands scheduled by their
+ * handlers are written with a single flush.
+ */
+public final class MessageBatch {
+
+  private final List<Object> messages;
+
+  public MessageBatch(List<Object> messages) {
+    this.messages = messages;
+  }
+
+  public List<Object> messages() {
+    return messages;
+  }
+}
@@ -17,8 +17,10 @@
 
 package io.vertx.sqlclient.impl;
 
+import io.vertx.sqlclient.FlushStats;
 import io.vertx.sqlclient.PoolOptions;
 import io.vertx.sqlclient.Pool;
+import io.vertx.sqlclient.PreparedStatementCacheStats;
 import io.vertx.sqlclient.SqlConnection;
 import io.vertx.sqlclient.Transaction;
 import io.vertx.sqlclient.impl.command.CommandBase;
@@ -31,12 +33,9 @@ import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
 import io.vertx.core.VertxException;
 
+import java.util.function.Consumer;
+
 /**
- * Todo :
- *
- * - handle timeout when acquiring a connection
- * - for per statement pooling, have several physical connection and use the less busy one to avoid head of line blocking effect
- *
  * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
  * @author <a href="mailto:emad.albloushi@gmail.com">Emad Alblueshi</a>
  */
@@ -44,36 +43,147 @@ public abstract class PoolBase<P extends PoolBase<P>> extends SqlClientBase<P> i
 
   private final Context context;
   private final ConnectionPool pool;
+  private final ShardedConnectionPool shardedPool;
   private final boolean closeVertx;
+  private final long evictionPeriod;
+  private final long connectionTimeout;
+  private final boolean pipelined;
+  private final PoolStatementCache statementCache;
+  private final PoolFlushStats flushStats = new PoolFlushStats();
+  private long evictionTimerId = -1;
 
   public PoolBase(Context context, boolean closeVertx, PoolOptions options) {
     int maxSize = options.getMaxSize();
     if (maxSize < 1) {
       throw new IllegalArgumentException("Pool max size must be > 0");
     }
+    if (options.getMinIdle() > maxSize) {
+      throw new IllegalArgumentException("Pool min idle must be <= max size");
+    }
     this.context = context;
-    this.pool = new ConnectionPool(this::connect, maxSize, options.getMaxWaitQueueSize());
+    if (options.isSharded()) {
+      this.pool = null;
+      this.shardedPool = new ShardedConnectionPool(context, this::connect, options);
+    } else {
+      this.pool = new ConnectionPool(handler -> connect(context, handler), context.owner(), options, null);
+      this.shardedPool = null;
+    }
     this.closeVertx = closeVertx;
+    this.evictionPeriod = evictionPeriod(options);
+    this.connectionTimeout = options.getConnectionTimeout();
+    this.pipelined = options.isPipelined();
+    this.statementCache = new PoolStatementCache(options.isSharedStatementMetadata());
+  }
+
+  /**
+   * @return the period of the idle connection eviction or {@code 0} when connections never expire
+   */
+  private static long evictionPeriod(PoolOptions options) {
+    long limit = Long.MAX_VALUE;
+    if (options.getIdleTimeout() > 0) {
+      limit = options.getIdleTimeout();
+    }
+    if (options.getMaxLifetime() > 0) {
+      limit = Math.min(limit, options.getMaxLifetime());
+    }
+    if (limit == Long.MAX_VALUE) {
+      return 0;
+    }
+    // Check often enough to not keep expired connections much longer than their limit
+    return Math.max(1, Math.min(1000, limit / 2));
+  }
+
+  private void evict() {
+    if (shardedPool != null) {
+      shardedPool.evict();
+    } else {
+      Context current = Vertx.currentContext();
+      if (current == context) {
+        pool.evict();
+      } else {
+        context.runOnContext(v -> pool.evict());
+      }
+    }
+  }
+
+  /**
+   * @return the state shared by the prepared statement caches of the pool connections
+   */
+  protected PoolStatementCache statementCache() {
+    return statementCache;
   }
 
-  public abstract void connect(Handler<AsyncResult<Connection>> completionHandler);
+  @Override
+  public PreparedStatementCacheStats preparedStatementCacheStats() {
+    return statementCache;
+  }
+
+  /**
+   * @return the flush counters updated by the pool connections
+   */
+  protected PoolFlushStats poolFlushStats() {
+    return flushStats;
+  }
 
   @Override
-  public void getConnection(Handler<AsyncResult<SqlConnection>> handler) {
-    Context current = Vertx.currentContext();
-    if (current == context) {
-      pool.acquire(new ConnectionWaiter(handler));
+  public FlushStats flushStats() {
+    return flushStats;
+  }
+
+  /**
+   * Open a connection bound to the {@code context}, this is called on the {@code context}.
+   */
+  public abstract void connect(Context context, Handler<AsyncResult<Connection>> completionHandler);
+
+  /**
+   * Start the pool: open the min idle connections and schedule the eviction of expired connections, this must
+   * be called once the pool is fully constructed since the connections are opened on the pool context.
+   */
+  protected void init() {
+    if (evictionPeriod > 0) {
+      evictionTimerId = context.owner().setPeriodic(evictionPeriod, id -> evict());
+    }
+    if (shardedPool != null) {
+      shardedPool.fill();
     } else {
-      context.runOnContext(v -> getConnection(handler));
+      Context current = Vertx.currentContext();
+      if (current == context) {
+        pool.fill();
+      } else {
+        context.runOnContext(v -> pool.fill());
+      }
     }
   }
 
+  private void acquire(Handler<AsyncResult<Connection>> waiter, long timeout) {
+    if (shardedPool != null) {
+      shardedPool.acquire(waiter, timeout);
+    } else {
+      Context current = Vertx.currentContext();
+      if (current == context) {
+        pool.acquire(waiter, timeout);
+      } else {
+        context.runOnContext(v -> pool.acquire(waiter, timeout));
+      }
+    }
+  }
+
+  @Override
+  public void getConnection(Handler<AsyncResult<SqlConnection>> handler) {
+    getConnection(connectionTimeout, handler);
+  }
+
+  @Override
+  public void getConnection(long timeout, Handler<AsyncResult<SqlConnection>> handler) {
+    acquire(new ConnectionWaiter(handler), timeout);
+  }
+
   @Override
   public void begin(Handler<AsyncResult<Transaction>> handler) {
     getConnection(ar -> {
       if (ar.succeeded()) {
         SqlConnectionImpl conn = (SqlConnectionImpl) ar.result();
-        Transaction tx = conn.begin(true);
+        Transaction tx = conn.begin(true, false);
         handler.handle(Future.succeededFuture(tx));
       } else {
         handler.handle(Future.failedFuture(ar.cause()));
@@ -81,40 +191,74 @@ public abstract class PoolBase<P extends PoolBase<P>> extends SqlClientBase<P> i
     });
   }
 
+  /**
+   * Run the {@code action} with the connection pool of the caller, on the pool context.
+   */
+  private void execute(Consumer<ConnectionPool> action) {
+    if (shardedPool != null) {
+      shardedPool.execute(action);
+    } else {
+      Context current = Vertx.currentContext();
+      if (current == context) {
+        action.accept(pool);
+      } else {
+        context.runOnContext(v -> action.accept(pool));
+      }
+    }
+  }
+
   @Override
   public <R> void schedule(CommandBase<R> cmd, Handler<? super CommandResponse<R>> handler) {
-    Context current = Vertx.currentContext();
-    if (current == context) {
-      pool.acquire(new CommandWaiter() { // SHOULD BE IT !!!!!
-        @Override
-        protected void onSuccess(Connection conn) {
-          cmd.handler = ar -> {
-            ar.scheduler = new CommandScheduler() {
-              @Override
-              public <R> void schedule(CommandBase<R> cmd, Handler<? super CommandResponse<R>> handler) {
-                cmd.handler = cr -> {
-                  cr.scheduler = this;
-                  handler.handle(cr);
-                };
-                conn.schedule(cmd);
-              }
-            };
-            handler.handle(ar);
-          };
-          conn.schedule(cmd);
-          conn.close(this);
-        }
-        @Override
-        protected void onFailure(Throwable cause) {
-          cmd.handler = handler;
-          cmd.fail(cause);
+    if (pipelined) {
+      execute(pool -> {
+        Connection conn = pool.acquireShared();
+        if (conn != null) {
+          dispatch(conn, cmd, handler);
+        } else {
+          acquire(commandWaiter(cmd, handler), connectionTimeout);
         }
       });
     } else {
-      context.runOnContext(v -> schedule(cmd, handler));
+      acquire(commandWaiter(cmd, handler), connectionTimeout);
     }
   }
 
+  private <R> CommandWaiter commandWaiter(CommandBase<R> cmd, Handler<? super CommandResponse<R>> handler) {
+    return new CommandWaiter() { // SHOULD BE IT !!!!!
+      @Override
+      protected void onSuccess(Connection conn) {
+        dispatch(conn, cmd, handler);
+        conn.close(this);
+      }
+      @Override
+      protected void onFailure(Throwable cause) {
+        cmd.handler = handler;
+        cmd.fail(cause);
+      }
+    };
+  }
+
+  /**
+   * Schedule the {@code cmd} on the {@code conn}, the commands following the response are scheduled on the same
+   * connection.
+   */
+  private static <R> void dispatch(Connection conn, CommandBase<R> cmd, Handler<? super CommandResponse<R>> handler) {
+    cmd.handler = ar -> {
+      ar.scheduler = new CommandScheduler() {
+        @Override
+        public <R> void schedule(CommandBase<R> cmd, Handler<? super CommandResponse<R>> handler) {
+          cmd.handler = cr -> {
+            cr.scheduler = this;
+            handler.handle(cr);
+          };
+          conn.schedule(cmd);
+        }
+      };
+      handler.handle(ar);
+    };
+    conn.schedule(cmd);
+  }
+
   private abstract class CommandWaiter implements Connection.Holder, Handler<AsyncResult<Connection>> {
 
     protected abstract void onSuccess(Connection conn);
@@ -160,7 +304,8 @@ public abstract class PoolBase<P extends PoolBase<P>> extends SqlClientBase<P> i
     public void handle(AsyncResult<Connection> ar) {
       if (ar.succeeded()) {
         Connection conn = ar.result();
-        SqlConnectionImpl holder = wrap(context, conn);
+        // A sharded pool hands over a connection on the context it is bound to
+        SqlConnectionImpl holder = wrap(shardedPool != null ? Vertx.currentContext() : context, conn);
         conn.init(holder);
         handler.handle(Future.succeededFuture(holder));
       } else {
@@ -170,7 +315,14 @@ public abstract class PoolBase<P extends PoolBase<P>> extends SqlClientBase<P> i
   }
 
   protected void doClose() {
-    pool.close();
+    if (evictionTimerId != -1) {
+      context.owner().cancelTimer(evictionTimerId);
+    }
+    if (shardedPool != null) {
+      shardedPool.close();
+    } else {
+      pool.close();
+    }
     if (closeVertx) {
       context.owner().close();
     }
@@ -0,0 +1,54 @@
+/*
+ * Copyright (C) 2017 Julien Viet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package io.vertx.sqlclient.impl;
+
+import io.vertx.sqlclient.FlushStats;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The flush counters of the connections of a pool.
+ * <p>
+ * The connections of a pool can be bound to different event loops, so the counters are thread-safe.
+ */
+public class PoolFlushStats implements FlushStats {
+
+  private final LongAdder flushes = new LongAdder();
+  private final LongAdder bytes = new LongAdder();
+
+  @Override
+  public long flushes() {
+    return flushes.sum();
+  }
+
+  @Override
+  public long bytes() {
+    return bytes.sum();
+  }
+
+  @Override
+  public double bytesPerFlush() {
+    long count = flushes.sum();
+    return count == 0 ? 0D : (double) bytes.sum() / count;
+  }
+
+  void flush(long bytes) {
+    flushes.increment();
+    this.bytes.add(bytes);
+  }
+}
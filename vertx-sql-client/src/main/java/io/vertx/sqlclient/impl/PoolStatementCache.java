@@ -0,0 +1,93 @@
+/*
+ * Copyright (C) 2017 Julien Viet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package io.vertx.sqlclient.impl;
+
+import io.vertx.sqlclient.PoolOptions;
+import io.vertx.sqlclient.PreparedStatementCacheStats;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The state shared by the prepared statement caches of the connections of a pool: the cache counters and, when
+ * {@link PoolOptions#isSharedStatementMetadata()} is enabled, the metadata of the statements prepared by the
+ * pool connections.
+ * <p>
+ * The connections of a pool can be bound to different event loops, so this state is thread-safe.
+ */
+public class PoolStatementCache implements PreparedStatementCacheStats {
+
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+  private final ConcurrentMap<String, PreparedStatement> metadata;
+
+  public PoolStatementCache(boolean sharedMetadata) {
+    this.metadata = sharedMetadata ? new ConcurrentHashMap<>() : null;
+  }
+
+  @Override
+  public long hits() {
+    return hits.sum();
+  }
+
+  @Override
+  public long misses() {
+    return misses.sum();
+  }
+
+  @Override
+  public long evictions() {
+    return evictions.sum();
+  }
+
+  void hit() {
+    hits.increment();
+  }
+
+  void miss() {
+    misses.increment();
+  }
+
+  void eviction() {
+    evictions.increment();
+  }
+
+  /**
+   * @return the statement prepared by another connection for the {@code sql}, only its metadata can be reused
+   */
+  PreparedStatement metadata(String sql) {
+    return metadata != null ? metadata.get(sql) : null;
+  }
+
+  /**
+   * Share the metadata of a statement prepared by a connection, at most {@code capacity} statements are shared.
+   */
+  void shareMetadata(String sql, PreparedStatement statement, int capacity) {
+    if (metadata != null && (metadata.size() < capacity || metadata.containsKey(sql))) {
+      metadata.put(sql, statement);
+    }
+  }
+
+  void invalidateMetadata(String sql) {
+    if (metadata != null) {
+      metadata.remove(sql);
+    }
+  }
+}
@@ -1,60 +1,138 @@
 package io.vertx.sqlclient.impl;
 
-import io.vertx.sqlclient.impl.SocketConnectionBase.CachedPreparedStatement;
+import io.vertx.core.Handler;
 import io.vertx.sqlclient.impl.command.CloseStatementCommand;
+import io.vertx.sqlclient.impl.command.CommandResponse;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
 /**
- * A LRU replacement strategy cache based on {@link java.util.LinkedHashMap} for prepared statements.
+ * A LRU cache of the prepared statements of a connection based on an access ordered {@link java.util.LinkedHashMap},
+ * the least recently used entry is the head of the map, so the lookups, the insertions and the evictions are O(1).
+ * <p>
+ * An entry is in-flight until the server has answered its prepare command, an in-flight entry cannot be evicted
+ * since its statement would be closed before being prepared. The failed prepares are not cached.
  */
-class PreparedStatementCache extends LinkedHashMap<String, CachedPreparedStatement> {
+class PreparedStatementCache extends LinkedHashMap<String, PreparedStatementCache.Entry> {
+
   private final int capacity;
   private final Connection conn;
+  private final PoolStatementCache shared;
 
-  PreparedStatementCache(int capacity, Connection conn) {
+  PreparedStatementCache(int capacity, Connection conn, PoolStatementCache shared) {
     super(capacity, 0.75f, true);
     this.capacity = capacity;
     this.conn = conn;
+    this.shared = shared;
   }
 
   @Override
-  protected boolean removeEldestEntry(Map.Entry<String, CachedPreparedStatement> eldest) {
-    boolean needRemove = size() > capacity;
-    CachedPreparedStatement cachedPreparedStatementToRemove = eldest.getValue();
-
-    if (needRemove) {
-      if (cachedPreparedStatementToRemove.resp.succeeded()) {
+  protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+    if (size() > capacity) {
+      CommandResponse<PreparedStatement> resp = eldest.getValue().resp;
+      if (resp != null && resp.succeeded()) {
         // close the statement after it has been evicted from the cache
-        PreparedStatement statement = cachedPreparedStatementToRemove.resp.result();
-        CloseStatementCommand cmd = new CloseStatementCommand(statement);
+        CloseStatementCommand cmd = new CloseStatementCommand(resp.result());
         cmd.handler = ar -> {
         };
         conn.schedule(cmd);
       }
+      if (shared != null) {
+        shared.eviction();
+      }
       return true;
     }
     return false;
   }
 
-  public boolean isReady() {
-    Map.Entry<String, CachedPreparedStatement> entry = getEldestEntry();
-    if (entry == null) {
+  /**
+   * Lookup the cached statement of the {@code sql} and update the cache counters.
+   *
+   * @return the cached statement or {@code null}
+   */
+  Entry lookup(String sql) {
+    Entry entry = get(sql);
+    if (shared != null) {
+      if (entry != null) {
+        shared.hit();
+      } else {
+        shared.miss();
+      }
+    }
+    return entry;
+  }
+
+  /**
+   * @return whether a statement can be added, i.e the cache is not full or its least recently used statement is not in-flight
+   */
+  boolean canCache() {
+    if (size() < capacity) {
       return true;
-    } else {
-      return entry.getValue().resp != null;
     }
+    if (isEmpty()) {
+      return false;
+    }
+    return !values().iterator().next().isInflight();
   }
 
-  public int getCapacity() {
+  /**
+   * Add an in-flight entry for the {@code sql}, evicting the least recently used statement when the cache is full.
+   */
+  Entry add(String sql) {
+    Entry entry = new Entry(sql, shared != null ? shared.metadata(sql) : null);
+    put(sql, entry);
+    return entry;
+  }
+
+  int getCapacity() {
     return this.capacity;
   }
 
-  private Map.Entry<String, CachedPreparedStatement> getEldestEntry() {
-    if (size() == 0) {
-      return null;
+  class Entry implements Handler<CommandResponse<PreparedStatement>> {
+
+    private final String sql;
+    private final Deque<Handler<? super CommandResponse<PreparedStatement>>> waiters = new ArrayDeque<>();
+    final PreparedStatement metadata;
+    private CommandResponse<PreparedStatement> resp;
+
+    private Entry(String sql, PreparedStatement metadata) {
+      this.sql = sql;
+      this.metadata = metadata;
+    }
+
+    boolean isInflight() {
+      return resp == null;
+    }
+
+    void get(Handler<? super CommandResponse<PreparedStatement>> handler) {
+      if (resp != null) {
+        handler.handle(resp);
+      } else {
+        waiters.add(handler);
+      }
+    }
+
+    @Override
+    public void handle(CommandResponse<PreparedStatement> event) {
+      resp = event;
+      if (event.succeeded()) {
+        if (shared != null && metadata == null) {
+          shared.shareMetadata(sql, event.result(), capacity);
+        }
+      } else {
+        // prepare it again next time, the failure might be transient or the shared metadata outdated
+        PreparedStatementCache.this.remove(sql, this);
+        if (shared != null && metadata != null) {
+          shared.invalidateMetadata(sql);
+        }
+      }
+      Handler<? super CommandResponse<PreparedStatement>> waiter;
+      while ((waiter = waiters.poll()) != null) {
+        waiter.handle(resp);
+      }
     }
-    return (Map.Entry<String, CachedPreparedStatement>) entrySet().toArray()[size() - 1];
   }
 }
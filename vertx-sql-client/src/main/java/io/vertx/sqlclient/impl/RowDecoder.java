@@ -19,6 +19,7 @@ package io.vertx.sqlclient.impl;
 
 import io.netty.buffer.ByteBuf;
 import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowVisitor;
 
 import java.util.function.BiConsumer;
 import java.util.stream.Collector;
@@ -45,10 +46,39 @@ public abstract class RowDecoder<C, R> {
 
   protected abstract Row decodeRow(int len, ByteBuf in);
 
+  /**
+   * Decode a row directly in the columns of a columnar row set, the default implementation decodes
+   * a {@link Row} and appends its values.
+   */
+  protected void decodeColumns(int len, ByteBuf in, ColumnarRowSetImpl columns) {
+    columns.addRow(decodeRow(len, in));
+  }
+
+  /**
+   * Hand the fields of a row to the {@code visitor} without decoding them.
+   */
+  protected abstract void visitRow(int len, ByteBuf in, RowVisitor visitor);
+
   public void handleRow(int len, ByteBuf in) {
     if (failure != null) {
       return;
     }
+    if (container instanceof ColumnarRowSetImpl) {
+      // No row is created
+      decodeColumns(len, in, (ColumnarRowSetImpl) container);
+      size++;
+      return;
+    }
+    if (container instanceof RowVisitorContainer) {
+      try {
+        visitRow(len, in, ((RowVisitorContainer) container).visitor);
+      } catch (Exception e) {
+        failure = e;
+        return;
+      }
+      size++;
+      return;
+    }
     Row row = decodeRow(len, in);
     if (accumulator == null) {
       try {
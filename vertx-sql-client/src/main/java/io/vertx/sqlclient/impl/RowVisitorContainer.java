@@ -0,0 +1,47 @@
+/*
+ * Copyright (C) 2017 Julien Viet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package io.vertx.sqlclient.impl;
+
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowVisitor;
+
+import java.util.stream.Collector;
+
+/**
+ * The container of a {@link RowVisitor#collector(RowVisitor)} collector, the row decoders hand the row
+ * fields to the visitor instead of accumulating rows.
+ */
+public final class RowVisitorContainer {
+
+  public static Collector<Row, RowVisitorContainer, Void> collector(RowVisitor visitor) {
+    return Collector.of(
+      () -> new RowVisitorContainer(visitor),
+      (container, row) -> {
+        throw new IllegalStateException("Rows are visited");
+      },
+      (container1, container2) -> null, // Shall not be invoked as this is sequential
+      container -> null
+    );
+  }
+
+  final RowVisitor visitor;
+
+  private RowVisitorContainer(RowVisitor visitor) {
+    this.visitor = visitor;
+  }
+}
@@ -0,0 +1,249 @@
+/*
+ * Copyright (C) 2017 Julien Viet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package io.vertx.sqlclient.impl;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Closeable;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.sqlclient.PoolOptions;
+
+import java.util.ArrayList;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * A connection pool sharded per event loop.
+ * <p>
+ * Each shard is a {@link ConnectionPool} confined to an event loop context that opens connections bound to this
+ * context, so the acquisition and the usage of a connection never leave the calling event loop. The shards share
+ * the maximum number of connections and a queue of the waiters they cannot serve, a shard with an idle connection
+ * lends it to such waiter. Connections are always handed over on the context they are bound to.
+ */
+class ShardedConnectionPool {
+
+  private final Context context;
+  private final BiConsumer<Context, Handler<AsyncResult<Connection>>> connector;
+  private final PoolOptions options;
+  private final int maxSize;
+  private final AtomicInteger size = new AtomicInteger();
+  private final ConcurrentLinkedQueue<Promise<Connection>> waiters = new ConcurrentLinkedQueue<>();
+  private final ConcurrentMap<Context, Shard> shards = new ConcurrentHashMap<>();
+  private volatile boolean closed;
+
+  /**
+   * @param context the context used by callers that are not on an event loop
+   * @param connector opens a connection bound to the given context, it is called on this context
+   * @param options the pool options, the max size applies to all the shards, the min idle connections are kept
+   *                by the shard of the {@code context}
+   */
+  ShardedConnectionPool(Context context, BiConsumer<Context, Handler<AsyncResult<Connection>>> connector, PoolOptions options) {
+    this.context = context;
+    this.connector = connector;
+    this.options = options;
+    this.maxSize = options.getMaxSize();
+  }
+
+  /**
+   * @return the number of connections of all the shards
+   */
+  int size() {
+    return size.get();
+  }
+
+  /**
+   * Acquire a connection from the shard of the current event loop, see {@link ConnectionPool#acquire(Handler, long)}.
+   */
+  void acquire(Handler<AsyncResult<Connection>> handler, long timeout) {
+    onShard(shard -> shard.acquire(handler, timeout));
+  }
+
+  /**
+   * Run the {@code action} with the pool of the shard of the current event loop, on the shard context.
+   */
+  void execute(Consumer<ConnectionPool> action) {
+    onShard(shard -> action.accept(shard.pool));
+  }
+
+  private void onShard(Consumer<Shard> action) {
+    if (closed) {
+      throw new IllegalStateException("Connection pool closed");
+    }
+    Context current = Vertx.currentContext();
+    Shard shard = shard(current != null && current.isEventLoopContext() ? current : context);
+    if (current == shard.context) {
+      action.accept(shard);
+    } else {
+      shard.context.runOnContext(v -> action.accept(shard));
+    }
+  }
+
+  /**
+   * Open the min idle connections in the shard of the pool context.
+   */
+  void fill() {
+    Shard shard = shard(context);
+    if (Vertx.currentContext() == context) {
+      shard.pool.fill();
+    } else {
+      context.runOnContext(v -> shard.pool.fill());
+    }
+  }
+
+  /**
+   * Evict the expired idle connections of all the shards.
+   */
+  void evict() {
+    for (Shard shard : shards.values()) {
+      shard.context.runOnContext(v -> shard.pool.evict());
+    }
+  }
+
+  private Shard shard(Context context) {
+    Shard shard = shards.get(context);
+    if (shard == null) {
+      shard = shards.computeIfAbsent(context, Shard::new);
+    }
+    return shard;
+  }
+
+  /**
+   * Reserve a connection slot.
+   *
+   * @return whether a new connection can be opened
+   */
+  boolean reserve() {
+    while (true) {
+      int current = size.get();
+      if (current >= maxSize) {
+        return false;
+      }
+      if (size.compareAndSet(current, current + 1)) {
+        return true;
+      }
+    }
+  }
+
+  /**
+   * Release a connection slot and let the shards with waiters make use of it, the state of a shard is confined to
+   * its context so each shard checks its waiters on its own context.
+   */
+  void release() {
+    size.decrementAndGet();
+    for (Shard shard : shards.values()) {
+      shard.check();
+    }
+  }
+
+  /**
+   * @return the next waiter of the other shards to serve or {@code null}
+   */
+  Promise<Connection> pollWaiter() {
+    Promise<Connection> waiter;
+    while ((waiter = waiters.poll()) != null && waiter.future().isComplete()) {
+      // Already served
+    }
+    return waiter;
+  }
+
+  void close() {
+    if (closed) {
+      throw new IllegalStateException("Connection pool already closed");
+    }
+    closed = true;
+    for (Shard shard : new ArrayList<>(shards.values())) {
+      shard.close();
+    }
+    waiters.clear();
+  }
+
+  private class Shard implements Closeable {
+
+    private final Context context;
+    private final ConnectionPool pool;
+
+    Shard(Context context) {
+      this.context = context;
+      PoolOptions shardOptions = options;
+      if (context != ShardedConnectionPool.this.context) {
+        shardOptions = new PoolOptions(options).setMinIdle(0);
+      }
+      this.pool = new ConnectionPool(handler -> connector.accept(context, handler), context.owner(), shardOptions, ShardedConnectionPool.this);
+      if (context != ShardedConnectionPool.this.context) {
+        // Discard the shard when the verticle that owns the context is undeployed
+        context.addCloseHook(this);
+      }
+    }
+
+    void acquire(Handler<AsyncResult<Connection>> handler, long timeout) {
+      Promise<Connection> promise = Promise.promise();
+      promise.future().setHandler(handler);
+      if (pool.acquire(promise, timeout)) {
+        // No idle connection in this shard, ask the other shards to lend one, each shard checks its idle
+        // connections on its own context
+        purge();
+        waiters.add(promise);
+        for (Shard shard : shards.values()) {
+          if (shard != this) {
+            shard.check();
+          }
+        }
+      }
+    }
+
+    /**
+     * Remove the waiters at the head of the queue that have been served by their own shard.
+     */
+    private void purge() {
+      Promise<Connection> head;
+      while ((head = waiters.peek()) != null && head.future().isComplete()) {
+        waiters.remove(head);
+      }
+    }
+
+    void check() {
+      context.runOnContext(v -> pool.check());
+    }
+
+    void close() {
+      if (shards.remove(context, this)) {
+        if (context != ShardedConnectionPool.this.context) {
+          context.removeCloseHook(this);
+        }
+        if (Vertx.currentContext() == context) {
+          pool.close();
+        } else {
+          context.runOnContext(v -> pool.close());
+        }
+      }
+    }
+
+    @Override
+    public void close(Handler<AsyncResult<Void>> completionHandler) {
+      close();
+      completionHandler.handle(Future.succeededFuture());
+    }
+  }
+}
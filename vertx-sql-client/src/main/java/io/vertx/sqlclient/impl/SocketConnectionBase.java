@@ -20,7 +20,6 @@ package io.vertx.sqlclient.impl;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.DecoderException;
 import io.vertx.core.Context;
-import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
 import io.vertx.core.VertxException;
 import io.vertx.core.impl.NetSocketInternal;
@@ -29,7 +28,6 @@ import io.vertx.core.logging.LoggerFactory;
 import io.vertx.sqlclient.impl.command.*;
 
 import java.util.ArrayDeque;
-import java.util.Deque;
 
 /**
  * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
@@ -38,6 +36,9 @@ public abstract class SocketConnectionBase implements Connection {
 
   private static final Logger logger = LoggerFactory.getLogger(SocketConnectionBase.class);
 
+  // flush right away rather than at the end of the event loop task when that many commands have been written
+  private static final int MAX_UNFLUSHED_WRITES = 256;
+
   public enum Status {
 
     CLOSED, CONNECTED, CLOSING
@@ -50,8 +51,14 @@ public abstract class SocketConnectionBase implements Connection {
   private final ArrayDeque<CommandBase<?>> pending = new ArrayDeque<>();
   private final Context context;
   private int inflight;
+  // the writes are held while a batch of messages is handled
+  private boolean batching;
+  private int unflushed;
+  private boolean flushScheduled;
+  private final Runnable flushTask = this::scheduledFlush;
   private Holder holder;
   private final int pipeliningLimit;
+  private final PoolFlushStats flushStats;
 
   protected final NetSocketInternal socket;
   protected Status status = Status.CONNECTED;
@@ -61,11 +68,14 @@ public abstract class SocketConnectionBase implements Connection {
                               int preparedStatementCacheSize,
                               int preparedStatementCacheSqlLimit,
                               int pipeliningLimit,
+                              PoolStatementCache poolStatementCache,
+                              PoolFlushStats flushStats,
                               Context context) {
     this.socket = socket;
     this.context = context;
     this.pipeliningLimit = pipeliningLimit;
-    this.psCache = cachePreparedStatements ? new PreparedStatementCache(preparedStatementCacheSize, this) : null;
+    this.flushStats = flushStats;
+    this.psCache = cachePreparedStatements ? new PreparedStatementCache(preparedStatementCacheSize, this, poolStatementCache) : null;
     this.preparedStatementCacheSqlLimit = preparedStatementCacheSqlLimit;
   }
 
@@ -74,6 +84,9 @@ public abstract class SocketConnectionBase implements Connection {
   }
 
   public void init() {
+    if (flushStats != null) {
+      socket.channelHandlerContext().pipeline().addBefore("codec", "flush-stats", new FlushStatsHandler(flushStats));
+    }
     socket.closeHandler(this::handleClosed);
     socket.exceptionHandler(this::handleException);
     socket.messageHandler(msg -> {
@@ -108,6 +121,11 @@ public abstract class SocketConnectionBase implements Connection {
     throw new UnsupportedOperationException();
   }
 
+  @Override
+  public int inflight() {
+    return inflight + pending.size();
+  }
+
   @Override
   public void close(Holder holder) {
     if (Vertx.currentContext() == context) {
@@ -123,6 +141,26 @@ public abstract class SocketConnectionBase implements Connection {
   }
 
   public void schedule(CommandBase<?> cmd) {
+    if (enqueue(cmd)) {
+      checkPending();
+    }
+  }
+
+  @Override
+  public void schedule(Iterable<? extends CommandBase<?>> cmds) {
+    boolean enqueued = false;
+    for (CommandBase<?> cmd : cmds) {
+      enqueued |= enqueue(cmd);
+    }
+    if (enqueued) {
+      checkPending();
+    }
+  }
+
+  /**
+   * @return whether the {@code cmd} has been added to the pending commands
+   */
+  private boolean enqueue(CommandBase<?> cmd) {
     if (cmd.handler == null) {
       throw new IllegalArgumentException();
     }
@@ -134,26 +172,19 @@ public abstract class SocketConnectionBase implements Connection {
     PreparedStatementCache psCache = this.psCache;
     if (psCache != null && cmd instanceof PrepareStatementCommand) {
       PrepareStatementCommand psCmd = (PrepareStatementCommand) cmd;
-      if (psCmd.sql().length() > preparedStatementCacheSqlLimit) {
-        // do not cache the statements
-        return;
-      }
-      CachedPreparedStatement cached = psCache.get(psCmd.sql());
-      if (cached != null) {
-        psCmd.cached = cached;
-        Handler<? super CommandResponse<PreparedStatement>> handler = psCmd.handler;
-        cached.get(handler);
-        return;
-      } else {
-        if (psCache.size() >= psCache.getCapacity() && !psCache.isReady()) {
-          // only if the prepared statement is ready then it can be evicted
-        } else {
+      // do not cache the statements longer than the limit
+      if (psCmd.sql().length() <= preparedStatementCacheSqlLimit) {
+        PreparedStatementCache.Entry cached = psCache.lookup(psCmd.sql());
+        if (cached != null) {
+          psCmd.cached = cached;
+          cached.get(psCmd.handler);
+          return false;
+        } else if (psCache.canCache()) {
           psCmd.statement = psSeq.next();
-          psCmd.cached = cached = new CachedPreparedStatement();
-          psCache.put(psCmd.sql(), cached);
-          Handler<? super CommandResponse<PreparedStatement>> a = psCmd.handler;
-          ((CachedPreparedStatement) psCmd.cached).get(a);
-          psCmd.handler = (Handler<? super CommandResponse<PreparedStatement>>) psCmd.cached;
+          psCmd.cached = cached = psCache.add(psCmd.sql());
+          psCmd.metadata = cached.metadata;
+          cached.get(psCmd.handler);
+          psCmd.handler = cached;
         }
       }
     }
@@ -161,60 +192,96 @@ public abstract class SocketConnectionBase implements Connection {
     //
     if (status == Status.CONNECTED) {
       pending.add(cmd);
-      checkPending();
+      return true;
     } else {
       cmd.fail(new VertxException("Connection not open " + status));
-    }
-  }
-
-  static class CachedPreparedStatement implements Handler<CommandResponse<PreparedStatement>> {
-
-    private final Deque<Handler<? super CommandResponse<PreparedStatement>>> waiters = new ArrayDeque<>();
-    CommandResponse<PreparedStatement> resp;
-
-    void get(Handler<? super CommandResponse<PreparedStatement>> handler) {
-      if (resp != null) {
-        handler.handle(resp);
-      } else {
-        waiters.add(handler);
-      }
-    }
-
-    @Override
-    public void handle(CommandResponse<PreparedStatement> event) {
-      resp = event;
-      Handler<? super CommandResponse<PreparedStatement>> waiter;
-      while ((waiter = waiters.poll()) != null) {
-        waiter.handle(resp);
-      }
+      return false;
     }
   }
 
   private void checkPending() {
-    ChannelHandlerContext ctx = socket.channelHandlerContext();
-    if (inflight < pipeliningLimit) {
+    if (!batching && inflight < pipeliningLimit) {
+      ChannelHandlerContext ctx = socket.channelHandlerContext();
+      int written = 0;
       CommandBase<?> cmd;
       while (inflight < pipeliningLimit && (cmd = pending.poll()) != null) {
         inflight++;
+        written++;
         ctx.write(cmd);
       }
-      ctx.flush();
+      if (written > 0) {
+        unflushed += written;
+        scheduleFlush(ctx);
+      }
+    }
+  }
+
+  /**
+   * Flush the written commands at the end of the current event loop task, so the commands written by the callbacks
+   * of the same task are sent together, the flush happens right away when many commands are written or when
+   * this is not called from the event loop.
+   */
+  private void scheduleFlush(ChannelHandlerContext ctx) {
+    if (unflushed >= MAX_UNFLUSHED_WRITES || !ctx.executor().inEventLoop()) {
+      flush(ctx);
+    } else if (!flushScheduled) {
+      flushScheduled = true;
+      ctx.executor().execute(flushTask);
+    }
+  }
+
+  private void scheduledFlush() {
+    flushScheduled = false;
+    if (unflushed > 0) {
+      flush(socket.channelHandlerContext());
     }
   }
 
+  private void flush(ChannelHandlerContext ctx) {
+    unflushed = 0;
+    ctx.flush();
+  }
+
   private void handleMessage(Object msg) {
-    if (msg instanceof CommandResponse) {
+    if (msg instanceof MessageBatch) {
+      handleBatch((MessageBatch) msg);
+    } else if (msg instanceof CommandResponse) {
       inflight--;
       checkPending();
       CommandResponse resp =(CommandResponse) msg;
       resp.cmd.handler.handle(msg);
     } else if (msg instanceof Notification) {
       handleNotification((Notification) msg);
+    } else if (msg instanceof CommandData) {
+      ((CommandData) msg).deliver();
     } else if (msg instanceof Notice) {
       handleNotice((Notice) msg);
     }
   }
 
+  private void handleBatch(MessageBatch batch) {
+    batching = true;
+    try {
+      for (Object msg : batch.messages()) {
+        try {
+          if (msg instanceof CommandResponse) {
+            inflight--;
+            CommandResponse resp = (CommandResponse) msg;
+            resp.cmd.handler.handle(msg);
+          } else {
+            handleMessage(msg);
+          }
+        } catch (Exception e) {
+          handleException(e);
+        }
+      }
+    } finally {
+      batching = false;
+    }
+    // Write the commands pending and those scheduled by the handlers at once
+    checkPending();
+  }
+
   private void handleNotification(Notification response) {
     if (holder != null) {
       holder.handleNotification(response.getProcessId(), response.getChannel(), response.getPayload());
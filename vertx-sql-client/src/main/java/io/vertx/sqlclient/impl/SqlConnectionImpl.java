@@ -99,14 +99,19 @@ public abstract class SqlConnectionImpl<C extends SqlConnectionImpl> extends Sql
 
   @Override
   public Transaction begin() {
-    return begin(false);
+    return begin(false, false);
   }
 
-  public Transaction begin(boolean closeOnEnd) {
+  @Override
+  public Transaction begin(boolean pipelined) {
+    return begin(false, pipelined);
+  }
+
+  public Transaction begin(boolean closeOnEnd, boolean pipelined) {
     if (tx != null) {
       throw new IllegalStateException();
     }
-    tx = new TransactionImpl(context, conn, v -> {
+    tx = new TransactionImpl(context, conn, pipelined, v -> {
       tx = null;
       if (closeOnEnd) {
         close();
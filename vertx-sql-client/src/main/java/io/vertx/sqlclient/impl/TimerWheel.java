@@ -0,0 +1,121 @@
+/*
+ * Copyright (C) 2017 Julien Viet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package io.vertx.sqlclient.impl;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * A hashed timer wheel tracking the deadlines of many items with a single periodic timer instead of a timer
+ * per item, scheduling an item is {@code O(1)} and expiring items only scans the buckets of the elapsed ticks.
+ * <p>
+ * Items whose deadline is beyond a rotation of the wheel stay in their bucket until a later rotation. This class
+ * is not thread safe.
+ */
+class TimerWheel<T> {
+
+  private static class Entry<T> {
+
+    private final T item;
+    private final long deadline;
+
+    private Entry(T item, long deadline) {
+      this.item = item;
+      this.deadline = deadline;
+    }
+  }
+
+  private final long tickDuration;
+  private final ArrayDeque<Entry<T>>[] buckets;
+  private final int mask;
+  private long tick;
+  private int size;
+
+  /**
+   * @param tickDuration the duration of a tick in milliseconds
+   * @param numBuckets the number of buckets of the wheel, must be a power of two
+   * @param now the current time in milliseconds
+   */
+  @SuppressWarnings("unchecked")
+  TimerWheel(long tickDuration, int numBuckets, long now) {
+    if (tickDuration < 1) {
+      throw new IllegalArgumentException("Tick duration must be > 0");
+    }
+    if (Integer.bitCount(numBuckets) != 1) {
+      throw new IllegalArgumentException("Number of buckets must be a power of two");
+    }
+    this.tickDuration = tickDuration;
+    this.buckets = new ArrayDeque[numBuckets];
+    for (int i = 0;i < numBuckets;i++) {
+      buckets[i] = new ArrayDeque<>();
+    }
+    this.mask = numBuckets - 1;
+    this.tick = now / tickDuration;
+  }
+
+  /**
+   * @return the number of scheduled items
+   */
+  int size() {
+    return size;
+  }
+
+  /**
+   * Schedule an {@code item} to expire at the {@code deadline} in milliseconds.
+   */
+  void schedule(T item, long deadline) {
+    // Round up so the item is never visited before its deadline
+    long t = Math.max((deadline + tickDuration - 1) / tickDuration, tick + 1);
+    buckets[(int) (t & mask)].add(new Entry<>(item, deadline));
+    size++;
+  }
+
+  /**
+   * Advance the wheel to {@code now} in milliseconds.
+   *
+   * @return the items that have expired
+   */
+  List<T> advance(long now) {
+    long target = now / tickDuration;
+    if (target <= tick) {
+      return Collections.emptyList();
+    }
+    List<T> expired = null;
+    // Visit at most a full rotation
+    long from = Math.max(tick + 1, target - mask);
+    for (long t = from;t <= target;t++) {
+      Iterator<Entry<T>> it = buckets[(int) (t & mask)].iterator();
+      while (it.hasNext()) {
+        Entry<T> entry = it.next();
+        if (entry.deadline <= now) {
+          it.remove();
+          size--;
+          if (expired == null) {
+            expired = new ArrayList<>();
+          }
+          expired.add(entry.item);
+        }
+      }
+    }
+    tick = target;
+    return expired != null ? expired : Collections.emptyList();
+  }
+}
@@ -26,7 +26,9 @@ import io.vertx.sqlclient.RowSet;
 import io.vertx.core.*;
 
 import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Deque;
+import java.util.List;
 
 public class TransactionImpl extends SqlConnectionBase<TransactionImpl> implements Transaction {
 
@@ -36,14 +38,25 @@ public class TransactionImpl extends SqlConnectionBase<TransactionImpl> implemen
   private static final int ST_COMPLETED = 3;
 
   private final Handler<Void> disposeHandler;
+  private final boolean pipelined;
   private Deque<CommandBase<?>> pending = new ArrayDeque<>();
+  // the commands sent and not yet answered in pipelined mode, they are failed at once when the transaction fails
+  private final Deque<Handler<Throwable>> inflight = new ArrayDeque<>();
   private Handler<Void> failedHandler;
   private int status = ST_BEGIN;
+  // whether BEGIN has been sent, a pipelined transaction sends it with its first statement
+  private boolean begun;
 
-  public TransactionImpl(Context context, Connection conn, Handler<Void> disposeHandler) {
+  public TransactionImpl(Context context, Connection conn, boolean pipelined, Handler<Void> disposeHandler) {
     super(context, conn);
     this.disposeHandler = disposeHandler;
-    doSchedule(doQuery("BEGIN", this::afterBegin));
+    this.pipelined = pipelined;
+    if (pipelined) {
+      status = ST_PENDING;
+    } else {
+      begun = true;
+      doSchedule(doQuery("BEGIN", this::afterBegin));
+    }
   }
 
   private void doSchedule(CommandBase<?> cmd) {
@@ -54,7 +67,27 @@ public class TransactionImpl extends SqlConnectionBase<TransactionImpl> implemen
     }
   }
 
+  private void doSchedule(List<CommandBase<?>> cmds) {
+    if (context == Vertx.currentContext()) {
+      conn.schedule(cmds);
+    } else {
+      context.runOnContext(v -> conn.schedule(cmds));
+    }
+  }
+
   private synchronized void afterBegin(AsyncResult<?> ar) {
+    if (pipelined) {
+      if (ar.failed()) {
+        // The statements sent after BEGIN were not executed in the transaction
+        status = ST_COMPLETED;
+        Handler<Throwable> h;
+        while ((h = inflight.poll()) != null) {
+          h.handle(ar.cause());
+        }
+        checkPending();
+      }
+      return;
+    }
     if (ar.succeeded()) {
       status = ST_PENDING;
     } else {
@@ -71,11 +104,19 @@ public class TransactionImpl extends SqlConnectionBase<TransactionImpl> implemen
     return false;
   }
 
+  private boolean isCommit(CommandBase<?> cmd) {
+    return cmd instanceof QueryCommandBase<?> && ((QueryCommandBase) cmd).sql().trim().equalsIgnoreCase("COMMIT");
+  }
+
   private synchronized void checkPending() {
     switch (status) {
       case ST_BEGIN:
         break;
       case ST_PENDING: {
+        if (pipelined) {
+          sendPending();
+          break;
+        }
         CommandBase<?> cmd = pending.poll();
         if (cmd != null) {
           if (isComplete(cmd)) {
@@ -103,6 +144,36 @@ public class TransactionImpl extends SqlConnectionBase<TransactionImpl> implemen
     }
   }
 
+  /**
+   * Send all the pending commands of a pipelined transaction at once, preceded by BEGIN for the first statement of
+   * the transaction.
+   */
+  private void sendPending() {
+    if (pending.isEmpty()) {
+      return;
+    }
+    List<CommandBase<?>> cmds = new ArrayList<>(pending.size() + 1);
+    if (!begun) {
+      begun = true;
+      cmds.add(doQuery("BEGIN", this::afterBegin));
+    }
+    CommandBase<?> cmd;
+    while ((cmd = pending.poll()) != null) {
+      if (isComplete(cmd)) {
+        if (isCommit(cmd)) {
+          // the commit must fail if a command sent before fails
+          track(cmd);
+        }
+        status = ST_COMPLETED;
+        cmds.add(cmd);
+        break;
+      }
+      track(cmd);
+      cmds.add(cmd);
+    }
+    doSchedule(cmds);
+  }
+
   @Override
   public <R> void schedule(CommandBase<R> cmd, Handler<? super CommandResponse<R>> handler) {
     cmd.handler = cr -> {
@@ -125,19 +196,7 @@ public class TransactionImpl extends SqlConnectionBase<TransactionImpl> implemen
       synchronized (TransactionImpl.this) {
         status = ST_PENDING;
         if (ar.txStatus() == TxStatus.FAILED) {
-          // We won't recover from this so rollback
-          CommandBase<?> c;
-          while ((c = pending.poll()) != null) {
-            c.fail(new RuntimeException("rollback exception"));
-          }
-          Handler<Void> h = failedHandler;
-          if (h != null) {
-            context.runOnContext(h);
-          }
-          schedule(doQuery("ROLLBACK", ar2 -> {
-            disposeHandler.handle(null);
-            handler.handle(ar);
-          }));
+          abort(ar, handler);
         } else {
           handler.handle(ar);
           checkPending();
@@ -146,12 +205,67 @@ public class TransactionImpl extends SqlConnectionBase<TransactionImpl> implemen
     };
   }
 
+  /**
+   * Track a command sent without waiting for the response of the previous one, when a previous command fails the
+   * transaction the command is failed without waiting for its response, which is then ignored.
+   */
+  private <T> void track(CommandBase<T> cmd) {
+    Handler<? super CommandResponse<T>> handler = cmd.handler;
+    Handler<Throwable> failure = err -> handler.handle(CommandResponse.failure(err));
+    inflight.add(failure);
+    cmd.handler = ar -> {
+      synchronized (TransactionImpl.this) {
+        if (inflight.peek() != failure) {
+          // Already failed
+          return;
+        }
+        inflight.poll();
+        if (ar.txStatus() == TxStatus.FAILED) {
+          abort(ar, handler);
+        } else {
+          handler.handle(ar);
+        }
+      }
+    };
+  }
+
+  private <T> void abort(CommandResponse<T> ar, Handler<? super CommandResponse<T>> handler) {
+    // We won't recover from this so rollback
+    Handler<Throwable> h1;
+    while ((h1 = inflight.poll()) != null) {
+      h1.handle(new RuntimeException("rollback exception"));
+    }
+    CommandBase<?> c;
+    while ((c = pending.poll()) != null) {
+      c.fail(new RuntimeException("rollback exception"));
+    }
+    Handler<Void> h = failedHandler;
+    if (h != null) {
+      context.runOnContext(h);
+    }
+    if (status == ST_COMPLETED) {
+      // The pipelined COMMIT or ROLLBACK already ends the transaction
+      handler.handle(ar);
+    } else {
+      schedule(doQuery("ROLLBACK", ar2 -> {
+        disposeHandler.handle(null);
+        handler.handle(ar);
+      }));
+    }
+  }
+
   @Override
   public void commit() {
     commit(null);
   }
 
   public void commit(Handler<AsyncResult<Void>> handler) {
+    if (endUnbegun()) {
+      if (handler != null) {
+        handler.handle(Future.succeededFuture());
+      }
+      return;
+    }
     switch (status) {
       case ST_BEGIN:
       case ST_PENDING:
@@ -181,6 +295,12 @@ public class TransactionImpl extends SqlConnectionBase<TransactionImpl> implemen
   }
 
   public void rollback(Handler<AsyncResult<Void>> handler) {
+    if (endUnbegun()) {
+      if (handler != null) {
+        handler.handle(Future.succeededFuture());
+      }
+      return;
+    }
     schedule(doQuery("ROLLBACK", ar -> {
       disposeHandler.handle(null);
       if (handler != null) {
@@ -189,6 +309,22 @@ public class TransactionImpl extends SqlConnectionBase<TransactionImpl> implemen
     }));
   }
 
+  /**
+   * End a pipelined transaction which has not sent any statement yet, there is nothing to send to the server.
+   *
+   * @return whether the transaction has been ended
+   */
+  private boolean endUnbegun() {
+    synchronized (this) {
+      if (begun || status != ST_PENDING || !pending.isEmpty()) {
+        return false;
+      }
+      status = ST_COMPLETED;
+    }
+    disposeHandler.handle(null);
+    return true;
+  }
+
   @Override
   public void close() {
     rollback();
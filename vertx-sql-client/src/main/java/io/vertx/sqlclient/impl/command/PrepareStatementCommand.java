@@ -24,6 +24,7 @@ public class PrepareStatementCommand extends CommandBase<PreparedStatement> {
   private final String sql;
   public long statement; // 0 means unamed statement otherwise CString
   public Object cached;
+  public PreparedStatement metadata; // prepared by another connection, its parameter and row descriptions can be reused
 
   public PrepareStatementCommand(String sql) {
     this.sql = sql;
@@ -0,0 +1,100 @@
+/*
+ * Copyright (C) 2017 Julien Viet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package io.vertx.sqlclient.impl;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class ColumnarRowSetImplTest {
+
+  @Test
+  public void testPrimitiveColumns() {
+    ColumnarRowSetImpl set = new ColumnarRowSetImpl();
+    set.init(new ColumnarRowSetImpl.ColumnType[] {
+      ColumnarRowSetImpl.ColumnType.INT,
+      ColumnarRowSetImpl.ColumnType.LONG,
+      ColumnarRowSetImpl.ColumnType.DOUBLE,
+      ColumnarRowSetImpl.ColumnType.OBJECT
+    });
+    int num = 100;
+    for (int i = 0;i < num;i++) {
+      set.setInt(0, i);
+      set.setLong(1, i * 10L);
+      set.setDouble(2, i / 2D);
+      set.setValue(3, "value-" + i);
+      set.endRow();
+    }
+    assertEquals(num, set.size());
+    assertEquals(4, set.columnCount());
+    for (int i = 0;i < num;i++) {
+      assertEquals(i, set.getInt(i, 0));
+      assertEquals(i * 10L, set.getLong(i, 1));
+      assertEquals(i / 2D, set.getDouble(i, 2), 0D);
+      assertEquals("value-" + i, set.getValue(i, 3));
+      assertEquals(i, set.getValue(i, 0));
+      assertFalse(set.isNull(i, 0));
+    }
+  }
+
+  @Test
+  public void testNullValues() {
+    ColumnarRowSetImpl set = new ColumnarRowSetImpl();
+    set.init(new ColumnarRowSetImpl.ColumnType[] {
+      ColumnarRowSetImpl.ColumnType.INT,
+      ColumnarRowSetImpl.ColumnType.OBJECT
+    });
+    int num = 40;
+    for (int i = 0;i < num;i++) {
+      set.setNull(0);
+      set.setValue(1, null);
+      set.endRow();
+    }
+    set.setInt(0, 4);
+    set.setValue(1, "last");
+    set.endRow();
+    for (int i = 0;i < num;i++) {
+      assertTrue(set.isNull(i, 0));
+      assertTrue(set.isNull(i, 1));
+      assertEquals(0, set.getInt(i, 0));
+      assertNull(set.getValue(i, 0));
+      assertNull(set.getValue(i, 1));
+    }
+    assertFalse(set.isNull(num, 0));
+    assertEquals(4, set.getInt(num, 0));
+    assertEquals("last", set.getValue(num, 1));
+  }
+
+  @Test
+  public void testInvalidIndex() {
+    ColumnarRowSetImpl set = new ColumnarRowSetImpl();
+    set.init(new ColumnarRowSetImpl.ColumnType[] { ColumnarRowSetImpl.ColumnType.INT });
+    set.setInt(0, 1);
+    set.endRow();
+    try {
+      set.getInt(1, 0);
+      fail();
+    } catch (IndexOutOfBoundsException ignore) {
+    }
+    try {
+      set.getInt(0, 1);
+      fail();
+    } catch (IndexOutOfBoundsException ignore) {
+    }
+  }
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright (C) 2017 Julien Viet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package io.vertx.sqlclient.impl;
+
+import io.vertx.sqlclient.impl.command.CloseStatementCommand;
+import io.vertx.sqlclient.impl.command.CommandBase;
+import io.vertx.sqlclient.impl.command.CommandResponse;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class PreparedStatementCacheTest {
+
+  private List<CommandBase<?>> scheduled;
+  private PoolStatementCache shared;
+  private PreparedStatementCache cache;
+
+  @Before
+  public void setUp() {
+    scheduled = new ArrayList<>();
+    shared = new PoolStatementCache(true);
+    cache = new PreparedStatementCache(2, new RecordingConnection(), shared);
+  }
+
+  private PreparedStatementCache.Entry prepare(String sql) {
+    PreparedStatementCache.Entry entry = cache.add(sql);
+    entry.handle(CommandResponse.success(new TestStatement(sql)));
+    return entry;
+  }
+
+  @Test
+  public void testEvictLeastRecentlyUsed() {
+    prepare("s1");
+    prepare("s2");
+    assertNotNull(cache.lookup("s1"));
+    assertTrue(cache.canCache());
+    prepare("s3");
+    assertNotNull(cache.lookup("s1"));
+    assertNull(cache.lookup("s2"));
+    assertNotNull(cache.lookup("s3"));
+    assertEquals(1, scheduled.size());
+    CloseStatementCommand close = (CloseStatementCommand) scheduled.get(0);
+    assertEquals("s2", close.statement().sql());
+    assertEquals(3, shared.hits());
+    assertEquals(1, shared.misses());
+    assertEquals(1, shared.evictions());
+  }
+
+  @Test
+  public void testInflightEldestIsNotEvicted() {
+    PreparedStatementCache.Entry inflight = cache.add("s1");
+    prepare("s2");
+    assertTrue(inflight.isInflight());
+    assertFalse(cache.canCache());
+    inflight.handle(CommandResponse.success(new TestStatement("s1")));
+    assertFalse(inflight.isInflight());
+    assertTrue(cache.canCache());
+  }
+
+  @Test
+  public void testWaitersNotifiedOnResponse() {
+    PreparedStatementCache.Entry entry = cache.add("s1");
+    List<CommandResponse<PreparedStatement>> responses = new ArrayList<>();
+    entry.get(responses::add);
+    entry.get(responses::add);
+    assertEquals(0, responses.size());
+    entry.handle(CommandResponse.success(new TestStatement("s1")));
+    assertEquals(2, responses.size());
+    entry.get(responses::add);
+    assertEquals(3, responses.size());
+  }
+
+  @Test
+  public void testFailureIsNotCached() {
+    PreparedStatementCache.Entry entry = cache.add("s1");
+    List<CommandResponse<PreparedStatement>> responses = new ArrayList<>();
+    entry.get(responses::add);
+    entry.handle(CommandResponse.failure("prepare failed"));
+    assertEquals(1, responses.size());
+    assertTrue(responses.get(0).failed());
+    assertNull(cache.lookup("s1"));
+    assertEquals(0, cache.size());
+  }
+
+  @Test
+  public void testSharedMetadata() {
+    PreparedStatementCache.Entry entry = prepare("s1");
+    assertNull(entry.metadata);
+    PreparedStatementCache other = new PreparedStatementCache(2, new RecordingConnection(), shared);
+    PreparedStatementCache.Entry reused = other.add("s1");
+    assertNotNull(reused.metadata);
+    assertEquals("s1", reused.metadata.sql());
+    reused.handle(CommandResponse.failure("outdated metadata"));
+    assertNull(other.add("s1").metadata);
+  }
+
+  @Test
+  public void testSharedMetadataDisabled() {
+    PreparedStatementCache cache = new PreparedStatementCache(2, new RecordingConnection(), new PoolStatementCache(false));
+    PreparedStatementCache.Entry entry = cache.add("s1");
+    entry.handle(CommandResponse.success(new TestStatement("s1")));
+    PreparedStatementCache other = new PreparedStatementCache(2, new RecordingConnection(), new PoolStatementCache(false));
+    assertNull(other.add("s1").metadata);
+  }
+
+  private static class TestStatement implements PreparedStatement {
+
+    private final String sql;
+
+    TestStatement(String sql) {
+      this.sql = sql;
+    }
+
+    @Override
+    public ParamDesc paramDesc() {
+      return null;
+    }
+
+    @Override
+    public RowDesc rowDesc() {
+      return null;
+    }
+
+    @Override
+    public String sql() {
+      return sql;
+    }
+
+    @Override
+    public String prepare(TupleInternal values) {
+      return null;
+    }
+  }
+
+  private class RecordingConnection implements Connection {
+    @Override
+    public void init(Holder holder) {
+    }
+    @Override
+    public boolean isSsl() {
+      return false;
+    }
+    @Override
+    public void schedule(CommandBase<?> cmd) {
+      scheduled.add(cmd);
+    }
+    @Override
+    public void close(Holder holder) {
+    }
+    @Override
+    public int getProcessId() {
+      return 0;
+    }
+    @Override
+    public int getSecretKey() {
+      return 0;
+    }
+    @Override
+    public int inflight() {
+      return 0;
+    }
+  }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright (C) 2017 Julien Viet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package io.vertx.sqlclient.impl;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.*;
+
+public class TimerWheelTest {
+
+  @Test
+  public void testExpire() {
+    TimerWheel<String> wheel = new TimerWheel<>(10, 8, 1000);
+    wheel.schedule("a", 1015);
+    wheel.schedule("b", 1020);
+    wheel.schedule("c", 1031);
+    assertEquals(3, wheel.size());
+    assertEquals(Collections.emptyList(), wheel.advance(1010));
+    assertEquals(Collections.emptyList(), wheel.advance(1014));
+    assertEquals(Arrays.asList("a", "b"), wheel.advance(1025));
+    assertEquals(Collections.emptyList(), wheel.advance(1030));
+    assertEquals(Collections.singletonList("c"), wheel.advance(1040));
+    assertEquals(0, wheel.size());
+  }
+
+  @Test
+  public void testDeadlineBeyondRotation() {
+    TimerWheel<String> wheel = new TimerWheel<>(10, 4, 0);
+    wheel.schedule("a", 55);
+    assertEquals(Collections.emptyList(), wheel.advance(30));
+    assertEquals(Collections.emptyList(), wheel.advance(50));
+    assertEquals(Collections.singletonList("a"), wheel.advance(60));
+  }
+
+  @Test
+  public void testAdvanceMoreThanRotation() {
+    TimerWheel<String> wheel = new TimerWheel<>(10, 4, 0);
+    wheel.schedule("a", 15);
+    wheel.schedule("b", 35);
+    assertEquals(Arrays.asList("a", "b"), wheel.advance(1000));
+  }
+
+  @Test
+  public void testDeadlineInThePast() {
+    TimerWheel<String> wheel = new TimerWheel<>(10, 4, 100);
+    wheel.schedule("a", 50);
+    assertEquals(Collections.singletonList("a"), wheel.advance(110));
+  }
+}
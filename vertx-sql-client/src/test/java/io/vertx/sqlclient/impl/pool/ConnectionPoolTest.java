@@ -17,10 +17,17 @@
 
 package io.vertx.sqlclient.impl.pool;
 
+import io.vertx.sqlclient.PoolOptions;
+import io.vertx.sqlclient.impl.Connection;
 import io.vertx.sqlclient.impl.ConnectionPool;
+import io.vertx.sqlclient.impl.command.CommandBase;
 import io.vertx.core.Future;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
 import static org.junit.Assert.*;
 
 public class ConnectionPoolTest {
@@ -260,4 +267,272 @@ public class ConnectionPoolTest {
     pool.acquire(holder1);
     assertEquals(1, queue.size());
   }
+
+  @Test
+  public void testMinIdle() {
+    ConnectionQueue queue = new ConnectionQueue();
+    ConnectionPool pool = new ConnectionPool(queue, new PoolOptions().setMaxSize(3).setMinIdle(2));
+    pool.fill();
+    assertEquals(2, queue.size());
+    assertEquals(2, pool.size());
+    SimpleConnection conn1 = new SimpleConnection();
+    queue.connect(conn1);
+    SimpleConnection conn2 = new SimpleConnection();
+    queue.connect(conn2);
+    assertEquals(2, pool.available());
+    SimpleHolder holder = new SimpleHolder();
+    pool.acquire(holder);
+    assertTrue(holder.isConnected());
+    assertEquals(0, queue.size());
+    assertEquals(1, pool.available());
+    pool.fill();
+    assertEquals(0, queue.size());
+  }
+
+  @Test
+  public void testMinIdleRefill() {
+    ConnectionQueue queue = new ConnectionQueue();
+    ConnectionPool pool = new ConnectionPool(queue, new PoolOptions().setMaxSize(2).setMinIdle(1));
+    pool.fill();
+    SimpleConnection conn = new SimpleConnection();
+    queue.connect(conn);
+    assertEquals(1, pool.available());
+    conn.close();
+    assertEquals(0, pool.available());
+    assertEquals(1, queue.size());
+    queue.fail(new Exception());
+    assertEquals(0, pool.size());
+    assertEquals(0, queue.size());
+  }
+
+  @Test
+  public void testReuseMostRecentlyUsedConnection() {
+    ConnectionQueue queue = new ConnectionQueue();
+    ConnectionPool pool = new ConnectionPool(queue, 2);
+    SimpleHolder holder1 = new SimpleHolder();
+    pool.acquire(holder1);
+    SimpleHolder holder2 = new SimpleHolder();
+    pool.acquire(holder2);
+    queue.connect(new SimpleConnection());
+    queue.connect(new SimpleConnection());
+    holder1.init();
+    holder2.init();
+    holder1.close();
+    holder2.close();
+    SimpleHolder holder3 = new SimpleHolder();
+    pool.acquire(holder3);
+    assertSame(holder2.connection(), holder3.connection());
+  }
+
+  @Test
+  public void testIdleTimeout() {
+    ConnectionQueue queue = new ConnectionQueue();
+    ConnectionPool pool = new ConnectionPool(queue, new PoolOptions().setMaxSize(2).setMinIdle(1).setIdleTimeout(1000));
+    SimpleHolder holder1 = new SimpleHolder();
+    pool.acquire(holder1);
+    SimpleHolder holder2 = new SimpleHolder();
+    pool.acquire(holder2);
+    SimpleConnection conn1 = new SimpleConnection();
+    queue.connect(conn1);
+    SimpleConnection conn2 = new SimpleConnection();
+    queue.connect(conn2);
+    holder1.init();
+    holder2.init();
+    holder1.close();
+    holder2.close();
+    pool.evict();
+    assertEquals(2, pool.available());
+    pool.evict(System.currentTimeMillis() + 1000);
+    // The least recently used connection is closed, the other one is kept as min idle connection
+    assertEquals(1, conn1.closed);
+    assertEquals(0, conn2.closed);
+    assertEquals(1, pool.available());
+    assertEquals(1, pool.size());
+    assertEquals(0, queue.size());
+    conn1.close();
+    assertEquals(1, pool.size());
+  }
+
+  @Test
+  public void testMaxLifetime() {
+    ConnectionQueue queue = new ConnectionQueue();
+    ConnectionPool pool = new ConnectionPool(queue, new PoolOptions().setMaxSize(1).setMinIdle(1).setMaxLifetime(1000));
+    pool.fill();
+    SimpleConnection conn1 = new SimpleConnection();
+    queue.connect(conn1);
+    pool.evict(System.currentTimeMillis() + 1000);
+    assertEquals(1, conn1.closed);
+    assertEquals(0, pool.available());
+    // The replacement is opened without waiting for the expired connection to be closed
+    assertEquals(1, queue.size());
+    SimpleConnection conn2 = new SimpleConnection();
+    queue.connect(conn2);
+    assertEquals(1, pool.available());
+    assertEquals(1, pool.size());
+  }
+
+  @Test
+  public void testMaxLifetimeWithInflightCommands() throws Exception {
+    ConnectionQueue queue = new ConnectionQueue();
+    ConnectionPool pool = new ConnectionPool(queue, new PoolOptions().setMaxSize(1).setMaxLifetime(1));
+    SimpleHolder holder = new SimpleHolder();
+    pool.acquire(holder);
+    SimpleConnection conn = new SimpleConnection();
+    queue.connect(conn);
+    holder.init();
+    // Like a one-shot prepared query, the execution is scheduled when the prepare is done
+    List<Boolean> completions = new ArrayList<>();
+    CommandBase<Void> execute = new CommandBase<Void>() {
+    };
+    execute.handler = ar -> completions.add(ar.succeeded());
+    CommandBase<Void> prepare = new CommandBase<Void>() {
+    };
+    Connection pooled = holder.connection();
+    prepare.handler = ar -> pooled.schedule(execute);
+    pooled.schedule(prepare);
+    Thread.sleep(10);
+    holder.close();
+    // The expired connection is not closed while it has in-flight commands
+    assertEquals(0, conn.closed);
+    assertEquals(0, pool.available());
+    conn.complete();
+    assertEquals(0, conn.closed);
+    assertEquals(1, conn.inflight);
+    conn.complete();
+    assertEquals(Collections.singletonList(false), completions);
+    assertEquals(1, conn.closed);
+    assertEquals(0, pool.size());
+  }
+
+  @Test
+  public void testEvictMaxLifetimeWithInflightCommands() {
+    ConnectionQueue queue = new ConnectionQueue();
+    ConnectionPool pool = new ConnectionPool(queue, new PoolOptions().setMaxSize(1).setMaxLifetime(1000));
+    SimpleHolder holder = new SimpleHolder();
+    pool.acquire(holder);
+    SimpleConnection conn = new SimpleConnection();
+    queue.connect(conn);
+    holder.init();
+    holder.close();
+    Connection shared = pool.acquireShared();
+    CommandBase<Void> execute = new CommandBase<Void>() {
+    };
+    execute.handler = ar -> {};
+    CommandBase<Void> prepare = new CommandBase<Void>() {
+    };
+    prepare.handler = ar -> shared.schedule(execute);
+    shared.schedule(prepare);
+    pool.evict(System.currentTimeMillis() + 1000);
+    // The expired connection is not shared anymore but it is closed once its commands are done
+    assertEquals(0, conn.closed);
+    assertEquals(0, pool.available());
+    conn.complete();
+    assertEquals(0, conn.closed);
+    conn.complete();
+    assertEquals(1, conn.closed);
+    assertEquals(0, pool.size());
+  }
+
+  @Test
+  public void testConnectionTimeout() {
+    ConnectionQueue queue = new ConnectionQueue();
+    ConnectionPool pool = new ConnectionPool(queue, new PoolOptions().setMaxSize(1).setConnectionTimeout(1000));
+    SimpleHolder holder1 = new SimpleHolder();
+    pool.acquire(holder1);
+    SimpleConnection conn = new SimpleConnection();
+    queue.connect(conn);
+    holder1.init();
+    SimpleHolder holder2 = new SimpleHolder();
+    pool.acquire(holder2);
+    pool.expire(System.currentTimeMillis());
+    assertFalse(holder2.isComplete());
+    pool.expire(System.currentTimeMillis() + 2000);
+    assertTrue(holder2.isFailed());
+    // The expired waiter is not handed the connection
+    holder1.close();
+    assertFalse(holder2.isConnected());
+    assertEquals(1, pool.available());
+  }
+
+  @Test
+  public void testConnectionTimeoutOverride() {
+    ConnectionQueue queue = new ConnectionQueue();
+    ConnectionPool pool = new ConnectionPool(queue, new PoolOptions().setMaxSize(1).setConnectionTimeout(1000));
+    SimpleHolder holder1 = new SimpleHolder();
+    pool.acquire(holder1, 0);
+    pool.expire(System.currentTimeMillis() + 2000);
+    assertFalse(holder1.isComplete());
+    SimpleHolder holder2 = new SimpleHolder();
+    pool.acquire(holder2, 5000);
+    pool.expire(System.currentTimeMillis() + 2000);
+    assertFalse(holder2.isComplete());
+    pool.expire(System.currentTimeMillis() + 6000);
+    assertTrue(holder2.isFailed());
+    queue.connect(new SimpleConnection());
+    assertTrue(holder1.isConnected());
+  }
+
+  @Test
+  public void testConnectionTimeoutWhileConnecting() {
+    ConnectionQueue queue = new ConnectionQueue();
+    ConnectionPool pool = new ConnectionPool(queue, new PoolOptions().setMaxSize(1).setConnectionTimeout(1000));
+    SimpleHolder holder = new SimpleHolder();
+    pool.acquire(holder);
+    pool.expire(System.currentTimeMillis() + 2000);
+    assertTrue(holder.isFailed());
+    queue.connect(new SimpleConnection());
+    assertEquals(1, pool.available());
+  }
+
+  @Test
+  public void testAcquireShared() {
+    ConnectionQueue queue = new ConnectionQueue();
+    ConnectionPool pool = new ConnectionPool(queue, 2);
+    assertNull(pool.acquireShared());
+    SimpleHolder holder = new SimpleHolder();
+    pool.acquire(holder);
+    SimpleConnection conn1 = new SimpleConnection();
+    queue.connect(conn1);
+    holder.init();
+    holder.close();
+    conn1.inflight = 3;
+    assertEquals(3, pool.acquireShared().inflight());
+    // All the connections are busy, the pool opens a new one
+    assertEquals(1, queue.size());
+    assertEquals(3, pool.acquireShared().inflight());
+    assertEquals(1, queue.size());
+    SimpleConnection conn2 = new SimpleConnection();
+    queue.connect(conn2);
+    assertEquals(2, pool.available());
+    assertEquals(0, pool.acquireShared().inflight());
+    assertEquals(2, pool.available());
+    assertEquals(2, pool.size());
+  }
+
+  @Test
+  public void testAcquireWaitsForSharedCommands() {
+    ConnectionQueue queue = new ConnectionQueue();
+    ConnectionPool pool = new ConnectionPool(queue, 1);
+    SimpleHolder holder1 = new SimpleHolder();
+    pool.acquire(holder1);
+    SimpleConnection conn = new SimpleConnection();
+    queue.connect(conn);
+    holder1.init();
+    holder1.close();
+    Connection shared = pool.acquireShared();
+    List<Boolean> completions = new ArrayList<>();
+    CommandBase<Void> cmd = new CommandBase<Void>() {
+    };
+    cmd.handler = ar -> completions.add(ar.succeeded());
+    shared.schedule(cmd);
+    assertEquals(1, pool.available());
+    // The connection has an in-flight one-shot command, it cannot be handed out exclusively
+    SimpleHolder holder2 = new SimpleHolder();
+    pool.acquire(holder2);
+    assertFalse(holder2.isComplete());
+    conn.complete();
+    assertEquals(Collections.singletonList(false), completions);
+    assertTrue(holder2.isConnected());
+    assertEquals(0, pool.available());
+  }
 }
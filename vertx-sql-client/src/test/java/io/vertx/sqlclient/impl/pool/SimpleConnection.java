@@ -20,10 +20,15 @@ package io.vertx.sqlclient.impl.pool;
 import io.vertx.sqlclient.impl.command.CommandBase;
 import io.vertx.sqlclient.impl.Connection;
 
+import java.util.ArrayList;
+import java.util.List;
+
 class SimpleConnection implements Connection {
 
   Holder holder;
   int closed;
+  int inflight;
+  final List<CommandBase<?>> scheduled = new ArrayList<>();
 
   @Override
   public void init(Holder holder) {
@@ -46,7 +51,17 @@ class SimpleConnection implements Connection {
 
   @Override
   public void schedule(CommandBase<?> cmd) {
-    throw new UnsupportedOperationException();
+    scheduled.add(cmd);
+    inflight++;
+  }
+
+  /**
+   * Complete the oldest scheduled command.
+   */
+  void complete() {
+    CommandBase<?> cmd = scheduled.remove(0);
+    inflight--;
+    cmd.fail(new Exception());
   }
 
   @Override
@@ -58,4 +73,9 @@ class SimpleConnection implements Connection {
   public int getSecretKey() {
     return -1;
   }
+
+  @Override
+  public int inflight() {
+    return inflight;
+  }
 }